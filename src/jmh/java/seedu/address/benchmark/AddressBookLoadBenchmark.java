@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures loading a large generated address book from its JSON file, which validates every name, phone, email
+ * and tag loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookLoadBenchmark {
+
+    @Param({"50000"})
+    private int size;
+
+    private Path directory;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Writes the generated address book to a temporary file.
+     */
+    @Setup(Level.Trial)
+    public void writeAddressBook() throws IOException {
+        directory = Files.createTempDirectory("addressbook-load-benchmark");
+        storage = new JsonAddressBookStorage(directory.resolve("addressbook.json"), false);
+        storage.saveAddressBook(GeneratedAddressBooks.generate(size, 42));
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    @TearDown(Level.Trial)
+    public void deleteAddressBook() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Loads the address book, as the app does at startup.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook loadAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().orElseThrow();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.chat.ChatIntent;
+import seedu.address.logic.chat.ChatIntentClassifier;
+
+/**
+ * Compares classifying chat messages with {@code ChatIntentClassifier} against compiling the regex of each intent
+ * for every message, as the chat window used to. An unknown message is the worst case, as every intent is tried.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChatIntentBenchmark {
+
+    @Param({"hello there", "how do i delete a buyer", "can you show me the appointments for today",
+        "what is the weather like in singapore this afternoon"})
+    private String message;
+
+    @Benchmark
+    public ChatIntent classifyWithPrecompiledPatterns() {
+        return ChatIntentClassifier.classify(message);
+    }
+
+    /**
+     * Classifies the message by compiling the regex of each intent in turn until one is found in the message.
+     */
+    @Benchmark
+    public ChatIntent classifyCompilingPatterns() {
+        String normalizedMessage = message.toLowerCase(Locale.ROOT).trim();
+        for (ChatIntent intent : ChatIntent.values()) {
+            Pattern pattern = intent.getPattern();
+            if (pattern == null || Pattern.compile(pattern.pattern()).matcher(normalizedMessage).find()) {
+                return intent;
+            }
+        }
+        return ChatIntent.UNKNOWN;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
+
+/**
+ * Measures updating the listings of a client after the client is edited, at different numbers of clients and
+ * listings. Each invocation edits the client back and forth between two phone numbers, so that the listings
+ * updated are the same in every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClientEditBenchmark {
+
+    private static final long SEED = 42;
+    private static final Phone EDITED_PHONE = new Phone("91234567");
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+    private Person seller;
+    private Person editedSeller;
+    private Person buyer;
+    private Person editedBuyer;
+
+    /**
+     * Creates a model of {@code size} generated clients and listings, and picks a seller and a buyer of its
+     * listings to edit.
+     */
+    @Setup(Level.Trial)
+    public void createModel() {
+        AddressBook addressBook = GeneratedAddressBooks.generate(size, SEED);
+        model = new ModelManager(addressBook, new UserPrefs(), GeneratedListings.generate(addressBook, size, SEED));
+
+        seller = model.getListings().getListingList().get(0).getSeller();
+        editedSeller = withPhone(seller, EDITED_PHONE);
+        buyer = model.getListings().getListingList().stream()
+                .filter(listing -> !listing.getBuyers().isEmpty())
+                .map(Listing::getBuyers)
+                .findFirst()
+                .orElseThrow()
+                .iterator().next();
+        editedBuyer = withPhone(buyer, EDITED_PHONE);
+    }
+
+    /**
+     * Updates the listings sold by the seller after the seller is edited.
+     */
+    @Benchmark
+    public void editSeller() {
+        model.updateListingsAfterClientEdit(seller, editedSeller);
+        Person previousSeller = seller;
+        seller = editedSeller;
+        editedSeller = previousSeller;
+    }
+
+    /**
+     * Updates the listings bought by the buyer after the buyer is edited.
+     */
+    @Benchmark
+    public void editBuyer() {
+        model.updateListingsAfterClientEdit(buyer, editedBuyer);
+        Person previousBuyer = buyer;
+        buyer = editedBuyer;
+        editedBuyer = previousBuyer;
+    }
+
+    private static Person withPhone(Person person, Phone phone) {
+        return person instanceof Seller
+                ? new Seller(person.getName(), phone, person.getEmail(), person.getTags(), person.getAppointments(),
+                        person.getRemark())
+                : new Buyer(person.getName(), phone, person.getEmail(), person.getTags(), person.getAppointments(),
+                        person.getRemark());
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonListingsStorage;
+
+/**
+ * Measures each phase of reading the data and creating the model at startup, once in each of several new JVMs,
+ * so that each is measured cold, as at startup, with its classes yet to be loaded and its code yet to be compiled.
+ *
+ * The data files are generated by the warmup fork into a folder of the temporary directory named after their size,
+ * and reused by the later forks and runs, so that the measured forks do not load the classes used to write them.
+ * Delete the folder to generate them again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, warmups = 1)
+public class ColdStartBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private JsonAddressBookStorage addressBookStorage;
+    private JsonListingsStorage listingsStorage;
+
+    /**
+     * Generates the data files of {@code size} clients and {@code size} listings, unless they were generated by
+     * an earlier fork.
+     */
+    @Setup(Level.Trial)
+    public void writeDataFiles() throws IOException {
+        Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "ezstates-cold-start", String.valueOf(size));
+        addressBookStorage = new JsonAddressBookStorage(directory.resolve("addressbook.json"), false);
+        listingsStorage = new JsonListingsStorage(directory.resolve("listings.json"), false);
+        if (Files.exists(addressBookStorage.getAddressBookFilePath())
+                && Files.exists(listingsStorage.getListingsFilePath())) {
+            return;
+        }
+
+        AddressBook addressBook = GeneratedAddressBooks.generate(size, SEED);
+        addressBookStorage.saveAddressBook(addressBook);
+        listingsStorage.saveListings(GeneratedListings.generate(addressBook, size, SEED));
+    }
+
+    /**
+     * The data read from the data files, for the phases that start from it.
+     */
+    @State(Scope.Benchmark)
+    public static class ReadData {
+        private ReadOnlyAddressBook addressBook;
+        private ReadOnlyListings listings;
+
+        /**
+         * Reads the data files of {@code benchmark}.
+         */
+        @Setup(Level.Trial)
+        public void readDataFiles(ColdStartBenchmark benchmark) throws DataLoadingException {
+            addressBook = benchmark.addressBookStorage.readAddressBook().orElseThrow();
+            listings = benchmark.listingsStorage.readListings(addressBook).orElseThrow();
+        }
+    }
+
+    /**
+     * Reads the address book, the first of the data files read at startup.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return addressBookStorage.readAddressBook().orElseThrow();
+    }
+
+    /**
+     * Reads the address book and then the listings, which refer to its clients.
+     */
+    @Benchmark
+    public ReadOnlyListings readDataSequentially() throws DataLoadingException {
+        ReadOnlyAddressBook addressBook = addressBookStorage.readAddressBook().orElseThrow();
+        return listingsStorage.readListings(addressBook).orElseThrow();
+    }
+
+    /**
+     * Reads the listings while the address book is read, as the app does at startup.
+     */
+    @Benchmark
+    public ReadOnlyListings readDataConcurrently() throws DataLoadingException {
+        CompletableFuture<ReadOnlyAddressBook> addressBookRead = new CompletableFuture<>();
+        CompletableFuture<Optional<ReadOnlyListings>> listingsRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return listingsStorage.readListingsConcurrently(addressBookRead);
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        });
+        addressBookRead.complete(addressBookStorage.readAddressBook().orElseThrow());
+        return listingsRead.join().orElseThrow();
+    }
+
+    /**
+     * Creates the model from the data read, which copies the data and builds its indexes.
+     */
+    @Benchmark
+    public Model createModel(ReadData data) {
+        return new ModelManager(data.addressBook, new UserPrefs(), data.listings);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size for the benchmarks, the same for the same size and seed.
+ */
+public class GeneratedAddressBooks {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Aiden",
+        "Mei Ling", "Siti", "Rajesh"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "vip", "investor"};
+    private static final int MAX_APPOINTMENTS = 3;
+
+    /**
+     * Returns an address book of {@code size} persons with names, phones, emails, tags and appointments generated
+     * from {@code seed}.
+     */
+    public static AddressBook generate(int size, long seed) {
+        Random random = new Random(seed);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(generatePerson(i, random));
+        }
+        return addressBook;
+    }
+
+    private static Person generatePerson(int i, Random random) {
+        Name name = new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " Client " + i);
+        Phone phone = new Phone(String.valueOf(80000000 + random.nextInt(20000000)));
+        Email email = new Email("client" + i + "@example.com");
+        Set<Tag> tags = Set.of(new Tag(TAGS[random.nextInt(TAGS.length)]));
+
+        List<Appointment> appointments = new ArrayList<>();
+        for (int j = random.nextInt(MAX_APPOINTMENTS + 1); j > 0; j--) {
+            Appointment appointment = generateAppointment(random);
+            if (!appointments.contains(appointment)) {
+                appointments.add(appointment);
+            }
+        }
+
+        return random.nextBoolean()
+                ? new Buyer(name, phone, email, tags, appointments, "Generated buyer")
+                : new Seller(name, phone, email, tags, appointments, "Generated seller");
+    }
+
+    private static Appointment generateAppointment(Random random) {
+        String date = String.format("%02d-%02d-%02d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                24 + random.nextInt(2));
+        int start = random.nextInt(20);
+        return new Appointment(new Date(date), new From(String.format("%02d00", start)),
+                new To(String.format("%02d30", start + random.nextInt(4))));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Address;
+import seedu.address.model.listing.Area;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.Price;
+import seedu.address.model.listing.Region;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Seller;
+
+/**
+ * Generates listings of any size for the benchmarks, sold and bought by the clients of an address book, the same
+ * for the same clients, size and seed.
+ */
+public class GeneratedListings {
+
+    private static final String[] STREETS = {"Clementi Avenue", "Serangoon Road", "Orchard Boulevard",
+        "Tampines Street", "Jurong West Street", "Bukit Timah Road"};
+    private static final int MAX_BUYERS = 2;
+
+    /**
+     * Returns {@code size} listings with prices, areas, regions, sellers and buyers generated from {@code seed}.
+     * The sellers and buyers are the sellers and buyers in {@code clients}, or any of its clients if it has none.
+     *
+     * @param clients cannot be empty.
+     */
+    public static Listings generate(ReadOnlyAddressBook clients, int size, long seed) {
+        List<Person> sellers = clientsOf(clients, Seller.class);
+        List<Person> buyers = clientsOf(clients, Buyer.class);
+        Random random = new Random(seed);
+        Listings listings = new Listings();
+        for (int i = 0; i < size; i++) {
+            listings.addListing(generateListing(i, sellers, buyers, random));
+        }
+        return listings;
+    }
+
+    private static Listing generateListing(int i, List<Person> sellers, List<Person> buyers, Random random) {
+        Name name = new Name("Listing " + i);
+        Address address = new Address(i + " " + STREETS[random.nextInt(STREETS.length)]);
+        String price = String.valueOf(300000 + random.nextInt(3000000));
+        Area area = new Area(String.valueOf(40 + random.nextInt(200)));
+        Region region = Region.values()[random.nextInt(Region.values().length)];
+        Person seller = sellers.get(random.nextInt(sellers.size()));
+
+        Set<Person> listingBuyers = new HashSet<>();
+        for (int j = random.nextInt(MAX_BUYERS + 1); j > 0; j--) {
+            listingBuyers.add(buyers.get(random.nextInt(buyers.size())));
+        }
+        return new Listing(name, address, new Price(price, new BigDecimal(price)), area, region, seller,
+                listingBuyers);
+    }
+
+    private static List<Person> clientsOf(ReadOnlyAddressBook clients, Class<? extends Person> type) {
+        List<Person> clientsOfType = new ArrayList<>();
+        for (Person client : clients.getPersonList()) {
+            if (type.isInstance(client)) {
+                clientsOfType.add(client);
+            }
+        }
+        return clientsOfType.isEmpty() ? new ArrayList<>(clients.getPersonList()) : clientsOfType;
+    }
+}
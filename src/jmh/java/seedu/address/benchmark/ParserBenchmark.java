@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.EzstatesParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a command with {@code EzstatesParser}, for each command word with the arguments of the example
+ * in its usage message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final Map<String, String> EXAMPLE_ARGUMENTS = Map.ofEntries(
+            Map.entry("buyer", " n/John Doe p/98765432 e/johnd@example.com t/friends t/owesMoney"),
+            Map.entry("seller", " n/John Doe p/98765432 e/johnd@example.com t/friends t/owesMoney"),
+            Map.entry("editclient", " 1 e/johndoe@example.com p/91234567"),
+            Map.entry("deleteclient", " 1"),
+            Map.entry("moreinfo", " 1"),
+            Map.entry("find", " alice bob charlie"),
+            Map.entry("apt", " 1 d/20-12-24 fr/0800 to/1000"),
+            Map.entry("deleteapt", " 1 d/20-12-24 fr/0800"),
+            Map.entry("nextdays", " 7"),
+            Map.entry("between", " fr/01-11-24 to/15-11-24"),
+            Map.entry("freeslots", " d/20-12-24 fr/0900 to/1800"),
+            Map.entry("listing", " n/Warton House pr/400000 ar/1000 add/123 PASIR RIS (S)123456 reg/east sel/2"
+                    + " buy/1 buy/3"),
+            Map.entry("editlisting", " 2 pr/450000 ar/1200"),
+            Map.entry("addlistingbuyers", " 1 buy/1 buy/3"),
+            Map.entry("removelistingbuyers", " 1 buy/1 buy/3"),
+            Map.entry("deletelisting", " 1"),
+            Map.entry("findlisting", " Warton Riverdale"),
+            Map.entry("searchlistings", " minpr/800000 maxpr/1200000 minar/90 reg/east reg/northeast"));
+
+    @Param({"buyer", "seller", "editclient", "deleteclient", "moreinfo", "find", "showclients", "apt", "deleteapt",
+        "today", "thisweek", "nextdays", "between", "freeslots", "listing", "editlisting", "addlistingbuyers",
+        "removelistingbuyers", "deletelisting", "findlisting", "searchlistings", "showlistings", "clearlistings",
+        "chatbot", "stats", "help", "clear", "exit"})
+    private String commandWord;
+
+    private final EzstatesParser parser = new EzstatesParser();
+    private String userInput;
+
+    @Setup(Level.Trial)
+    public void createUserInput() {
+        userInput = commandWord + EXAMPLE_ARGUMENTS.getOrDefault(commandWord, "");
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.UniqueListingList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures filling and querying the lists of unique clients and listings, which keep indexes of their elements,
+ * at different numbers of elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UniqueListBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private Person absentPerson;
+    private UniquePersonList personList;
+    private List<Listing> listings;
+    private UniqueListingList listingList;
+
+    /**
+     * Generates {@code size} clients and {@code size} listings, and a client not in the list of clients.
+     */
+    @Setup(Level.Trial)
+    public void generateData() {
+        AddressBook addressBook = GeneratedAddressBooks.generate(size + 1, SEED);
+        persons = new ArrayList<>(addressBook.getPersonList());
+        absentPerson = persons.remove(size);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+
+        listings = new ArrayList<>(GeneratedListings.generate(addressBook, size, SEED).getListingList());
+        listingList = new UniqueListingList();
+    }
+
+    /**
+     * Adds the clients one by one to an empty list, as they are when the address book is loaded.
+     */
+    @Benchmark
+    public UniquePersonList addPersons() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresentPerson() {
+        return personList.contains(persons.get(size / 2));
+    }
+
+    @Benchmark
+    public boolean containsAbsentPerson() {
+        return personList.contains(absentPerson);
+    }
+
+    /**
+     * Replaces the listings in the list with the same listings, as the listings are when the data is reset.
+     */
+    @Benchmark
+    public UniqueListingList setListings() {
+        listingList.setListings(listings);
+        return listingList;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+import seedu.address.model.listing.Area;
+import seedu.address.model.listing.Price;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of a large generated address book with the validators of the value classes
+ * against validating them with {@code String#matches}, which compiles the regex on every call as the value classes
+ * used to. The dates and times are also parsed and formatted, as they are when loaded and shown.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValueValidationBenchmark {
+
+    private static final String NAME_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final String PHONE_REGEX = "\\d{3,}";
+    private static final String TAG_REGEX = "\\p{Alnum}+";
+    private static final String PRICE_REGEX = "^[1-9]\\d{5,}$";
+    private static final String AREA_REGEX = "^[1-9]\\d{1,}$";
+    private static final String DATE_REGEX = "\\d{2}-\\d{2}-\\d{2}|\\d{6}";
+    private static final String TIME_REGEX = "\\d{4}|\\d{2}:\\d{2}";
+
+    @Param({"50000"})
+    private int size;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<String> phones = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private final List<String> tags = new ArrayList<>();
+    private final List<String> dates = new ArrayList<>();
+    private final List<String> times = new ArrayList<>();
+
+    /**
+     * Collects the fields of a generated address book as they are written in its JSON file.
+     */
+    @Setup
+    public void collectFields() {
+        for (Person person : GeneratedAddressBooks.generate(size, 42).getPersonList()) {
+            names.add(person.getName().fullName);
+            phones.add(person.getPhone().value);
+            emails.add(person.getEmail().value);
+            person.getTags().forEach(tag -> tags.add(tag.tagName));
+            for (Appointment appointment : person.getAppointments()) {
+                dates.add(appointment.getDate().toString());
+                times.add(appointment.getFrom().toString());
+                times.add(appointment.getTo().toString().replace(":", ""));
+            }
+        }
+    }
+
+    /**
+     * Validates the fields with the value classes, which use precompiled patterns, digit scanners and shared
+     * formatters.
+     */
+    @Benchmark
+    public void validateWithValueClasses(Blackhole blackhole) {
+        for (int i = 0; i < names.size(); i++) {
+            blackhole.consume(Name.isValidName(names.get(i)));
+            blackhole.consume(Phone.isValidPhone(phones.get(i)));
+            blackhole.consume(Email.isValidEmail(emails.get(i)));
+            blackhole.consume(Price.isValidPrice(phones.get(i)));
+            blackhole.consume(Area.isValidArea(phones.get(i)));
+        }
+        for (String tag : tags) {
+            blackhole.consume(Tag.isValidTagName(tag));
+        }
+        for (String date : dates) {
+            blackhole.consume(new Date(date).toString());
+        }
+        for (String time : times) {
+            blackhole.consume(new From(time).toString());
+        }
+    }
+
+    /**
+     * Validates the fields with {@code String#matches} and new formatters, as the value classes used to.
+     */
+    @Benchmark
+    public void validateWithStringMatches(Blackhole blackhole) {
+        for (int i = 0; i < names.size(); i++) {
+            blackhole.consume(names.get(i).matches(NAME_REGEX));
+            blackhole.consume(phones.get(i).matches(PHONE_REGEX));
+            blackhole.consume(emails.get(i).matches(Email.VALIDATION_REGEX));
+            blackhole.consume(phones.get(i).matches(PRICE_REGEX));
+            blackhole.consume(phones.get(i).matches(AREA_REGEX));
+        }
+        for (String tag : tags) {
+            blackhole.consume(tag.matches(TAG_REGEX));
+        }
+        for (String date : dates) {
+            blackhole.consume(date.matches(DATE_REGEX));
+            blackhole.consume(date.matches("\\d{6}"));
+            blackhole.consume(LocalDate.parse(date, DateTimeFormatter.ofPattern("dd-MM-yy"))
+                    .format(DateTimeFormatter.ofPattern("dd-MM-yy")));
+        }
+        for (String time : times) {
+            blackhole.consume(time.matches(TIME_REGEX));
+            String withColon = time.matches("\\d{4}") ? time.substring(0, 2) + ":" + time.substring(2) : time;
+            blackhole.consume(LocalTime.parse(withColon, DateTimeFormatter.ofPattern("HH:mm"))
+                    .format(DateTimeFormatter.ofPattern("HH:mm")));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.benchmark.GeneratedAddressBooks;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures converting a generated address book between its model and its JSON form, without reading or writing
+ * a file, at different numbers of clients.
+ * It is in the storage package, as the JSON form of the address book is not visible outside it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private JsonSerializableAddressBook jsonAddressBook;
+
+    @Setup(Level.Trial)
+    public void generateAddressBook() {
+        jsonAddressBook = new JsonSerializableAddressBook(GeneratedAddressBooks.generate(size, 42));
+    }
+
+    /**
+     * Converts the JSON-friendly address book into the model, which validates every field of every client.
+     */
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return jsonAddressBook.toModelType();
+    }
+
+    @Benchmark
+    public String toJsonString() throws JsonProcessingException {
+        return JsonUtil.toJsonString(jsonAddressBook);
+    }
+}
@@ -1,20 +1,31 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PhaseTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.metrics.CommandMetricsLogger;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Listings;
 import seedu.address.model.Model;
@@ -25,13 +36,19 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CommandJournal;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonListingsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ListingStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
+import seedu.address.ui.ChatWindow;
+import seedu.address.ui.FxmlTemplates;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -47,9 +64,14 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindSaver writeBehindSaver;
+    protected CommandJournal commandJournal;
+    protected CommandMetricsLogger commandMetricsLogger;
     protected Model model;
     protected Config config;
 
+    private final PhaseTimer startupTimer = new PhaseTimer("Startup");
+
     public MainApp() {
         // empty constructor
     }
@@ -60,48 +82,119 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        try (PhaseTimer.Phase phase = startupTimer.start("initConfig")) {
+            config = initConfig(appParameters.getConfigPath());
+        }
         initLogging(config);
 
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(2, task -> {
+            Thread thread = new Thread(task, "startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The UI is warmed up while the data is read
+        startupExecutor.execute(FxmlTemplates::warmUp);
+
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ListingStorage listingStorage = new JsonListingsStorage(userPrefs.getListingsFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, listingStorage);
+        UserPrefs userPrefs;
+        try (PhaseTimer.Phase phase = startupTimer.start("initPrefs")) {
+            userPrefs = initPrefs(userPrefsStorage);
+        }
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                !config.isCompactJsonEnabled(), config.getDataBackupCount());
+        ListingStorage listingStorage = new JsonListingsStorage(userPrefs.getListingsFilePath(),
+                !config.isCompactJsonEnabled(), config.getDataBackupCount());
+        JournalStorage journalStorage = new JsonJournalStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(JsonJournalStorage.DEFAULT_FILE_NAME));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, listingStorage, journalStorage);
+
+        model = initModelManager(storage, userPrefs, startupExecutor);
+        startupExecutor.shutdown();
 
-        model = initModelManager(storage, userPrefs);
+        try (PhaseTimer.Phase phase = startupTimer.start("createLogic")) {
+            if (config.isJournalEnabled()) {
+                commandJournal = new CommandJournal(storage, model.getAddressBook(), model.getListings(),
+                        config.getJournalCompactionThreshold());
+                logic = new LogicManager(model, storage, commandJournal);
+            } else {
+                if (config.isWriteBehindSaveEnabled()) {
+                    writeBehindSaver = new WriteBehindSaver(storage, config.getSaveDebounceMillis(),
+                            config.getMaxSaveStalenessMillis());
+                }
+                logic = new LogicManager(model, storage, writeBehindSaver);
+            }
+        }
+        if (config.getCommandStatsLogIntervalSeconds() > 0) {
+            commandMetricsLogger = new CommandMetricsLogger(logic.getCommandMetrics(),
+                    config.getCommandStatsLogIntervalSeconds());
+        }
 
-        logic = new LogicManager(model, storage);
+        if (config.getChatTranscriptCapacity() > 0) {
+            ChatWindow.setTranscriptCapacity(config.getChatTranscriptCapacity());
+        } else {
+            logger.warning("Chat transcript capacity " + config.getChatTranscriptCapacity()
+                    + " is not positive. Using the default capacity instead.");
+        }
 
-        ui = new UiManager(logic);
+        try (PhaseTimer.Phase phase = startupTimer.start("createUi")) {
+            ui = new UiManager(logic);
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * <br>
+     * The listings are read by {@code executor} while the address book is read.
+     * <br>
+     * Each phase of reading the data and creating the model is timed by the startup timer.
+     * <br>
+     * The changes in {@code storage}'s journal are applied on top of the data read, after which the data is saved
+     * in full and the journal is cleared. If the data cannot be read, the journal is set aside instead, and nothing
+     * is saved.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Executor executor) {
         logger.info("Using client data file : " + storage.getAddressBookFilePath());
         logger.info("Using listings data file : " + storage.getListingsFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        CompletableFuture<ReadOnlyAddressBook> addressBookRead = new CompletableFuture<>();
+        CompletableFuture<Optional<ReadOnlyListings>> listingsRead = CompletableFuture.supplyAsync(() -> {
+            try (PhaseTimer.Phase phase = startupTimer.start("readListings")) {
+                return storage.readListingsConcurrently(addressBookRead);
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+
         ReadOnlyAddressBook initialData;
         Optional<ReadOnlyListings> listingsOptional;
         ReadOnlyListings initialListings;
+        boolean isJournalReplayed = false;
         try {
-            addressBookOptional = storage.readAddressBook();
-            listingsOptional = storage.readListings();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
+            try (PhaseTimer.Phase phase = startupTimer.start("readAddressBook")) {
+                initialData = readAddressBook(storage, addressBookRead);
+            }
+            try (PhaseTimer.Phase phase = startupTimer.start("awaitListings")) {
+                listingsOptional = awaitListings(listingsRead);
             }
             if (!listingsOptional.isPresent()) {
                 logger.info("Creating a new listings file " + storage.getListingsFilePath()
                         + " populated with sample Listings.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
             initialListings = listingsOptional.orElseGet(SampleDataUtil::getSampleListings);
+
+            if (FileUtil.isFileExists(storage.getJournalFilePath())) {
+                AddressBook journaledData = new AddressBook(initialData);
+                Listings journaledListings = new Listings(initialListings);
+                try (PhaseTimer.Phase phase = startupTimer.start("replayJournal")) {
+                    isJournalReplayed = replayJournal(storage, journaledData, journaledListings);
+                }
+                if (isJournalReplayed) {
+                    initialData = journaledData;
+                    initialListings = journaledListings;
+                }
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -109,9 +202,106 @@ public class MainApp extends Application {
                     + " Will be starting with empty Listings.");
             initialData = new AddressBook();
             initialListings = new Listings();
+            // The journal only applies to the data that could not be loaded
+            if (FileUtil.isFileExists(storage.getJournalFilePath())) {
+                setAsideJournal(storage);
+            }
+        }
+
+        Model initializedModel;
+        try (PhaseTimer.Phase phase = startupTimer.start("createModel")) {
+            initializedModel = new ModelManager(initialData, userPrefs, initialListings);
+        }
+        if (isJournalReplayed) {
+            try (PhaseTimer.Phase phase = startupTimer.start("compactJournal")) {
+                compactJournal(storage, initializedModel);
+            }
+        }
+        return initializedModel;
+    }
+
+    /**
+     * Returns the address book read from {@code storage}, or the sample address book if it is not found.
+     * {@code addressBookRead} is completed with the address book returned, or with the failure to read it.
+     */
+    private ReadOnlyAddressBook readAddressBook(Storage storage,
+            CompletableFuture<ReadOnlyAddressBook> addressBookRead) throws DataLoadingException {
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            ReadOnlyAddressBook addressBook = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            addressBookRead.complete(addressBook);
+            return addressBook;
+        } catch (DataLoadingException | RuntimeException e) {
+            addressBookRead.completeExceptionally(e);
+            throw e;
         }
+    }
 
-        return new ModelManager(initialData, userPrefs, initialListings);
+    /**
+     * Waits for the listings in {@code listingsRead} to be read, and returns them.
+     */
+    private static Optional<ReadOnlyListings> awaitListings(
+            CompletableFuture<Optional<ReadOnlyListings>> listingsRead) throws DataLoadingException {
+        try {
+            return listingsRead.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the changes in {@code storage}'s journal to {@code addressBook} and {@code listings}.
+     * If a change cannot be applied, the changes before it are applied and the journal is set aside.
+     * Returns false if the journal could not be read, in which case it is set aside too, and
+     * {@code addressBook} and {@code listings} should be discarded.
+     */
+    private boolean replayJournal(Storage storage, AddressBook addressBook, Listings listings) {
+        try {
+            storage.replayJournal(addressBook, listings);
+            return true;
+        } catch (DataLoadingException e) {
+            logger.warning("Journal at " + storage.getJournalFilePath() + " could not be replayed."
+                    + " Will be starting with the data last saved in full.");
+            if (FileUtil.isFileExists(storage.getJournalFilePath())) {
+                setAsideJournal(storage);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Sets aside {@code storage}'s journal, so that its changes are kept but not applied to data they were not
+     * made to.
+     */
+    private void setAsideJournal(Storage storage) {
+        try {
+            Path keptPath = storage.setAsideJournal();
+            logger.warning("Journal at " + storage.getJournalFilePath() + " is kept as " + keptPath
+                    + " and will not be applied.");
+        } catch (IOException e) {
+            logger.warning("Failed to set aside journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves the data of {@code model} in full to {@code storage} and clears {@code storage}'s journal, so that
+     * the journal is not applied again on top of newer data.
+     */
+    private void compactJournal(Storage storage, Model model) {
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+            storage.saveListings(model.getListings());
+            storage.clearJournal();
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -192,12 +382,71 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting EZSTATES " + MainApp.VERSION);
-        ui.start(primaryStage);
+        try (PhaseTimer.Phase phase = startupTimer.start("startUi")) {
+            ui.start(primaryStage);
+        }
+        logger.info("First window shown " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms after launch");
+
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            reportStartupTimings();
+            return;
+        }
+        // The first render is timed until the first pulse has laid out the scene, just before it is rendered
+        PhaseTimer.Phase firstRender = startupTimer.start("firstRender");
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean isDone;
+
+            @Override
+            public void run() {
+                if (isDone) {
+                    return;
+                }
+                isDone = true;
+                // Listeners cannot be removed while the pulse is notifying them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                firstRender.close();
+                reportStartupTimings();
+            }
+        });
+    }
+
+    /**
+     * Logs the time taken by each phase of the startup, and writes it to the startup timings file if there is one.
+     */
+    private void reportStartupTimings() {
+        logger.info(startupTimer.getSummary());
+        Path timingsFilePath = config.getStartupTimingsFilePath();
+        if (timingsFilePath == null) {
+            return;
+        }
+        try {
+            startupTimer.writeJson(timingsFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save startup timings file : " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (commandMetricsLogger != null) {
+            commandMetricsLogger.shutdown();
+        }
+        if (writeBehindSaver != null) {
+            try {
+                writeBehindSaver.shutdown();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }
+        if (commandJournal != null) {
+            try {
+                commandJournal.compact();
+            } catch (IOException e) {
+                logger.severe("Failed to compact journal " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,16 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindSaveEnabled = true;
+    private long saveDebounceMillis = 200;
+    private long maxSaveStalenessMillis = 1000;
+    private boolean journalEnabled = false;
+    private int journalCompactionThreshold = 500;
+    private boolean compactJsonEnabled = false;
+    private int dataBackupCount = 2;
+    private int chatTranscriptCapacity = 500;
+    private Path startupTimingsFilePath = null;
+    private long commandStatsLogIntervalSeconds = 600;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +44,119 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if data is saved in the background after commands instead of before they return.
+     */
+    public boolean isWriteBehindSaveEnabled() {
+        return writeBehindSaveEnabled;
+    }
+
+    public void setWriteBehindSaveEnabled(boolean writeBehindSaveEnabled) {
+        this.writeBehindSaveEnabled = writeBehindSaveEnabled;
+    }
+
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns the longest time, in milliseconds, that the saved data may lag behind the data in the app
+     * when data is saved in the background.
+     */
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    /**
+     * Returns true if the changes made by commands are saved by appending them to a journal, instead of
+     * saving the data in full. Takes precedence over saving in the background.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Returns the number of entries in the journal at which the data is saved in full and the journal is cleared.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns true if the data files are saved without indentation or line breaks, which makes them smaller
+     * and faster to save, but harder to edit by hand.
+     */
+    public boolean isCompactJsonEnabled() {
+        return compactJsonEnabled;
+    }
+
+    public void setCompactJsonEnabled(boolean compactJsonEnabled) {
+        this.compactJsonEnabled = compactJsonEnabled;
+    }
+
+    /**
+     * Returns the number of previous versions of each data file that are kept as backups, from which the data
+     * is recovered if the data file cannot be read.
+     */
+    public int getDataBackupCount() {
+        return dataBackupCount;
+    }
+
+    public void setDataBackupCount(int dataBackupCount) {
+        this.dataBackupCount = dataBackupCount;
+    }
+
+    /**
+     * Returns the number of the latest messages kept in the chat window, beyond which older messages are dropped.
+     */
+    public int getChatTranscriptCapacity() {
+        return chatTranscriptCapacity;
+    }
+
+    public void setChatTranscriptCapacity(int chatTranscriptCapacity) {
+        this.chatTranscriptCapacity = chatTranscriptCapacity;
+    }
+
+    /**
+     * Returns the path of the JSON file to which the time taken by each phase of the startup is written, or null
+     * if the timings are only logged.
+     */
+    public Path getStartupTimingsFilePath() {
+        return startupTimingsFilePath;
+    }
+
+    public void setStartupTimingsFilePath(Path startupTimingsFilePath) {
+        this.startupTimingsFilePath = startupTimingsFilePath;
+    }
+
+    /**
+     * Returns how often, in seconds, the statistics of the commands executed are logged, or 0 or less if they
+     * are not logged.
+     */
+    public long getCommandStatsLogIntervalSeconds() {
+        return commandStatsLogIntervalSeconds;
+    }
+
+    public void setCommandStatsLogIntervalSeconds(long commandStatsLogIntervalSeconds) {
+        this.commandStatsLogIntervalSeconds = commandStatsLogIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +170,24 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindSaveEnabled == otherConfig.writeBehindSaveEnabled
+                && saveDebounceMillis == otherConfig.saveDebounceMillis
+                && maxSaveStalenessMillis == otherConfig.maxSaveStalenessMillis
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && compactJsonEnabled == otherConfig.compactJsonEnabled
+                && dataBackupCount == otherConfig.dataBackupCount
+                && chatTranscriptCapacity == otherConfig.chatTranscriptCapacity
+                && Objects.equals(startupTimingsFilePath, otherConfig.startupTimingsFilePath)
+                && commandStatsLogIntervalSeconds == otherConfig.commandStatsLogIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindSaveEnabled, saveDebounceMillis,
+                maxSaveStalenessMillis, journalEnabled, journalCompactionThreshold, compactJsonEnabled,
+                dataBackupCount, chatTranscriptCapacity, startupTimingsFilePath, commandStatsLogIntervalSeconds);
     }
 
     @Override
@@ -60,6 +195,16 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindSaveEnabled", writeBehindSaveEnabled)
+                .add("saveDebounceMillis", saveDebounceMillis)
+                .add("maxSaveStalenessMillis", maxSaveStalenessMillis)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("compactJsonEnabled", compactJsonEnabled)
+                .add("dataBackupCount", dataBackupCount)
+                .add("chatTranscriptCapacity", chatTranscriptCapacity)
+                .add("startupTimingsFilePath", startupTimingsFilePath)
+                .add("commandStatsLogIntervalSeconds", commandStatsLogIntervalSeconds)
                 .toString();
     }
 
@@ -0,0 +1,153 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Times the phases of a process, such as the startup of the app, to show where its time goes.
+ *
+ * A phase is timed from when it is started until it is closed, so it can be timed with a try-with-resources
+ * statement. Phases may overlap, and may be timed on different threads. The timings can be logged as a summary
+ * and written to a JSON file.
+ */
+public class PhaseTimer {
+
+    private final String name;
+    private final long startNanos;
+    private final List<Timing> timings = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a {@code PhaseTimer} of the process {@code name}, which starts now.
+     */
+    public PhaseTimer(String name) {
+        this.name = requireNonNull(name);
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts timing the phase {@code phaseName}, until the {@code Phase} returned is closed.
+     */
+    public Phase start(String phaseName) {
+        return new Phase(requireNonNull(phaseName));
+    }
+
+    /**
+     * Returns the timings of the phases closed so far, in the order they were closed.
+     */
+    public List<Timing> getTimings() {
+        return new ArrayList<>(timings);
+    }
+
+    /**
+     * Returns the time since the process started, in milliseconds.
+     */
+    public double getElapsedMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns a summary of the time taken by the process so far and by each of its phases, to be logged.
+     */
+    public String getSummary() {
+        return String.format(Locale.ROOT, "%s took %.1f ms: ", name, getElapsedMillis())
+                + timings.stream()
+                        .map(timing -> String.format(Locale.ROOT, "%s %.1f ms",
+                                timing.getPhaseName(), timing.getDurationMillis()))
+                        .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Writes the time taken by the process so far and the timings of its phases to the JSON file at
+     * {@code filePath}.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void writeJson(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonTimings(name, getElapsedMillis(), getTimings()), filePath);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * A phase being timed, which is timed until it is closed.
+     */
+    public class Phase implements AutoCloseable {
+        private final String phaseName;
+        private final long phaseStartNanos;
+        private boolean isClosed;
+
+        private Phase(String phaseName) {
+            this.phaseName = phaseName;
+            this.phaseStartNanos = System.nanoTime();
+        }
+
+        /**
+         * Stops timing the phase. Closing a phase again has no effect.
+         */
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            timings.add(new Timing(phaseName, toMillis(phaseStartNanos - startNanos),
+                    toMillis(System.nanoTime() - phaseStartNanos)));
+        }
+    }
+
+    /**
+     * The time at which a phase started, since the process started, and the time it took, in milliseconds.
+     */
+    public static class Timing {
+        private final String phaseName;
+        private final double startMillis;
+        private final double durationMillis;
+
+        private Timing(String phaseName, double startMillis, double durationMillis) {
+            this.phaseName = phaseName;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+        }
+
+        public String getPhaseName() {
+            return phaseName;
+        }
+
+        public double getStartMillis() {
+            return startMillis;
+        }
+
+        public double getDurationMillis() {
+            return durationMillis;
+        }
+    }
+
+    /**
+     * The timings of a process as written to a JSON file.
+     */
+    private static class JsonTimings {
+        private final String name;
+        private final double totalMillis;
+        private final List<Timing> phases;
+
+        private JsonTimings(String name, double totalMillis, List<Timing> phases) {
+            this.name = name;
+            this.totalMillis = totalMillis;
+            this.phases = phases;
+        }
+    }
+}
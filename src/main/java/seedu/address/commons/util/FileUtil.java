@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Writes and reads files
@@ -13,6 +20,9 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    // Files being replaced, so that writers of the same file rotate its backups and replace it one at a time
+    private static final ConcurrentMap<Path, Object> REPLACE_LOCKS = new ConcurrentHashMap<>();
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -75,9 +85,104 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as in {@link #writeToFileAtomically(Path, ContentWriter, int)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, outputStream -> outputStream.write(bytes), 0);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, such that the file holds either its previous
+     * content or all of the new content even if writing is interrupted by a crash or power loss.
+     * The content is written to a uniquely named temporary file in the same directory, which is synced to the disk
+     * and then moved over the file, after which the directory is synced too where the platform allows it.
+     * Several threads may write the same file at once; the file then holds the content of one of them.
+     * Will create the file if it does not exist yet.
+     *
+     * @param backupCount the number of previous versions of the file to keep as backups, the most recent of which
+     *     is found at {@code getBackupPath(file, 1)}.
+     * @throws IOException if there was an error writing the file, in which case the file is left as it was.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, int backupCount)
+            throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                contentWriter.write(outputStream);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            synchronized (REPLACE_LOCKS.computeIfAbsent(file.toAbsolutePath().normalize(), key -> new Object())) {
+                if (backupCount > 0 && isFileExists(file)) {
+                    rotateBackups(file, backupCount);
+                }
+                moveAtomically(tempFile, file);
+            }
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} versions older than the file.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Shifts every backup of {@code file} to the next older generation, discarding the oldest, and keeps the
+     * current version of {@code file} as the most recent backup.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // A hard link keeps the current version without copying it, as the file is replaced rather than modified
+        Path latestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the entries of {@code directory} to the disk, so that a file moved into it stays there after a crash.
+     * Does nothing on platforms that cannot open a directory for syncing, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // The move itself has succeeded, and the platform syncs directory entries on its own terms
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
     }
 
 }
@@ -3,18 +3,27 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +31,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +49,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writes one value of a larger document, so the generator is only flushed when the document is complete
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -77,6 +91,62 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the JSON object in the given file, passing each element of its array field {@code arrayFieldName} to
+     * {@code elementHandler} as soon as the element is parsed. Other fields of the object are skipped.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the contents of the file nor all of the parsed elements
+     * are held in memory at once.
+     * Returns false if the file is not found.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @throws DataLoadingException if reading or parsing the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<? super T> elementHandler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream inputStream = Files.newInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            readArrayField(parser, arrayFieldName, elementClass, elementHandler);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    private static <T> void readArrayField(JsonParser parser, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<? super T> elementHandler) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !fieldName.equals(arrayFieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of input in " + arrayFieldName);
+                }
+                elementHandler.handle(objectMapper.readValue(parser, elementClass));
+            }
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,6 +161,46 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves {@code elements} to the specified file as the array field {@code arrayFieldName} of a JSON object.
+     * Each element is converted by {@code toJsonAdapted} and written as soon as it is converted, so neither the
+     * converted elements nor the document are held in memory at once.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
+     *
+     * @param filePath cannot be null.
+     * @param isPrettyPrinted whether the JSON is indented over several lines, instead of written compactly.
+     * @param backupCount the number of previous versions of the file to keep as backups.
+     * @throws IOException if there was an error during writing to the file.
+     * @see FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter, int)
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> toJsonAdapted, boolean isPrettyPrinted, int backupCount) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(toJsonAdapted);
+
+        FileUtil.writeToFileAtomically(filePath, outputStream ->
+                writeJsonArray(outputStream, arrayFieldName, elements, toJsonAdapted, isPrettyPrinted), backupCount);
+    }
+
+    private static <T> void writeJsonArray(OutputStream outputStream, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        // The generator buffers its output, so the stream is written to in chunks of a fixed size
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (T element : elements) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +221,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a single-line string
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read by {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -38,6 +38,40 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the least number of single-character insertions, deletions and substitutions that turn
+     * {@code prefix} into a prefix of {@code word}. Case is significant.
+     *   <br>examples:<pre>
+     *       prefixEditDistance("alice", "ali") == 0
+     *       prefixEditDistance("alice", "alce") == 1
+     *       prefixEditDistance("alice", "bob") == 3
+     *       </pre>
+     * @param word cannot be null
+     * @param prefix cannot be null
+     */
+    public static int prefixEditDistance(String word, String prefix) {
+        requireNonNull(word);
+        requireNonNull(prefix);
+
+        // previous[j] is the distance between the prefix read so far and the first j characters of the word
+        int[] previous = new int[word.length() + 1];
+        int[] current = new int[word.length() + 1];
+        for (int j = 0; j <= word.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= prefix.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= word.length(); j++) {
+                int substitution = previous[j - 1] + (prefix.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Arrays.stream(previous).min().getAsInt();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -48,6 +82,26 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns true if {@code s} consists of at least {@code minLength} ASCII digits, as matched by the regex
+     * {@code \\d{minLength,}}, without the cost of a regex.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isDigits(String s, int minLength) {
+        requireNonNull(s);
+
+        if (s.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -6,6 +6,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.listing.Listing;
@@ -24,6 +25,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Replaces {@code person} with a copy of it that has {@code remark} as its remark, and saves the data.
+     * The replacement is made even if the data cannot be saved.
+     *
+     * @return the person that replaced {@code person}.
+     * @throws CommandException If the data could not be saved.
+     */
+    Person updateRemark(Person person, String remark) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -47,6 +57,11 @@ public interface Logic {
      */
     Path getListingsFilePath();
 
+    /**
+     * Returns the statistics of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -4,20 +4,26 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.clientcommands.MoreInfoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStats;
 import seedu.address.logic.parser.EzstatesParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
+import seedu.address.storage.CommandJournal;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -28,41 +34,155 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final WriteBehindSaver writeBehindSaver;
+    private final CommandJournal commandJournal;
+    private final CommandMetrics commandMetrics;
     private final EzstatesParser ezstatesParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The data is saved to {@code storage} after every command, before the command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, (WriteBehindSaver) null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code writeBehindSaver} is not null, the data is saved through it in the background instead, and a
+     * failure to save is reported by the command executed after it.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver writeBehindSaver) {
+        this(model, storage, writeBehindSaver, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The changes made by every command are saved through {@code commandJournal}, which must record the changes
+     * made to the data of {@code model}, before the command returns.
+     */
+    public LogicManager(Model model, Storage storage, CommandJournal commandJournal) {
+        this(model, storage, null, commandJournal);
+    }
+
+    private LogicManager(Model model, Storage storage, WriteBehindSaver writeBehindSaver,
+                         CommandJournal commandJournal) {
         this.model = model;
         this.storage = storage;
-        ezstatesParser = new EzstatesParser();
+        this.writeBehindSaver = writeBehindSaver;
+        this.commandJournal = commandJournal;
+        commandMetrics = new CommandMetrics();
+        ezstatesParser = new EzstatesParser(commandMetrics);
     }
 
+    /**
+     * {@inheritDoc}
+     * The time taken to parse, execute and save the command, and the bytes allocated meanwhile, are recorded in
+     * the statistics of its command word. Commands that fail to execute are recorded too, with the time taken
+     * until they failed, as they cost the user as much time. Commands that cannot be parsed are not recorded.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        long startAllocatedBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long parseStartNanos = System.nanoTime();
         Command command = ezstatesParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long parseNanos = System.nanoTime() - parseStartNanos;
+        CommandStats stats = commandMetrics.getStats(commandWordOf(commandText));
+        stats.recordParse(parseNanos);
 
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveListings(model.getListings());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            commandResult = executeTimed(command, stats);
+            save(stats);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
+        } finally {
+            if (startAllocatedBytes != CommandMetrics.ALLOCATION_UNSUPPORTED) {
+                stats.recordAllocation(CommandMetrics.getCurrentThreadAllocatedBytes() - startAllocatedBytes);
+            }
         }
 
         return commandResult;
     }
 
+    /**
+     * {@inheritDoc}
+     * The data is saved the same way as after a command, and the time taken is recorded in the statistics of
+     * {@code MoreInfoCommand}, which opens the window where remarks are edited.
+     */
+    @Override
+    public Person updateRemark(Person person, String remark) throws CommandException {
+        logger.info("----------------[REMARK UPDATE][" + person.getName() + "]");
+
+        Person editedPerson = MoreInfoCommand.updateRemark(model, person, remark);
+        try {
+            save(commandMetrics.getStats(MoreInfoCommand.COMMAND_WORD));
+        } catch (IOException ioe) {
+            throw toCommandException(ioe);
+        }
+        return editedPerson;
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    /**
+     * Executes {@code command}, recording the time taken in {@code stats} whether or not it succeeds.
+     */
+    private CommandResult executeTimed(Command command, CommandStats stats) throws CommandException {
+        long startNanos = System.nanoTime();
+        try {
+            return command.execute(model);
+        } finally {
+            stats.recordExecute(System.nanoTime() - startNanos);
+        }
+    }
+
+    private static String commandWordOf(String commandText) {
+        return WHITESPACE.split(commandText.trim(), 2)[0];
+    }
+
+    /**
+     * Saves the data, recording the time taken to save to each store in {@code stats}.
+     */
+    private void save(CommandStats stats) throws IOException {
+        long startNanos = System.nanoTime();
+        if (commandJournal != null) {
+            commandJournal.commit();
+            stats.recordSave("journal", System.nanoTime() - startNanos);
+            return;
+        }
+
+        if (writeBehindSaver == null) {
+            storage.saveAddressBook(model.getAddressBook());
+            long listingsStartNanos = System.nanoTime();
+            stats.recordSave("addressBook", listingsStartNanos - startNanos);
+            storage.saveListings(model.getListings());
+            stats.recordSave("listings", System.nanoTime() - listingsStartNanos);
+            return;
+        }
+
+        // Only a snapshot of the lists is taken here, as the data is saved in the background
+        writeBehindSaver.submit(model.getAddressBook(), model.getListings());
+        stats.recordSave("writeBehind", System.nanoTime() - startNanos);
+        IOException failure = writeBehindSaver.takeFailure();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -88,6 +208,11 @@ public class LogicManager implements Logic {
         return model.getListingsFilePath();
     }
 
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
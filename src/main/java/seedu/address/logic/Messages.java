@@ -26,6 +26,7 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_TODAY_APPOINTMENTS = "You have %1$d appointment(s) today!";
+    public static final String MESSAGE_APPOINTMENTS_BETWEEN = "You have %1$d appointment(s) from %2$s to %3$s!";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -49,8 +50,8 @@ public class Messages {
                 .append(person.getPhone())
                 .append("; Email: ")
                 .append(person.getEmail())
-                .append("; Appointment: ")
-                .append(person.getAppointment())
+                .append("; Appointments: ")
+                .append(person.getAppointments())
                 .append("; Tags: ");
         person.getTags().forEach(builder::append);
         return String.format("%1s.\nPhone number: %2s and Email: %3s",
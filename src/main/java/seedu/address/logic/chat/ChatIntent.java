@@ -0,0 +1,176 @@
+package seedu.address.logic.chat;
+
+import java.util.regex.Pattern;
+
+/**
+ * Represents what a user asks the chat assistant about, with the reply of the assistant.
+ *
+ * The intents are declared in order of precedence: a message is classified as the first intent it matches.
+ * Each intent is matched by a regex, compiled once, which is only run on messages containing all the fragments
+ * that any message matched by the regex contains, so that most intents are ruled out without running their regex.
+ */
+public enum ChatIntent {
+    HELLO("Hi there! How can I assist you today?",
+            "\\b(h+e+l+o+|h+i+|h+e+y+|howdy|greetings|salutations"
+                    + "|what's up|what's good|yo|sup|how's it going|how are you|howdy doo"
+                    + "aloha|bonjour|hola|holla|howdy+|hiya|wazzup|welcome)\\b"),
+    ADD_LISTING_BUYERS("This is how to add buyers to a listing!\n"
+            + "addlistingbuyers {listing index} buy/{buyer index} [buy/{additional buyer indexes}...]\n"
+            + "Example: addlistingbuyers 1 buy/ 2 buy/ 3\n"
+            + "Adds the specified buyers to the listing identified by its index.",
+            "(?=.*\\b(a+d+d+|adding)\\b)(?=.*\\bl+i+s+t+i+n+g+s*\\b)(?=.*\\bb+u+y+e+r+s*\\b)", "ad", "li", "bu"),
+    REMOVE_LISTING_BUYERS("This is how to remove buyers from a listing!\n"
+            + "removelistingbuyers {listing index} buy/{buyer index} [buy/{additional buyer indexes}...]\n"
+            + "Example: removelistingbuyers 1 buy/ 2 buy/ 3\n"
+            + "Removes the specified buyers from the listing identified by their index.",
+            "(?=.*\\b(r+e+m+o+v+e+|removing)\\b)(?=.*\\bl+i+s+t+i+n+g+s*\\b)(?=.*\\bb+u+y+e+r+s*\\b)",
+            "re", "li", "bu"),
+    GOODBYE("Goodbye! Have a great day!",
+            "\\b(g+o+o+d+b+y+e+|b+y+e+|bai|bubye|see ya|see you"
+                    + "|take care|later|cya|catch you later|peace|adieu|ta"
+                    + "|farewell|good night|so long|cheerio|toodle-oo"
+                    + "|until next time|ttyl|g2g|gotta go|im off|exit"
+                    + "|im leaving|im out|im off now|im outta here|i'm out)\\b"),
+    ADD_CLIENT("We categorise clients into buyers and sellers for clarity of our users!\n"
+            + "Maybe consider:\n"
+            + "• Adding a buyer\n"
+            + "• Adding a seller",
+            "\\b(a+d+d+|adding|adds)\\b.*c+l+i+e+n+t+\\b", "ad", "cl"),
+    ADD_BUYER("This is how to add a buyer!\n"
+            + "buyer n/{name} p/{phone number} e/{email}",
+            "\\b(a+d+d+|adding|adds)\\b.*b+u+y+e+r+\\b", "ad", "bu"),
+    ADD_SELLER("This is how to add a seller!\n"
+            + "seller n/{name} p/{phone number} e/{email}",
+            "\\b(a+d+d+|adding|adds)\\b.*s+e+l+e+r+\\b", "ad", "se"),
+    ADD_LISTING("This is how to add a listing!\n"
+            + "listing n/{name} pr/{price} ar/{area} add/{address} reg/{region} sel/{seller} "
+            + "(Optional: buy/{buyer1} buy/{buyer2} ...)",
+            "\\b(a+d+d+|adding|adds)\\b.*l+i+s+t+i+n+g+\\b", "ad", "li"),
+    ADD_APPOINTMENT("This is how to add an appointment!\n"
+            + "apt {index} d/{date} fr/{start time} to/{end time}",
+            "\\b(a+d+d+|adding|adds)\\b.*a+p+o+i+n+t+m+e+n+t+\\b", "ad", "ap"),
+    DELETE_CLIENT("We categorise clients into buyers and sellers for clarity of our users!\n"
+            + "Maybe consider:\n"
+            + "• Deleting a buyer\n"
+            + "• Deleting a seller",
+            "\\b(d+e+l+e+t+e+|deleted|deleting|deletes)\\b.*c+l+i+e+n+t+\\b", "de", "cl"),
+    DELETE_BUYER("This is how to delete a buyer!\n"
+            + "deleteclient {index}",
+            "\\b(d+e+l+e+t+e+|deleted|deleting|deletes)\\b.*b+u+y+e+r+\\b", "de", "bu"),
+    DELETE_SELLER("This is how to delete a seller!\n"
+            + "deleteclient {index}",
+            "\\b(d+e+l+e+t+e+|deleted|deleting|deletes)\\b.*s+e+l+e+r+\\b", "de", "se"),
+    DELETE_APPOINTMENT("This is how to delete an appointment!\n"
+            + "deleteapt {index}",
+            "\\b(d+e+l+e+t+e+|deleted|deleting|deletes)\\b.*a+p+o+i+n+t+m+e+n+t+\\b", "de", "ap"),
+    DELETE_LISTING("This is how to delete a listing!\n"
+            + "deletelisting {index}",
+            "\\b(d+e+l+e+t+e+|deleted|deleting|deletes)\\b.*l+i+s+t+i+n+g+\\b", "de", "li"),
+    EDIT_CLIENT("This is how to edit a client!\n"
+            + "editclient {client index} [n/{name}] [p/{phone number}] [e/{email}] [t/{tag}...]\n"
+            + "Note: At least one field must be specified to edit a client.",
+            "\\b(e+d+i+t+|editing|edits)\\b.*c+l+i+e+n+t+\\b", "ed", "cl"),
+    EDIT_LISTING("This is how to edit a listing!\n"
+            + "editlisting {listing index} [n/{listing name} pr/{price}] [ar/{area}]"
+            + " [add/{address}] [reg/{region}]\n"
+            + "Note: At least one field must be specified to edit a listing.",
+            "\\b(e+d+i+t+|editing|edits)\\b.*l+i+s+t+i+n+g+\\b", "ed", "li"),
+    SHOW_CLIENTS("This is how to show your clients!\n"
+            + "showclients\n"
+            + "Displays all clients in your list. If there are no clients, it will inform you accordingly.",
+            "\\b(s+h+o+w+|display|view)\\b.*c+l+i+e+n+t+s*\\b", "cl"),
+    SHOW_LISTINGS("This is how to show your listings!\n"
+            + "showlistings\n"
+            + "Displays all listings in your system. If there are no listings, it will notify you accordingly.",
+            "\\b(s+h+o+w+|display|view)\\b.*l+i+s+t+i+n+g+s*\\b", "li"),
+    THANK_YOU("You're welcome! Always happy to help.",
+            "\\bt+h+a+n+k+|t+h+a+n+k+\\s+y+o+u+|t+h+a+n+k+\\s+u+\\b", "th"),
+    LOVE("Love is not about possession; it's about appreciation of \n"
+            + "the journey we share together, hand in hand through \n"
+            + "the beautiful chaos of life.",
+            "\\bl+o+v+e+\\b", "lo"),
+    DELETE("I assume you are having trouble with the delete command.\n"
+            + "Can you help specify which you are referring to?\n"
+            + "• Deleting a buyer/seller client profile - deleteclient\n"
+            + "• Deleting an appointment - deleteapt\n"
+            + "• Deleting a listing - deletelisting\n"
+            + "• Deleting a buyer from a listing - removelistingbuyers",
+            "\\b(d+e+l+e+t+e+|deleted|deleting|deletes)\\b", "de"),
+    ADD("I assume you are having trouble with the add command.\n"
+            + "Can you help specify which you are referring to?\n"
+            + "• Adding a buyer/seller client profile - seller/buyer\n"
+            + "• Adding an appointment - apt\n"
+            + "• Adding a listing - listing\n"
+            + "• Adding a buyer to a listing - addlistingbuyers",
+            "\\b(a+d+d+|adding|adds)\\b", "ad"),
+    EDIT("It seems you want to edit something.\n"
+            + "Can you specify which you are referring to?\n"
+            + "• Editing a client profile (buyer/seller) - editclient\n"
+            + "• Editing a listing - editlisting",
+            "\\b(e+d+i+t+|editing|edits)\\b", "ed"),
+    CHECK_APPOINTMENTS("This is how to check today's appointments!\n"
+            + "Command: today\n"
+            + "Usage: Shows all clients with appointments scheduled for today.\n"
+            + "For general listings, you may consider:\n"
+            + "• showlistings - Displays all listings\n"
+            + "• showclients - Displays all clients.",
+            "\\b(list|show|view|see|check|today's)\\b.*appointments?\\b", "appointment"),
+    SHOW("It seems you want to show something.\n"
+            + "Can you specify which you are referring to?\n"
+            + "• Show clients - showclients\n"
+            + "• Show listings - showlistings\n"
+            + "• Show today's appointments - today\n",
+            "\\b(s+h+o+w+|display|view)\\b"),
+    MORE_INFO("This is how to view more information about a client!\n"
+            + "Command: moreinfo {index}\n"
+            + "Example: moreinfo 1\n"
+            + "Opens a window displaying detailed information about the specified client.",
+            "\\b(m+o+r+e+\\s*i+n+f+o+|i+n+f+o+|v+i+e+w+\\s*d+e+t+a+i+l+s*)\\b"),
+    CLEAR("It seems you want to clear some data.\n"
+            + "Can you specify which you are referring to?\n"
+            + "• Clear all client data and listings - clear\n"
+            + "• Clear only listings - clearlistings",
+            "\\b(c+l+e+a+r+|reset|wipe)\\b"),
+    HELP("Sure! What do you need help with?",
+            "\\bh+e+l+p+\\b", "lp"),
+    UNKNOWN("I'm sorry, I didn't understand that. Can you please \n"
+            + "rephrase?",
+            null);
+
+    private final String response;
+    private final Pattern pattern;
+    private final String[] requiredFragments;
+
+    ChatIntent(String response, String regex, String... requiredFragments) {
+        this.response = response;
+        this.pattern = regex == null ? null : Pattern.compile(regex);
+        this.requiredFragments = requiredFragments;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    /**
+     * Returns true if {@code message}, in lower case and trimmed, is about this intent.
+     * {@link #UNKNOWN} matches every message.
+     */
+    boolean matches(String message) {
+        if (pattern == null) {
+            return true;
+        }
+        for (String fragment : requiredFragments) {
+            if (!message.contains(fragment)) {
+                return false;
+            }
+        }
+        return pattern.matcher(message).find();
+    }
+
+    /**
+     * Returns the regex matching the messages about this intent, or null for {@link #UNKNOWN}.
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.chat;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/**
+ * Classifies the messages sent to the chat assistant by the {@link ChatIntent} they are about.
+ */
+public class ChatIntentClassifier {
+
+    private static final ChatIntent[] INTENTS_BY_PRECEDENCE = ChatIntent.values();
+
+    /**
+     * Returns the first intent, in order of precedence, that {@code message} is about, ignoring case and
+     * surrounding whitespace, or {@link ChatIntent#UNKNOWN} if it is about none of them.
+     */
+    public static ChatIntent classify(String message) {
+        String normalizedMessage = normalize(message);
+        for (ChatIntent intent : INTENTS_BY_PRECEDENCE) {
+            if (intent.matches(normalizedMessage)) {
+                return intent;
+            }
+        }
+        return ChatIntent.UNKNOWN;
+    }
+
+    /**
+     * Returns true if {@code message} is about {@code intent}, ignoring case and surrounding whitespace, even if
+     * it is classified as an intent of higher precedence.
+     */
+    public static boolean isAbout(String message, ChatIntent intent) {
+        requireNonNull(intent);
+        return intent.matches(normalize(message));
+    }
+
+    private static String normalize(String message) {
+        requireNonNull(message);
+        return message.toLowerCase(Locale.ROOT).trim();
+    }
+}
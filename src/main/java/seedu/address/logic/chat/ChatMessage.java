@@ -0,0 +1,88 @@
+package seedu.address.logic.chat;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a message in the chat with the assistant.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class ChatMessage {
+
+    /**
+     * Represents who sent a message, with the name the message is shown under.
+     */
+    public enum Sender {
+        USER("You"),
+        ASSISTANT("Assistant");
+
+        private final String displayName;
+
+        Sender(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private final Sender sender;
+    private final String text;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ChatMessage(Sender sender, String text) {
+        requireNonNull(sender);
+        requireNonNull(text);
+        this.sender = sender;
+        this.text = text;
+    }
+
+    public Sender getSender() {
+        return sender;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the message as shown in the chat, after the name of its sender.
+     */
+    public String getDisplayText() {
+        return sender.getDisplayName() + ": " + text;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChatMessage)) {
+            return false;
+        }
+
+        ChatMessage otherMessage = (ChatMessage) other;
+        return sender == otherMessage.sender && text.equals(otherMessage.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sender, text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sender", sender)
+                .add("text", text)
+                .toString();
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.chat;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The messages of a chat with the assistant, of which only the latest are kept so that a long chat takes up
+ * bounded memory.
+ *
+ * The messages are an observable list, so that a list view shows each message added without redrawing the rest.
+ */
+public class ChatTranscript {
+
+    public static final int DEFAULT_CAPACITY = 500;
+
+    public static final String MESSAGE_INVALID_CAPACITY = "The capacity of a chat transcript must be positive.";
+
+    private final int capacity;
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+    private final ObservableList<ChatMessage> unmodifiableMessages =
+            FXCollections.unmodifiableObservableList(messages);
+
+    /**
+     * Creates an empty transcript keeping at most {@code capacity} messages.
+     */
+    public ChatTranscript(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds {@code message} after the other messages, dropping the oldest messages beyond the capacity.
+     */
+    public void add(ChatMessage message) {
+        requireNonNull(message);
+        if (messages.size() >= capacity) {
+            messages.remove(0, messages.size() - capacity + 1);
+        }
+        messages.add(message);
+    }
+
+    /**
+     * Returns the messages, oldest first, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<ChatMessage> getMessages() {
+        return unmodifiableMessages;
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
 
 /**
  * Represents the result of a command execution.
@@ -25,6 +26,9 @@ public class CommandResult {
     /** The application will show list of all clients. */
     private final boolean showClients;
 
+    /** The client whose information should be shown in a separate window, or null if there is none. */
+    private final Person moreInfoPerson;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -35,6 +39,20 @@ public class CommandResult {
         this.exit = exit;
         this.showListings = showListings;
         this.showClients = showClients;
+        this.moreInfoPerson = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that shows the information of
+     * {@code moreInfoPerson}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Person moreInfoPerson) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showListings = false;
+        this.showClients = false;
+        this.moreInfoPerson = requireNonNull(moreInfoPerson);
     }
 
     /**
@@ -66,6 +84,14 @@ public class CommandResult {
         return showClients;
     }
 
+    public boolean isShowMoreInfo() {
+        return moreInfoPerson != null;
+    }
+
+    public Person getMoreInfoPerson() {
+        return moreInfoPerson;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -84,13 +110,15 @@ public class CommandResult {
         boolean hasSameExit = exit == otherCommandResult.exit;
         boolean hasSameShowListings = showListings == otherCommandResult.showListings;
         boolean hasSameShowClients = showClients == otherCommandResult.showClients;
+        boolean hasSameMoreInfoPerson = Objects.equals(moreInfoPerson, otherCommandResult.moreInfoPerson);
 
-        return hasSameFeedBackToUser && hasSameShowHelp && hasSameExit && hasSameShowListings && hasSameShowClients;
+        return hasSameFeedBackToUser && hasSameShowHelp && hasSameExit && hasSameShowListings && hasSameShowClients
+                && hasSameMoreInfoPerson;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showListings, showClients);
+        return Objects.hash(feedbackToUser, showHelp, exit, showListings, showClients, moreInfoPerson);
     }
 
     @Override
@@ -101,6 +129,7 @@ public class CommandResult {
                 .add("exit", exit)
                 .add("showListings", showListings)
                 .add("showClients", showClients)
+                .add("moreInfoPerson", moreInfoPerson)
                 .toString();
     }
 
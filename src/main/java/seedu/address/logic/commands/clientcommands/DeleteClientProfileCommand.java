@@ -12,9 +12,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Role;
 import seedu.address.ui.ConfirmationDialog;
 
 /**
@@ -60,7 +58,7 @@ public class DeleteClientProfileCommand extends Command {
 
         Person personToDelete = lastShownList.get(zeroBased);
         checkUserConfirmation(model, skipConfirmation, personToDelete);
-        removeAllRelatedListings(model, personToDelete, personToDelete.getRole());
+        removeAllRelatedListings(model, personToDelete);
 
         model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
@@ -80,21 +78,8 @@ public class DeleteClientProfileCommand extends Command {
         }
     }
 
-    private void removeAllRelatedListings(Model model, Person personToDelete, Role role) {
-        if (role.equals(Role.BUYER)) {
-            model.getListings().getListingList()
-                    .forEach(listing -> listing.removeBuyer(personToDelete));
-
-        } else if (role.equals(Role.SELLER)) {
-            List<Listing> listingsToDelete = model.getListings().getListingList().stream()
-                    .filter(listing -> listing.getSeller().equals(personToDelete))
-                    .toList();
-
-            for (Listing listing : listingsToDelete) {
-                model.deleteListing(listing);
-            }
-        }
-
+    private void removeAllRelatedListings(Model model, Person personToDelete) {
+        model.removeClientFromListings(personToDelete);
         model.updateFilteredListingList(listing -> true);
     }
 
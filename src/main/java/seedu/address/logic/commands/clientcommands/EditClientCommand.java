@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -92,9 +91,6 @@ public class EditClientCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         model.updateListingsAfterClientEdit(personToEdit, editedPerson);
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.updateFilteredListingList(listing -> true);
-
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -111,15 +107,16 @@ public class EditClientCommand extends Command {
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        // edit command does not allow editing appointments
-        Appointment updatedAppointment = personToEdit.getAppointment();
+        // edit command does not allow editing appointments or remarks
+        List<Appointment> updatedAppointments = personToEdit.getAppointments();
+        String updatedRemark = personToEdit.getRemark();
 
         if (role.equals(Role.BUYER)) {
             return new Buyer(updatedName, updatedPhone, updatedEmail,
-                    updatedTags, updatedAppointment);
+                    updatedTags, updatedAppointments, updatedRemark);
         } else {
             return new Seller(updatedName, updatedPhone, updatedEmail,
-                    updatedTags, updatedAppointment);
+                    updatedTags, updatedAppointments, updatedRemark);
         }
     }
 
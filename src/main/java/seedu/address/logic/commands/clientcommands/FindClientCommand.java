@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.clientcommands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -11,7 +12,8 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. In fuzzy mode, keywords match the starts of words allowing for typos, and
+ * the persons found are ordered by the number of typos.
  */
 public class FindClientCommand extends Command {
 
@@ -19,8 +21,11 @@ public class FindClientCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + PREFIX_FUZZY + ", finds all persons with a word in their names that starts with any of "
+            + "the keywords, allowing for typos, and lists the closest matches first.\n"
+            + "Parameters: [" + PREFIX_FUZZY + "]KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FUZZY + "alce ber";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -31,7 +36,7 @@ public class FindClientCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate);
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
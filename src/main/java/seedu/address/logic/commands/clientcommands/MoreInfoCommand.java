@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.clientcommands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 
@@ -11,8 +12,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Person;
-import seedu.address.ui.MoreInfoWindow;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Seller;
 
 /**
  * Represents a command that opens a window to display more information
@@ -56,10 +59,26 @@ public class MoreInfoCommand extends Command {
 
         CommandUtils.handleInvalidPersonIndex(zeroBased, lastShownList.size());
         Person personMoreInfo = lastShownList.get(zeroBased);
+        return new CommandResult(SHOWING_MORE_INFO_MESSAGE, personMoreInfo);
+    }
+
+    /**
+     * Replaces {@code person} in {@code model} with a copy of it that has {@code remark} as its remark,
+     * and updates the listings that {@code person} is in to match.
+     *
+     * @return the person that replaced {@code person}.
+     */
+    public static Person updateRemark(Model model, Person person, String remark) {
+        requireAllNonNull(model, person, remark);
+        Person editedPerson = person.getRole().equals(Role.BUYER)
+                ? new Buyer(person.getName(), person.getPhone(), person.getEmail(), person.getTags(),
+                        person.getAppointments(), remark)
+                : new Seller(person.getName(), person.getPhone(), person.getEmail(), person.getTags(),
+                        person.getAppointments(), remark);
 
-        MoreInfoWindow moreInfoWindow = new MoreInfoWindow(personMoreInfo);
-        moreInfoWindow.show();
-        return new CommandResult(SHOWING_MORE_INFO_MESSAGE);
+        model.setPerson(person, editedPerson);
+        model.updateListingsAfterClientEdit(person, editedPerson);
+        return editedPerson;
     }
 
     @Override
@@ -4,9 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
@@ -18,9 +19,9 @@ import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 
 /**
- * Adds or updates an appointment for a specified person in the address book.
+ * Adds an appointment to the appointments of a specified person in the address book.
  * The person is identified by their index in the displayed list.
- * The new appointment will overwrite any existing appointment for that person.
+ * The appointment is still added if it overlaps other appointments, but the user is told whose they are.
  */
 public class AddAppointmentCommand extends Command {
 
@@ -28,7 +29,7 @@ public class AddAppointmentCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds an appointment to a client "
             + "identified by the index number used in the displayed person list. "
-            + "Existing appointment will be overwritten with the new appointment. \n"
+            + "The client's existing appointments are kept. \n"
             + "Parameters: INDEX (must be a positive integer) "
             + PREFIX_DATE + " [DATE in ddMMyy] "
             + PREFIX_FROM + " [FROM] "
@@ -38,8 +39,9 @@ public class AddAppointmentCommand extends Command {
 
     public static final String MESSAGE_ADD_APPOINTMENT_SUCCESS = "Appointment scheduled for %1$s on:\n"
                                                                     + "%2$s";
-    public static final String MESSAGE_UPDATE_APPOINTMENT_SUCCESS = "Updated appointment scheduled for %1$s on:\n"
-                                                                    + "%2$s";
+    public static final String MESSAGE_DUPLICATE_APPOINTMENT = "%1$s already has this appointment";
+    public static final String MESSAGE_OVERLAPPING_APPOINTMENTS =
+            "\nNote: this overlaps with the appointment(s) of %1$s";
     public static final String MESSAGE_INVALID_PERIOD =
             "Invalid from and to timings! From timing cannot be after to timing.";
 
@@ -50,7 +52,7 @@ public class AddAppointmentCommand extends Command {
      * Constructs an {@code AppointmentCommand} with the specified index and appointment details.
      *
      * @param index The index of the person in the filtered person list.
-     * @param appointment The new appointment to be added or updated.
+     * @param appointment The new appointment to be added.
      */
     public AddAppointmentCommand(Index index, Appointment appointment) {
         requireNonNull(index);
@@ -60,11 +62,11 @@ public class AddAppointmentCommand extends Command {
     }
 
     /**
-     * Executes the command to add or update the appointment for the specified person.
+     * Executes the command to add the appointment to the appointments of the specified person.
      *
      * @param model The model which contains the list of persons and handles command execution.
      * @return The result of executing the command.
-     * @throws CommandException If the index is invalid or the person cannot be found.
+     * @throws CommandException If the index is invalid or the person already has the appointment.
      */
     public CommandResult execute(Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
@@ -73,26 +75,25 @@ public class AddAppointmentCommand extends Command {
         CommandUtils.handleInvalidPersonIndex(zeroBased, lastShownList.size());
 
         Person personToEdit = lastShownList.get(zeroBased);
-        Person editedPerson =
-                AppointmentCommandsUtil.createPersonWithAppointment(personToEdit, personToEdit.getRole(), appointment);
-
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        return new CommandResult(generateSuccessMessage(editedPerson));
-    }
+        if (personToEdit.getAppointments().contains(appointment)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_APPOINTMENT, personToEdit.getName()));
+        }
 
+        List<Appointment> updatedAppointments = new ArrayList<>(personToEdit.getAppointments());
+        updatedAppointments.add(appointment);
+        Person editedPerson = AppointmentCommandsUtil.createPersonWithAppointments(personToEdit,
+                personToEdit.getRole(), updatedAppointments);
+        String overlappingNames = model.getPersonsWithAppointmentsOverlapping(appointment).stream()
+                .map(person -> person.getName().toString())
+                .collect(Collectors.joining(", "));
 
+        model.setPerson(personToEdit, editedPerson);
 
-    /**
-     * Generates a command execution success message based on whether the remark is added to or removed from
-     * {@code personToEdit}.
-     */
-    private String generateSuccessMessage(Person personToEdit) {
-        String message = personToEdit.hasAppointment()
-                ? MESSAGE_ADD_APPOINTMENT_SUCCESS
-                : MESSAGE_UPDATE_APPOINTMENT_SUCCESS;
-        return String.format(message, personToEdit.getName(), appointment);
+        String message = String.format(MESSAGE_ADD_APPOINTMENT_SUCCESS, editedPerson.getName(), appointment);
+        if (!overlappingNames.isEmpty()) {
+            message += String.format(MESSAGE_OVERLAPPING_APPOINTMENTS, overlappingNames);
+        }
+        return new CommandResult(message);
     }
 
     @Override
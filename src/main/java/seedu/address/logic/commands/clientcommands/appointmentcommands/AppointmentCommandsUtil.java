@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.clientcommands.appointmentcommands;
 
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
@@ -18,25 +19,27 @@ import seedu.address.model.tag.Tag;
 public class AppointmentCommandsUtil {
 
     /**
-     * Creates a new Person with the specified appointment.
+     * Creates a new Person with the specified appointments.
      * If the role is a BUYER, a Buyer object is created; if the role is a SELLER, a Seller object is created.
      *
      * @param personToEdit the original person to base the new person on
      * @param role the role of the person, either BUYER or SELLER
-     * @param appointment the appointment to associate with the new person
-     * @return a new Person object (either Buyer or Seller) with the specified appointment
+     * @param appointments the appointments of the new person, replacing those of the original person
+     * @return a new Person object (either Buyer or Seller) with the specified appointments
      */
-    public static Person createPersonWithAppointment(Person personToEdit, Role role, Appointment appointment) {
+    public static Person createPersonWithAppointments(Person personToEdit, Role role,
+                                                      List<Appointment> appointments) {
 
         Name name = personToEdit.getName();
         Phone phone = personToEdit.getPhone();
         Email email = personToEdit.getEmail();
         Set<Tag> tags = personToEdit.getTags();
+        String remark = personToEdit.getRemark();
 
         if (role.equals(Role.BUYER)) {
-            return new Buyer(name, phone, email, tags, appointment);
+            return new Buyer(name, phone, email, tags, appointments, remark);
         } else {
-            return new Seller(name, phone, email, tags, appointment);
+            return new Seller(name, phone, email, tags, appointments, remark);
         }
     }
 }
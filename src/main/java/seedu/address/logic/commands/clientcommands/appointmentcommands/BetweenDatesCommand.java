@@ -0,0 +1,61 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+
+/**
+ * Lists all persons with appointments from a start date to an end date, inclusive, in the address book to the user.
+ */
+public class BetweenDatesCommand extends ListAppointmentsCommand {
+    public static final String COMMAND_WORD = "between";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the clients with appointments from the start date to the end date, inclusive.\n"
+            + "Parameters: "
+            + PREFIX_FROM + "START_DATE (dd-MM-yy) "
+            + PREFIX_TO + "END_DATE (dd-MM-yy)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "01-11-24 "
+            + PREFIX_TO + "15-11-24";
+
+    private final HasAppointmentBetweenPredicate predicate;
+
+    /**
+     * Creates a {@code BetweenDatesCommand} listing the persons matched by {@code predicate}.
+     */
+    public BetweenDatesCommand(HasAppointmentBetweenPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    protected HasAppointmentBetweenPredicate createPredicate(LocalDate today) {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof BetweenDatesCommand otherCommand)) {
+            return false;
+        }
+
+        return predicate.equals(otherCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
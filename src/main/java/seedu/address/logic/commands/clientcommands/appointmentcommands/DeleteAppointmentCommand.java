@@ -2,7 +2,9 @@ package seedu.address.logic.commands.clientcommands.appointmentcommands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,41 +14,68 @@ import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a client's appointment identified by the client's name.
- * The name must correspond to a person in the current list of persons.
+ * Deletes the appointments of a client identified by the index number used in the displayed person list.
+ * Either every appointment of the client is deleted, or only the appointment on the given date starting at the
+ * given time.
  */
 public class DeleteAppointmentCommand extends Command {
     public static final String COMMAND_WORD = "deleteapt";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the appointment identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1 ";
+            + ": Deletes the appointments of the client identified by the index number used in the displayed "
+            + "person list. If the date and start time are given, only the appointment on that date starting at "
+            + "that time is deleted.\n"
+            + "Parameters: INDEX (must be a positive integer) [d/DATE fr/FROM]\n"
+            + "Example: " + COMMAND_WORD + " 1 d/20-12-24 fr/0800";
 
     public static final String MESSAGE_DELETE_APPOINTMENT_SUCCESS = "Successfully deleted appointment from %1$s";
+    public static final String MESSAGE_APPOINTMENT_NOT_FOUND = "%1$s has no appointment on %2$s from %3$s";
 
     private final Index targetIndex;
+    private final Date date;
+    private final From from;
 
     /**
-     * Creates a {@code DeleteAppointmentCommand} to delete the appointment of the person with the specified
-     * {@code Name}.
+     * Creates a {@code DeleteAppointmentCommand} to delete every appointment of the person at {@code targetIndex}.
      *
-     * @param targetIndex The index of the person whose appointment will be deleted.
+     * @param targetIndex The index of the person whose appointments will be deleted.
      */
     public DeleteAppointmentCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+        this.date = null;
+        this.from = null;
+    }
+
+    /**
+     * Creates a {@code DeleteAppointmentCommand} to delete the appointment of the person at {@code targetIndex}
+     * on {@code date} starting at {@code from}.
+     *
+     * @param targetIndex The index of the person whose appointment will be deleted.
+     * @param date The date of the appointment.
+     * @param from The start time of the appointment.
+     */
+    public DeleteAppointmentCommand(Index targetIndex, Date date, From from) {
+        requireNonNull(targetIndex);
+        requireNonNull(date);
+        requireNonNull(from);
         this.targetIndex = targetIndex;
+        this.date = date;
+        this.from = from;
     }
 
     /**
-     * Executes the command to delete the appointment of the person identified by the {@code targetIndex}.
-     * If the person is found in the filtered list of persons, the appointment is set to an empty {@code Appointment}.
+     * Executes the command to delete the appointments of the person identified by the {@code targetIndex}.
      *
      * @param model The model which contains the list of persons.
      * @return The result of the command execution.
-     * @throws CommandException If the person cannot be found in the filtered list.
+     * @throws CommandException If the person cannot be found in the filtered list, or does not have the
+     *     appointment to delete.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -57,10 +86,19 @@ public class DeleteAppointmentCommand extends Command {
         CommandUtils.handleInvalidPersonIndex(zeroBased, lastShownList.size());
 
         Person personToDeleteAppointment = lastShownList.get(zeroBased);
-        Person personWithoutAppointment = AppointmentCommandsUtil
-                .createPersonWithAppointment(personToDeleteAppointment,
-                        personToDeleteAppointment.getRole(),
-                        Appointment.EMPTY_APPOINTMENT);
+        List<Appointment> remainingAppointments = new ArrayList<>();
+        if (date != null) {
+            remainingAppointments.addAll(personToDeleteAppointment.getAppointments());
+            boolean isDeleted = remainingAppointments.removeIf(appointment ->
+                    appointment.getDate().equals(date) && appointment.getFrom().equals(from));
+            if (!isDeleted) {
+                throw new CommandException(String.format(MESSAGE_APPOINTMENT_NOT_FOUND,
+                        personToDeleteAppointment.getName(), date, from));
+            }
+        }
+
+        Person personWithoutAppointment = AppointmentCommandsUtil.createPersonWithAppointments(
+                personToDeleteAppointment, personToDeleteAppointment.getRole(), remainingAppointments);
 
         model.setPerson(personToDeleteAppointment, personWithoutAppointment);
 
@@ -80,13 +118,17 @@ public class DeleteAppointmentCommand extends Command {
         }
 
         DeleteAppointmentCommand otherDeleteAppointmentCommand = (DeleteAppointmentCommand) other;
-        return targetIndex.equals(otherDeleteAppointmentCommand.targetIndex);
+        return targetIndex.equals(otherDeleteAppointmentCommand.targetIndex)
+                && Objects.equals(date, otherDeleteAppointmentCommand.date)
+                && Objects.equals(from, otherDeleteAppointmentCommand.from);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("targetIndex", targetIndex.getOneBased())
+                .add("date", date)
+                .add("from", from)
                 .toString();
     }
 }
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Lists the periods within a given period of a day that are not taken up by the appointment of any person.
+ */
+public class FreeSlotsCommand extends Command {
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the free slots on a day, between the appointments of all clients.\n"
+            + "Parameters: "
+            + PREFIX_DATE + "DATE (dd-MM-yy) "
+            + "[" + PREFIX_FROM + "FROM] "
+            + "[" + PREFIX_TO + "TO]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "20-12-24 "
+            + PREFIX_FROM + "0900 "
+            + PREFIX_TO + "1800";
+
+    public static final String DEFAULT_FROM = "0000";
+    public static final String DEFAULT_TO = "2359";
+
+    public static final String MESSAGE_FREE_SLOTS = "Free slots on %1$s from %2$s to %3$s:\n%4$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "You have no free slots on %1$s from %2$s to %3$s";
+    public static final String FREE_SLOT_FORMAT = "%1$s to %2$s";
+
+    private final Appointment period;
+
+    /**
+     * Creates a {@code FreeSlotsCommand} listing the free slots within {@code period}.
+     */
+    public FreeSlotsCommand(Appointment period) {
+        requireNonNull(period);
+        this.period = period;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<String> freeSlots = new ArrayList<>();
+        LocalTime freeFrom = period.getFrom().value;
+        for (Appointment appointment : model.getAppointmentsOverlapping(period)) {
+            LocalTime start = appointment.getFrom().value;
+            if (start.isAfter(freeFrom)) {
+                freeSlots.add(formatSlot(freeFrom, start));
+            }
+            if (appointment.getTo().value.isAfter(freeFrom)) {
+                freeFrom = appointment.getTo().value;
+            }
+        }
+        LocalTime end = period.getTo().value;
+        if (end.isAfter(freeFrom)) {
+            freeSlots.add(formatSlot(freeFrom, end));
+        }
+
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, period.getDate(), period.getFrom(),
+                    period.getTo()));
+        }
+        return new CommandResult(String.format(MESSAGE_FREE_SLOTS, period.getDate(), period.getFrom(),
+                period.getTo(), String.join("\n", freeSlots)));
+    }
+
+    private static String formatSlot(LocalTime from, LocalTime to) {
+        return String.format(FREE_SLOT_FORMAT, from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FreeSlotsCommand otherCommand)) {
+            return false;
+        }
+
+        return period.equals(otherCommand.period);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("period", period)
+                .toString();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists all persons with appointments in a range of dates to the user.
+ * The range is worked out from the date on which the command is executed, which is read once per execution.
+ */
+public abstract class ListAppointmentsCommand extends Command {
+    public static final String MESSAGE_NO_APPOINTMENTS = "You have no appointments from %1$s to %2$s";
+
+    /**
+     * Returns the predicate matching the persons with appointments in the range of dates listed, given that the
+     * command is executed on {@code today}.
+     */
+    protected abstract HasAppointmentBetweenPredicate createPredicate(LocalDate today);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        HasAppointmentBetweenPredicate predicate = createPredicate(LocalDate.now());
+        model.updateFilteredPersonListByAppointmentDate(predicate);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        String start = Date.format(predicate.getStart());
+        String end = Date.format(predicate.getEnd());
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_APPOINTMENTS, start, end));
+        }
+
+        return new CommandResult(String.format(Messages.MESSAGE_APPOINTMENTS_BETWEEN,
+                countAppointments(lastShownList, predicate), start, end), false, false, false, false);
+    }
+
+    /**
+     * Returns the number of appointments of {@code persons} in the range of dates of {@code predicate}.
+     */
+    static int countAppointments(List<Person> persons, HasAppointmentBetweenPredicate predicate) {
+        return persons.stream().mapToInt(predicate::countAppointments).sum();
+    }
+}
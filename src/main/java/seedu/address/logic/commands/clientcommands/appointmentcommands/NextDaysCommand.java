@@ -0,0 +1,56 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+
+/**
+ * Lists all persons with appointments in the next given number of days, starting today, in the address book to
+ * the user.
+ */
+public class NextDaysCommand extends ListAppointmentsCommand {
+    public static final String COMMAND_WORD = "nextdays";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the clients with appointments in the given number of days, starting today.\n"
+            + "Parameters: DAYS (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    private final int days;
+
+    /**
+     * Creates a {@code NextDaysCommand} listing the appointments in the next {@code days} days.
+     *
+     * @param days The number of days listed, which must be positive.
+     */
+    public NextDaysCommand(int days) {
+        assert days > 0;
+        this.days = days;
+    }
+
+    @Override
+    protected HasAppointmentBetweenPredicate createPredicate(LocalDate today) {
+        return new HasAppointmentBetweenPredicate(today, today.plusDays(days - 1L));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NextDaysCommand otherCommand)) {
+            return false;
+        }
+
+        return days == otherCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
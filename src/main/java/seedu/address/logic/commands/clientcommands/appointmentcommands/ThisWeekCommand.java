@@ -0,0 +1,34 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+
+/**
+ * Lists all persons with appointments this week, from Monday to Sunday, in the address book to the user.
+ */
+public class ThisWeekCommand extends ListAppointmentsCommand {
+    public static final String COMMAND_WORD = "thisweek";
+
+    @Override
+    protected HasAppointmentBetweenPredicate createPredicate(LocalDate today) {
+        return new HasAppointmentBetweenPredicate(today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        return other instanceof ThisWeekCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
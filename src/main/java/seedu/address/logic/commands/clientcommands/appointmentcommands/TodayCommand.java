@@ -2,6 +2,7 @@ package seedu.address.logic.commands.clientcommands.appointmentcommands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,7 +11,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.HasAppointmentTodayPredicate;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,12 +21,12 @@ public class TodayCommand extends Command {
     public static final String COMMAND_WORD = "today";
     public static final String MESSAGE_NO_APPOINTMENTS_TODAY = "You have no appointments today";
 
-    private static final HasAppointmentTodayPredicate PREDICATE = new HasAppointmentTodayPredicate();
-
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE);
+        LocalDate today = LocalDate.now();
+        HasAppointmentBetweenPredicate predicate = new HasAppointmentBetweenPredicate(today, today);
+        model.updateFilteredPersonListByAppointmentDate(predicate);
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (lastShownList.isEmpty()) {
@@ -33,7 +34,7 @@ public class TodayCommand extends Command {
         }
 
         return new CommandResult(String.format(Messages.MESSAGE_TODAY_APPOINTMENTS,
-                                                lastShownList.size()),
+                                                ListAppointmentsCommand.countAppointments(lastShownList, predicate)),
                                         false, false, false, false);
     }
 
@@ -47,8 +48,6 @@ public class TodayCommand extends Command {
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("predicate", PREDICATE)
-                .toString();
+        return new ToStringBuilder(this).toString();
     }
 }
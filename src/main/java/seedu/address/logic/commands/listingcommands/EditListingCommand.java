@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_AREA;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_LISTINGS;
 
 import java.util.List;
 import java.util.Objects;
@@ -95,7 +94,6 @@ public class EditListingCommand extends Command {
         }
 
         model.setListing(listingToEdit, editedListing);
-        model.updateFilteredListingList(PREDICATE_SHOW_ALL_LISTINGS);
         return new CommandResult(String.format(MESSAGE_EDIT_LISTING_SUCCESS, Messages.format(editedListing)));
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.listingcommands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -11,7 +12,8 @@ import seedu.address.model.listing.ListingContainsKeywordsPredicate;
 
 /**
  * Finds and lists all listings in the system whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. In fuzzy mode, keywords match the starts of words in names or addresses
+ * allowing for typos, and the listings found are ordered by the number of typos.
  */
 public class FindListingCommand extends Command {
 
@@ -19,8 +21,11 @@ public class FindListingCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all listings whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " Warton Riverdale";
+            + "With " + PREFIX_FUZZY + ", finds all listings with a word in their names or addresses that starts "
+            + "with any of the keywords, allowing for typos, and lists the closest matches first.\n"
+            + "Parameters: [" + PREFIX_FUZZY + "]KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " Warton Riverdale\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FUZZY + "Wartn Rivers";
 
     private final ListingContainsKeywordsPredicate predicate;
 
@@ -31,7 +36,7 @@ public class FindListingCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredListingList(predicate);
+        model.updateFilteredListingListByName(predicate);
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_LISTINGS_LISTED_OVERVIEW, model.getFilteredListingList().size()));
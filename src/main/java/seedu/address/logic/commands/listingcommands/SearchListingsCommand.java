@@ -0,0 +1,76 @@
+package seedu.address.logic.commands.listingcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.listing.ListingSearchPredicate;
+
+/**
+ * Finds and lists all listings in the system whose price and area are within the given ranges, and which are
+ * in any of the given regions.
+ */
+public class SearchListingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "searchlistings";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all listings whose price and area are "
+            + "within the specified ranges (inclusive), and which are in any of the specified regions, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: "
+            + "[" + PREFIX_MIN_PRICE + "MIN_PRICE] "
+            + "[" + PREFIX_MAX_PRICE + "MAX_PRICE] "
+            + "[" + PREFIX_MIN_AREA + "MIN_AREA] "
+            + "[" + PREFIX_MAX_AREA + "MAX_AREA] "
+            + "[" + PREFIX_REGION + "REGION]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MIN_PRICE + "800000 "
+            + PREFIX_MAX_PRICE + "1200000 "
+            + PREFIX_MIN_AREA + "90 "
+            + PREFIX_REGION + "east "
+            + PREFIX_REGION + "northeast";
+
+    private final ListingSearchPredicate predicate;
+
+    public SearchListingsCommand(ListingSearchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredListingListBySearch(predicate);
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_LISTINGS_LISTED_OVERVIEW, model.getFilteredListingList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SearchListingsCommand)) {
+            return false;
+        }
+
+        SearchListingsCommand otherSearchListingsCommand = (SearchListingsCommand) other;
+        return predicate.equals(otherSearchListingsCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the {@code CommandStats} of the commands executed, by their command word, so that the commands that slow
+ * down as the data grows can be found.
+ */
+public class CommandMetrics {
+
+    /** The value of {@link #getCurrentThreadAllocatedBytes()} if the JVM does not count allocated bytes. */
+    public static final long ALLOCATION_UNSUPPORTED = -1;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KILOBYTE = 1024.0;
+
+    private final ConcurrentMap<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the statistics of the commands with {@code commandWord}, which are created if there are none.
+     */
+    public CommandStats getStats(String commandWord) {
+        requireNonNull(commandWord);
+        return statsByCommandWord.computeIfAbsent(commandWord, key -> new CommandStats());
+    }
+
+    /**
+     * Returns the statistics of the commands executed, by their command word, sorted by command word.
+     */
+    public Map<String, CommandStats> getAllStats() {
+        return new TreeMap<>(statsByCommandWord);
+    }
+
+    /**
+     * Returns the number of commands executed.
+     */
+    public long getCount() {
+        return statsByCommandWord.values().stream().mapToLong(CommandStats::getCount).sum();
+    }
+
+    /**
+     * Returns the statistics of the commands executed, with a line for each command word, sorted by command word.
+     * Times are in milliseconds and allocations in kilobytes, each given as the median, the 95th percentile and
+     * the maximum. Commands that failed to execute are included, but are not saved.
+     */
+    public String getSummary() {
+        Map<String, CommandStats> allStats = getAllStats();
+        if (allStats.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringJoiner summary = new StringJoiner("\n",
+                "Command statistics (median / 95th percentile / max, in ms and KB):\n", "");
+        allStats.forEach((commandWord, stats) -> {
+            StringJoiner line = new StringJoiner(", ", commandWord + " x" + stats.getCount() + ": ", "");
+            line.add("parse " + describe(stats.getParseNanos(), NANOS_PER_MILLI));
+            if (stats.getExecuteNanos().getCount() > 0) {
+                line.add("execute " + describe(stats.getExecuteNanos(), NANOS_PER_MILLI));
+            }
+            stats.getSaveNanosByStore().forEach((store, saveNanos) ->
+                    line.add("save " + store + " " + describe(saveNanos, NANOS_PER_MILLI)));
+            if (stats.getAllocatedBytes().getCount() > 0) {
+                line.add("allocated " + describe(stats.getAllocatedBytes(), BYTES_PER_KILOBYTE));
+            }
+            summary.add(line.toString());
+        });
+        return summary.toString();
+    }
+
+    private static String describe(Histogram histogram, double unit) {
+        return String.format(Locale.ROOT, "%.2f / %.2f / %.2f", histogram.getPercentile(50) / unit,
+                histogram.getPercentile(95) / unit, histogram.getMax() / unit);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread since it started, or
+     * {@link #ALLOCATION_UNSUPPORTED} if the JVM does not count them.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        if (!(THREAD_BEAN instanceof com.sun.management.ThreadMXBean)) {
+            return ALLOCATION_UNSUPPORTED;
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) THREAD_BEAN;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return ALLOCATION_UNSUPPORTED;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
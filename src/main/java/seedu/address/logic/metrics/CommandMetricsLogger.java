@@ -0,0 +1,61 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Logs the statistics of the commands executed periodically on a background thread, whenever more commands have
+ * been executed since they were last logged.
+ */
+public class CommandMetricsLogger {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetricsLogger.class);
+
+    private final CommandMetrics commandMetrics;
+    private final ScheduledExecutorService executor;
+    private long loggedCount;
+
+    /**
+     * Creates a {@code CommandMetricsLogger} that logs the statistics in {@code commandMetrics} every
+     * {@code intervalSeconds}, which must be positive.
+     */
+    public CommandMetricsLogger(CommandMetrics commandMetrics, long intervalSeconds) {
+        requireNonNull(commandMetrics);
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval " + intervalSeconds + " is not positive");
+        }
+        this.commandMetrics = commandMetrics;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::logIfChanged, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Logs the statistics if more commands have been executed since they were last logged.
+     */
+    synchronized void logIfChanged() {
+        long count = commandMetrics.getCount();
+        if (count == loggedCount) {
+            return;
+        }
+        loggedCount = count;
+        logger.info(commandMetrics.getSummary());
+    }
+
+    /**
+     * Stops logging the statistics periodically, after logging them one last time if they changed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        logIfChanged();
+    }
+}
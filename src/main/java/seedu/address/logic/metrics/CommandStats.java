@@ -0,0 +1,66 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The statistics of the commands executed with a command word: how long they took to be parsed, to be executed
+ * and to be saved to each store, and how many bytes were allocated while they ran.
+ */
+public class CommandStats {
+
+    private final Histogram parseNanos = new Histogram();
+    private final Histogram executeNanos = new Histogram();
+    private final ConcurrentMap<String, Histogram> saveNanosByStore = new ConcurrentHashMap<>();
+    private final Histogram allocatedBytes = new Histogram();
+
+    public void recordParse(long nanos) {
+        parseNanos.record(nanos);
+    }
+
+    public void recordExecute(long nanos) {
+        executeNanos.record(nanos);
+    }
+
+    /**
+     * Records that saving to the store named {@code store} took {@code nanos}.
+     */
+    public void recordSave(String store, long nanos) {
+        requireNonNull(store);
+        saveNanosByStore.computeIfAbsent(store, key -> new Histogram()).record(nanos);
+    }
+
+    public void recordAllocation(long bytes) {
+        allocatedBytes.record(bytes);
+    }
+
+    /**
+     * Returns the number of commands executed, which is the number of times they were parsed.
+     */
+    public long getCount() {
+        return parseNanos.getCount();
+    }
+
+    public Histogram getParseNanos() {
+        return parseNanos;
+    }
+
+    public Histogram getExecuteNanos() {
+        return executeNanos;
+    }
+
+    /**
+     * Returns the time taken to save to each store, by the name of the store, sorted by name.
+     */
+    public Map<String, Histogram> getSaveNanosByStore() {
+        return new TreeMap<>(saveNanosByStore);
+    }
+
+    public Histogram getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts non-negative values, such as durations in nanoseconds or sizes in bytes, in buckets, so that their
+ * percentiles are found without keeping every value.
+ *
+ * Each power of two is split into {@value #SUB_BUCKETS} buckets of equal width, so a percentile is within an
+ * eighth of the value it estimates. Values are recorded without locking, so a histogram can be recorded to by
+ * several threads while it is read, and a read may miss the values being recorded at the time.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records {@code value}, or 0 if it is negative.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        bucketCounts.incrementAndGet(bucketOf(recorded));
+        count.increment();
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns an estimate of the value below which {@code percentile} percent of the values recorded are, which
+     * is the largest value in its bucket but at most the largest value recorded, or 0 if none were recorded.
+     *
+     * @param percentile between 0 and 100.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile " + percentile + " is not between 0 and 100");
+        }
+
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += bucketCounts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(largestValueOf(bucket), getMax());
+            }
+        }
+        // The values being recorded were counted in the total but not yet in their buckets
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket of {@code value}. Values below {@value #SUB_BUCKETS} each have their own bucket, and
+     * larger values are bucketed by their highest bit and the {@value #SUB_BUCKET_BITS} bits after it.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value in {@code bucket}.
+     */
+    static long largestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int highestBit = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int shift = highestBit - SUB_BUCKET_BITS;
+        long smallestValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return smallestValue + (1L << shift) - 1;
+    }
+}
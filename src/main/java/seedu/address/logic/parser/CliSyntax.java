@@ -7,6 +7,7 @@ public class CliSyntax {
 
     /* Prefix definitions */
     public static final Prefix PREFIX_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fz/");
 
     //=========== Client Command Prefixes =============================================================
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
@@ -23,5 +24,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_REGION = new Prefix("reg/");
     public static final Prefix PREFIX_SELLER = new Prefix("sel/");
     public static final Prefix PREFIX_BUYER = new Prefix("buy/");
+    public static final Prefix PREFIX_MIN_PRICE = new Prefix("minpr/");
+    public static final Prefix PREFIX_MAX_PRICE = new Prefix("maxpr/");
+    public static final Prefix PREFIX_MIN_AREA = new Prefix("minar/");
+    public static final Prefix PREFIX_MAX_AREA = new Prefix("maxar/");
 
 }
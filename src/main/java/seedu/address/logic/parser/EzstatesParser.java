@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -13,6 +14,7 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.clientcommands.AddBuyerProfileCommand;
 import seedu.address.logic.commands.clientcommands.AddSellerProfileCommand;
 import seedu.address.logic.commands.clientcommands.DeleteClientProfileCommand;
@@ -21,7 +23,11 @@ import seedu.address.logic.commands.clientcommands.FindClientCommand;
 import seedu.address.logic.commands.clientcommands.MoreInfoCommand;
 import seedu.address.logic.commands.clientcommands.ShowClientsCommand;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.AddAppointmentCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.BetweenDatesCommand;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.DeleteAppointmentCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.FreeSlotsCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.NextDaysCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.ThisWeekCommand;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.TodayCommand;
 import seedu.address.logic.commands.listingcommands.AddBuyersToListingCommand;
 import seedu.address.logic.commands.listingcommands.AddListingCommand;
@@ -30,14 +36,19 @@ import seedu.address.logic.commands.listingcommands.DeleteListingCommand;
 import seedu.address.logic.commands.listingcommands.EditListingCommand;
 import seedu.address.logic.commands.listingcommands.FindListingCommand;
 import seedu.address.logic.commands.listingcommands.RemoveBuyersFromListingCommand;
+import seedu.address.logic.commands.listingcommands.SearchListingsCommand;
 import seedu.address.logic.commands.listingcommands.ShowListingsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.clientcommandparsers.AddClientProfileParser;
 import seedu.address.logic.parser.clientcommandparsers.DeleteClientProfileCommandParser;
 import seedu.address.logic.parser.clientcommandparsers.EditClientCommandParser;
 import seedu.address.logic.parser.clientcommandparsers.FindClientCommandParser;
 import seedu.address.logic.parser.clientcommandparsers.MoreInfoCommandParser;
 import seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers.AddAppointmentCommandParser;
+import seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers.BetweenDatesCommandParser;
 import seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers.DeleteAppointmentCommandParser;
+import seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers.FreeSlotsCommandParser;
+import seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers.NextDaysCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.listingcommandparsers.AddBuyersToListingCommandParser;
 import seedu.address.logic.parser.listingcommandparsers.AddListingCommandParser;
@@ -45,6 +56,7 @@ import seedu.address.logic.parser.listingcommandparsers.DeleteListingCommandPars
 import seedu.address.logic.parser.listingcommandparsers.EditListingCommandParser;
 import seedu.address.logic.parser.listingcommandparsers.FindListingsCommandParser;
 import seedu.address.logic.parser.listingcommandparsers.RemoveBuyersFromListingCommandParser;
+import seedu.address.logic.parser.listingcommandparsers.SearchListingsCommandParser;
 
 /**
  * Parses user input.
@@ -57,6 +69,22 @@ public class EzstatesParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(EzstatesParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a parser whose {@code stats} commands show no statistics, for when commands are not measured.
+     */
+    public EzstatesParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} commands show the statistics in {@code commandMetrics}.
+     */
+    public EzstatesParser(CommandMetrics commandMetrics) {
+        this.commandMetrics = requireNonNull(commandMetrics);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -111,6 +139,18 @@ public class EzstatesParser {
         case TodayCommand.COMMAND_WORD:
             return new TodayCommand();
 
+        case ThisWeekCommand.COMMAND_WORD:
+            return new ThisWeekCommand();
+
+        case NextDaysCommand.COMMAND_WORD:
+            return new NextDaysCommandParser().parse(arguments);
+
+        case BetweenDatesCommand.COMMAND_WORD:
+            return new BetweenDatesCommandParser().parse(arguments);
+
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
         // ---------------------------- Listing Commands ----------------------------
 
         case AddListingCommand.COMMAND_WORD:
@@ -131,6 +171,9 @@ public class EzstatesParser {
         case FindListingCommand.COMMAND_WORD:
             return new FindListingsCommandParser().parse(arguments);
 
+        case SearchListingsCommand.COMMAND_WORD:
+            return new SearchListingsCommandParser().parse(arguments);
+
         case ShowListingsCommand.COMMAND_WORD:
             return new ShowListingsCommand();
 
@@ -151,6 +194,9 @@ public class EzstatesParser {
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.clientcommands.appointmentcommands.BetweenDatesCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+
+/**
+ * Parses input arguments and creates a new {@code BetweenDatesCommand} object.
+ */
+public class BetweenDatesCommandParser implements Parser<BetweenDatesCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start date cannot be after the end date.";
+
+    /**
+     * Parses the given {@code String} of arguments and returns a {@code BetweenDatesCommand} object for execution.
+     *
+     * @param args User input containing the start date prefixed with "fr/" and the end date prefixed with "to/".
+     * @return A {@code BetweenDatesCommand} object.
+     * @throws ParseException If the user input does not conform to the expected format, either date is invalid or
+     *     the start date is after the end date.
+     */
+    public BetweenDatesCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BetweenDatesCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDate start = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get()).value;
+        LocalDate end = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get()).value;
+        if (start.isAfter(end)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        return new BetweenDatesCommand(new HasAppointmentBetweenPredicate(start, end));
+    }
+}
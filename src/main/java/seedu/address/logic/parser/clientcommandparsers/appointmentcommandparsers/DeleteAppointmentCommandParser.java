@@ -1,5 +1,9 @@
 package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.DeleteAppointmentCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
@@ -7,6 +11,8 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
 
 /**
  * Parses input arguments and creates a new {@code DeleteAppointmentCommand} object.
@@ -15,16 +21,33 @@ public class DeleteAppointmentCommandParser implements Parser<DeleteAppointmentC
 
     /**
      * Parses the given {@code String} of arguments and returns a {@code DeleteAppointmentCommand} object for execution.
+     * Every appointment of the client is deleted unless both the date and the start time are given.
      *
-     * @param args User input containing the client's name prefixed with "n/".
+     * @param args User input containing the client's index, and optionally the date prefixed with "d/" and the
+     *     start time prefixed with "fr/".
      * @return A {@code DeleteAppointmentCommand} object.
-     * @throws ParseException If the user input does not conform to the expected format or the name is missing.
+     * @throws ParseException If the user input does not conform to the expected format, or only one of the date and
+     *     start time is given.
      */
     public DeleteAppointmentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_FROM);
 
         Index index = ParserUtil.parseIndexWithInvalidCommandFormatMessage(argumentMultimap.getPreamble(),
                 DeleteAppointmentCommand.MESSAGE_USAGE);
-        return new DeleteAppointmentCommand(index);
+        argumentMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_FROM);
+
+        boolean hasDate = argumentMultimap.getValue(PREFIX_DATE).isPresent();
+        boolean hasFrom = argumentMultimap.getValue(PREFIX_FROM).isPresent();
+        if (!hasDate && !hasFrom) {
+            return new DeleteAppointmentCommand(index);
+        }
+        if (!hasDate || !hasFrom) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteAppointmentCommand.MESSAGE_USAGE));
+        }
+
+        Date date = ParserUtil.parseDate(argumentMultimap.getValue(PREFIX_DATE).get());
+        From from = ParserUtil.parseFrom(argumentMultimap.getValue(PREFIX_FROM).get());
+        return new DeleteAppointmentCommand(index, date, from);
     }
 }
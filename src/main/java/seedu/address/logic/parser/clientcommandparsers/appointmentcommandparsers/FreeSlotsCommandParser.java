@@ -0,0 +1,55 @@
+package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.logic.commands.clientcommands.appointmentcommands.AddAppointmentCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.FreeSlotsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+
+/**
+ * Parses input arguments and creates a new {@code FreeSlotsCommand} object.
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments and returns a {@code FreeSlotsCommand} object for execution.
+     * The free slots are looked for over the whole day unless the start or end time is given.
+     *
+     * @param args User input containing the date prefixed with "d/", and optionally the start time prefixed with
+     *     "fr/" and the end time prefixed with "to/".
+     * @return A {@code FreeSlotsCommand} object.
+     * @throws ParseException If the user input does not conform to the expected format, or the start time is after
+     *     the end time.
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_FROM, PREFIX_TO);
+
+        if (!ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_DATE) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_FROM, PREFIX_TO);
+
+        Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        From from = ParserUtil.parseFrom(argMultimap.getValue(PREFIX_FROM).orElse(FreeSlotsCommand.DEFAULT_FROM));
+        To to = ParserUtil.parseTo(argMultimap.getValue(PREFIX_TO).orElse(FreeSlotsCommand.DEFAULT_TO));
+
+        if (!Appointment.isValidPeriod(from, to)) {
+            throw new ParseException(AddAppointmentCommand.MESSAGE_INVALID_PERIOD);
+        }
+
+        return new FreeSlotsCommand(new Appointment(date, from, to));
+    }
+}
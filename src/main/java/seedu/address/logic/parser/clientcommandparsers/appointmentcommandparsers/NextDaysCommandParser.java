@@ -0,0 +1,32 @@
+package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.NextDaysCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code NextDaysCommand} object.
+ */
+public class NextDaysCommandParser implements Parser<NextDaysCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments and returns a {@code NextDaysCommand} object for execution.
+     *
+     * @param args User input containing the number of days listed.
+     * @return A {@code NextDaysCommand} object.
+     * @throws ParseException If the number of days is not a positive integer.
+     */
+    public NextDaysCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextDaysCommand.MESSAGE_USAGE));
+        }
+
+        return new NextDaysCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.listingcommandparsers;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import java.util.Arrays;
 
@@ -21,6 +22,11 @@ public class FindListingsCommandParser implements Parser<FindListingCommand> {
      */
     public FindListingCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        // Keywords following the fuzzy prefix are matched as prefixes of words, allowing for typos
+        boolean isFuzzy = trimmedArgs.startsWith(PREFIX_FUZZY.getPrefix());
+        if (isFuzzy) {
+            trimmedArgs = trimmedArgs.substring(PREFIX_FUZZY.getPrefix().length()).trim();
+        }
 
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -29,7 +35,7 @@ public class FindListingsCommandParser implements Parser<FindListingCommand> {
 
         String[] listingKeywords = trimmedArgs.split("\\s+");
 
-        return new FindListingCommand(new ListingContainsKeywordsPredicate(Arrays.asList(listingKeywords)));
+        return new FindListingCommand(new ListingContainsKeywordsPredicate(Arrays.asList(listingKeywords), isFuzzy));
     }
 
 }
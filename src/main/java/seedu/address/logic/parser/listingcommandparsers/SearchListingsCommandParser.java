@@ -0,0 +1,88 @@
+package seedu.address.logic.parser.listingcommandparsers;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.listingcommands.SearchListingsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.listing.ListingSearchPredicate;
+import seedu.address.model.listing.Region;
+
+/**
+ * Parses input arguments and creates a new SearchListingsCommand object.
+ */
+public class SearchListingsCommandParser implements Parser<SearchListingsCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The minimum %1$s cannot be more than the maximum %1$s.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchListingsCommand
+     * and returns a SearchListingsCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public SearchListingsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_MIN_PRICE, PREFIX_MAX_PRICE, PREFIX_MIN_AREA, PREFIX_MAX_AREA, PREFIX_REGION);
+
+        if (!argMultimap.getPreamble().isEmpty() || !isAnyPrefixPresent(argMultimap)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SearchListingsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MIN_PRICE, PREFIX_MAX_PRICE, PREFIX_MIN_AREA,
+                PREFIX_MAX_AREA);
+
+        BigDecimal minPrice = parsePrice(argMultimap, PREFIX_MIN_PRICE);
+        BigDecimal maxPrice = parsePrice(argMultimap, PREFIX_MAX_PRICE);
+        checkRange(minPrice, maxPrice, "price");
+        BigDecimal minArea = parseArea(argMultimap, PREFIX_MIN_AREA);
+        BigDecimal maxArea = parseArea(argMultimap, PREFIX_MAX_AREA);
+        checkRange(minArea, maxArea, "area");
+
+        Set<Region> regions = EnumSet.noneOf(Region.class);
+        for (String region : argMultimap.getAllValues(PREFIX_REGION)) {
+            regions.add(ParserUtil.parseRegion(region));
+        }
+
+        return new SearchListingsCommand(new ListingSearchPredicate(minPrice, maxPrice, minArea, maxArea, regions));
+    }
+
+    private static boolean isAnyPrefixPresent(ArgumentMultimap argMultimap) {
+        return ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_MIN_PRICE)
+                || ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_MAX_PRICE)
+                || ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_MIN_AREA)
+                || ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_MAX_AREA)
+                || ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_REGION);
+    }
+
+    private static BigDecimal parsePrice(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        Optional<String> price = argMultimap.getValue(prefix);
+        return price.isPresent() ? ParserUtil.parsePrice(price.get()).getRawValue() : null;
+    }
+
+    private static BigDecimal parseArea(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        Optional<String> area = argMultimap.getValue(prefix);
+        return area.isPresent() ? ParserUtil.parseArea(area.get()).getRawValue() : null;
+    }
+
+    private static void checkRange(BigDecimal min, BigDecimal max, String attribute) throws ParseException {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE, attribute));
+        }
+    }
+}
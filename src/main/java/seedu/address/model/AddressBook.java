@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -16,7 +22,12 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Versions come from a counter shared by all instances, so two instances with the same version have the same
+    // contents: either one is a copy of the other, or both are new and empty.
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -47,6 +59,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markChanged();
     }
 
     /**
@@ -74,6 +87,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markChanged();
     }
 
     /**
@@ -85,6 +99,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        markChanged();
     }
 
     /**
@@ -93,6 +108,45 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        markChanged();
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in this address book has a name containing any of
+     * {@code keywords}, ignoring case. The predicate stays correct as the address book changes.
+     */
+    public Predicate<Person> getNameKeywordsMatcher(List<String> keywords) {
+        return persons.getNameKeywordsMatcher(keywords);
+    }
+
+    /**
+     * Returns the persons in this address book with a word in their name that starts with any of
+     * {@code keywords}, allowing for a few typos, each mapped to the fewest typos with which it matches.
+     */
+    public Map<Person, Integer> findByFuzzyName(List<String> keywords) {
+        return persons.findByFuzzyName(keywords);
+    }
+
+    /**
+     * Returns the persons in this address book with an appointment from {@code start} to {@code end}, inclusive.
+     */
+    public Set<Person> getPersonsWithAppointmentsBetween(LocalDate start, LocalDate end) {
+        return persons.getPersonsWithAppointmentsBetween(start, end);
+    }
+
+    /**
+     * Returns the persons in this address book with an appointment overlapping {@code period}, ordered by the
+     * start of the appointment.
+     */
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment period) {
+        return persons.getPersonsWithAppointmentsOverlapping(period);
+    }
+
+    /**
+     * Returns the appointments in this address book overlapping {@code period}, ordered by their start.
+     */
+    public List<Appointment> getAppointmentsOverlapping(Appointment period) {
+        return persons.getAppointmentsOverlapping(period);
     }
 
     //// util methods
@@ -104,6 +158,15 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private void markChanged() {
+        version = lastVersion.incrementAndGet();
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
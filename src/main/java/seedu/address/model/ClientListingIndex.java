@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes listings by the identity of their seller and of each of their buyers.
+ * Clients are identified as in {@code Person#isSamePerson(Person)}, so a listing holding an outdated copy of a
+ * client is still found through the current copy.
+ *
+ * The index observes a list of listings and updates itself whenever listings are added to, replaced in or
+ * removed from that list, so lookups only touch the listings related to the given client.
+ */
+class ClientListingIndex {
+
+    private final Map<String, Set<Listing>> listingsBySeller = new HashMap<>();
+    private final Map<String, Set<Listing>> listingsByBuyer = new HashMap<>();
+
+    /**
+     * Creates an index over {@code listings} that is kept in sync with it.
+     */
+    ClientListingIndex(ObservableList<Listing> listings) {
+        requireNonNull(listings);
+        listings.forEach(this::index);
+        listings.addListener((ListChangeListener<Listing>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::unindex);
+                change.getAddedSubList().forEach(this::index);
+            }
+        });
+    }
+
+    /**
+     * Returns true if {@code seller} is the seller of at least one listing.
+     */
+    boolean hasListingsWithSeller(Person seller) {
+        return listingsBySeller.containsKey(identityKeyOf(seller));
+    }
+
+    /**
+     * Returns true if {@code buyer} is a buyer of at least one listing.
+     */
+    boolean hasListingsWithBuyer(Person buyer) {
+        return listingsByBuyer.containsKey(identityKeyOf(buyer));
+    }
+
+    /**
+     * Returns the listings sold by {@code seller}.
+     * The returned list is a snapshot, so the observed list may be modified while iterating over it.
+     */
+    List<Listing> getListingsWithSeller(Person seller) {
+        return new ArrayList<>(listingsBySeller.getOrDefault(identityKeyOf(seller), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the listings that {@code buyer} is a buyer of.
+     * The returned list is a snapshot, so the observed list may be modified while iterating over it.
+     */
+    List<Listing> getListingsWithBuyer(Person buyer) {
+        return new ArrayList<>(listingsByBuyer.getOrDefault(identityKeyOf(buyer), Collections.emptySet()));
+    }
+
+    private void index(Listing listing) {
+        add(listingsBySeller, listing.getSeller(), listing);
+        listing.getBuyers().forEach(buyer -> add(listingsByBuyer, buyer, listing));
+    }
+
+    private void unindex(Listing listing) {
+        remove(listingsBySeller, listing.getSeller(), listing);
+        listing.getBuyers().forEach(buyer -> remove(listingsByBuyer, buyer, listing));
+    }
+
+    private static void add(Map<String, Set<Listing>> index, Person client, Listing listing) {
+        index.computeIfAbsent(identityKeyOf(client), unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(listing);
+    }
+
+    private static void remove(Map<String, Set<Listing>> index, Person client, Listing listing) {
+        String key = identityKeyOf(client);
+        Set<Listing> listings = index.get(key);
+        if (listings == null) {
+            return;
+        }
+
+        listings.remove(listing);
+        if (listings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static String identityKeyOf(Person client) {
+        return client.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+}
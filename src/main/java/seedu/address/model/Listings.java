@@ -3,18 +3,30 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingSearchPredicate;
 import seedu.address.model.listing.UniqueListingList;
+import seedu.address.model.name.Name;
 
 /**
  * Represents Listings of the user
  */
 public class Listings implements ReadOnlyListings {
+    // Versions come from a counter shared by all instances, so two instances with the same version have the same
+    // contents: either one is a copy of the other, or both are new and empty.
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniqueListingList listings;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +48,7 @@ public class Listings implements ReadOnlyListings {
     public Listings(ReadOnlyListings toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
 
@@ -47,6 +60,7 @@ public class Listings implements ReadOnlyListings {
      */
     public void setListings(List<Listing> listings) {
         this.listings.setListings(listings);
+        markChanged();
     }
 
     /**
@@ -68,12 +82,50 @@ public class Listings implements ReadOnlyListings {
         return listings.contains(listing);
     }
 
+    /**
+     * Returns the listing with the given name, compared ignoring case, or null if there is none.
+     */
+    public Listing getListingByName(Name name) {
+        return listings.getListingByName(name);
+    }
+
+    /**
+     * Returns the listing at the given address, or null if there is none.
+     */
+    public Listing getListingByAddress(Address address) {
+        return listings.getListingByAddress(address);
+    }
+
+    /**
+     * Returns a predicate that tests whether a listing in these listings has a name containing any of
+     * {@code keywords}, ignoring case. The predicate stays correct as the listings change.
+     */
+    public Predicate<Listing> getNameKeywordsMatcher(List<String> keywords) {
+        return listings.getNameKeywordsMatcher(keywords);
+    }
+
+    /**
+     * Returns the listings with a word in their name or address that starts with any of {@code keywords},
+     * allowing for a few typos, each mapped to the fewest typos with which it matches.
+     */
+    public Map<Listing, Integer> findByFuzzyNameOrAddress(List<String> keywords) {
+        return listings.findByFuzzyNameOrAddress(keywords);
+    }
+
+    /**
+     * Returns the listings that match {@code predicate}, found through the indexes of price, area and region.
+     */
+    public Set<Listing> search(ListingSearchPredicate predicate) {
+        return listings.search(predicate);
+    }
+
     /**
      * Adds a listing to the address book.
      * The listing must not already exist in the address book.
      */
     public void addListing(Listing l) {
         listings.add(l);
+        markChanged();
     }
 
     /**
@@ -86,6 +138,7 @@ public class Listings implements ReadOnlyListings {
         requireNonNull(editedListing);
 
         listings.setListing(listing, editedListing);
+        markChanged();
     }
 
     /**
@@ -94,6 +147,7 @@ public class Listings implements ReadOnlyListings {
      */
     public void removeListing(Listing listing) {
         listings.remove(listing);
+        markChanged();
     }
 
 
@@ -104,6 +158,15 @@ public class Listings implements ReadOnlyListings {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private void markChanged() {
+        version = lastVersion.incrementAndGet();
+    }
+
     @Override
     public ObservableList<Listing> getListingList() {
         return listings.asUnmodifiableObservableList();
@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingSearchPredicate;
 import seedu.address.model.name.Name;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -91,6 +97,7 @@ public interface Model {
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * It is shown in the filtered person list whatever the filter, which is kept.
      */
     void addPerson(Person person);
 
@@ -98,6 +105,7 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * {@code editedPerson} is shown in the filtered person list if {@code target} was, and the filter is kept.
      */
     void setPerson(Person target, Person editedPerson);
 
@@ -106,6 +114,20 @@ public interface Model {
      */
     Person getPersonByName(Name name);
 
+    /**
+     * Returns the persons in the address book with an appointment overlapping {@code period}, ordered by the start
+     * of the appointment. Appointments that only touch {@code period} do not overlap it.
+     * @throws NullPointerException if {@code period} is null.
+     */
+    List<Person> getPersonsWithAppointmentsOverlapping(Appointment period);
+
+    /**
+     * Returns the appointments in the address book overlapping {@code period}, ordered by their start.
+     * Appointments that only touch {@code period} do not overlap it.
+     * @throws NullPointerException if {@code period} is null.
+     */
+    List<Appointment> getAppointmentsOverlapping(Appointment period);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -125,6 +147,7 @@ public interface Model {
     /**
      * Adds the given listing.
      * {@code listing} must not already exist in the address book.
+     * It is shown in the filtered listing list whatever the filter, which is kept.
      */
     void addListing(Listing listing);
 
@@ -132,6 +155,7 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedListing}.
      * {@code listing} must exist in the address book.
      * The person identity of {@code editedListing} must not be the same as another existing person in the address book.
+     * {@code editedListing} is shown in the filtered listing list if {@code target} was, and the filter is kept.
      */
     void setListing(Listing target, Listing editedListing);
 
@@ -165,15 +189,52 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by the given {@code predicate}.
+     * The persons are looked up in the index of the words in their names instead of by testing {@code predicate}.
+     * If {@code predicate} is fuzzy, the persons are ordered by the number of typos with which they match.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by the given {@code predicate}.
+     * The persons are looked up in the index of the dates of their appointments instead of by testing
+     * {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByAppointmentDate(HasAppointmentBetweenPredicate predicate);
+
     /**
      * Updates the filter of the filtered listing list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredListingList(Predicate<Listing> predicate);
 
+    /**
+     * Updates the filter of the filtered listing list to show the listings matched by the given {@code predicate}.
+     * The listings are looked up in the index of the words in their names instead of by testing {@code predicate}.
+     * If {@code predicate} is fuzzy, the listings are ordered by the number of typos with which they match.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredListingListByName(ListingContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered listing list to show the listings matched by the given {@code predicate}.
+     * The listings are looked up in the indexes of price, area and region instead of by testing {@code predicate}
+     * on every listing.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredListingListBySearch(ListingSearchPredicate predicate);
+
     /**
      * Updates relevant Listings when there is a change made to a Client
      * Replaces all listings with the personToEdit with editedPerson.
      */
     void updateListingsAfterClientEdit(Person personToEdit, Person editedPerson);
+
+    /**
+     * Deletes all listings sold by {@code client} and removes {@code client} from the buyers of all listings.
+     */
+    void removeClientFromListings(Person client);
 }
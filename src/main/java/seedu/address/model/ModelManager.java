@@ -4,19 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingSearchPredicate;
 import seedu.address.model.name.Name;
-import seedu.address.model.person.Buyer;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Seller;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -30,6 +38,12 @@ public class ModelManager implements Model {
     private final Listings listings;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Listing> filteredListings;
+    // Orders the filtered lists by relevance after a fuzzy search, and keeps their order otherwise
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Listing> sortedListings;
+    private RevealingFilter<Person> personFilter = new RevealingFilter<>(PREDICATE_SHOW_ALL_PERSONS);
+    private RevealingFilter<Listing> listingFilter = new RevealingFilter<>(PREDICATE_SHOW_ALL_LISTINGS);
+    private final ClientListingIndex clientListingIndex;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,8 +57,11 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.listings = new Listings(listings);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredListings = new FilteredList<>(this.listings.getListingList());
+        filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), personFilter);
+        filteredListings = new FilteredList<>(this.listings.getListingList(), listingFilter);
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedListings = new SortedList<>(filteredListings);
+        clientListingIndex = new ClientListingIndex(this.listings.getListingList());
     }
 
     public ModelManager() {
@@ -118,19 +135,24 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        personFilter.forget(target);
     }
 
     @Override
     public void addPerson(Person person) {
+        personFilter.reveal(person);
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        if (personFilter.test(target)) {
+            personFilter.reveal(editedPerson);
+        }
         addressBook.setPerson(target, editedPerson);
+        personFilter.forget(target);
     }
 
     //=========== Listings ================================================================================
@@ -154,19 +176,24 @@ public class ModelManager implements Model {
     @Override
     public void deleteListing(Listing target) {
         listings.removeListing(target);
+        listingFilter.forget(target);
     }
 
     @Override
     public void addListing(Listing listing) {
+        listingFilter.reveal(listing);
         listings.addListing(listing);
-        updateFilteredListingList(PREDICATE_SHOW_ALL_LISTINGS);
     }
 
     @Override
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
+        if (listingFilter.test(target)) {
+            listingFilter.reveal(editedListing);
+        }
         listings.setListing(target, editedListing);
+        listingFilter.forget(target);
     }
 
     /**
@@ -197,32 +224,55 @@ public class ModelManager implements Model {
 
     /**
      * Updates listings associated with a client after the client's details have been edited.
-     * If the edited person is a buyer, it replaces the buyer in all relevant listings.
-     * If the edited person is a seller, it replaces all listings associated with that seller.
+     * Every listing sold by {@code personToEdit} gets {@code editedPerson} as its seller, and every listing
+     * that {@code personToEdit} is a buyer of has that buyer replaced by {@code editedPerson}.
      *
      * @param personToEdit The original person to be edited.
      * @param editedPerson The edited person with updated details.
      */
     @Override
     public void updateListingsAfterClientEdit(Person personToEdit, Person editedPerson) {
-        if (this.hasListingsForSeller(personToEdit) || this.hasListingsForBuyer(personToEdit)) {
-            if (personToEdit instanceof Buyer buyerToEdit) {
+        requireAllNonNull(personToEdit, editedPerson);
+
+        for (Listing listing : clientListingIndex.getListingsWithSeller(personToEdit)) {
+            setListing(listing, listing.modifyListingWithSeller(editedPerson));
+        }
+
+        for (Listing listing : clientListingIndex.getListingsWithBuyer(personToEdit)) {
+            Set<Person> updatedBuyers = buyersWithout(listing, personToEdit);
+            updatedBuyers.add(editedPerson);
+            setListing(listing, listing.modifyListingWithBuyers(updatedBuyers));
+        }
+    }
 
-                this.getListings().getListingList()
-                        .forEach(listing -> listing.replaceBuyer(buyerToEdit, editedPerson));
+    /**
+     * Deletes every listing sold by {@code client} and removes {@code client} from the buyers of every
+     * listing it is a buyer of.
+     */
+    @Override
+    public void removeClientFromListings(Person client) {
+        requireNonNull(client);
 
-            } else if (personToEdit instanceof Seller sellerToEdit) {
+        for (Listing listing : clientListingIndex.getListingsWithSeller(client)) {
+            deleteListing(listing);
+        }
 
-                List<Listing> listingsToDelete = this.getListings().getListingList().stream()
-                        .filter(listing -> listing.getSeller().equals(sellerToEdit))
-                        .toList();
+        for (Listing listing : clientListingIndex.getListingsWithBuyer(client)) {
+            setListing(listing, listing.modifyListingWithBuyers(buyersWithout(listing, client)));
+        }
+    }
 
-                for (Listing listing : listingsToDelete) {
-                    this.deleteListing(listing);
-                    this.addListing(listing.modifyListingWithSeller(editedPerson));
-                }
+    /**
+     * Returns the buyers of {@code listing}, excluding any with the same identity as {@code client}.
+     */
+    private static Set<Person> buyersWithout(Listing listing, Person client) {
+        Set<Person> buyers = new HashSet<>();
+        for (Person buyer : listing.getBuyers()) {
+            if (!buyer.isSamePerson(client)) {
+                buyers.add(buyer);
             }
         }
+        return buyers;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -233,13 +283,45 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPersonFilter(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (!predicate.isFuzzy()) {
+            setPersonFilter(addressBook.getNameKeywordsMatcher(predicate.getKeywords()));
+            sortedPersons.setComparator(null);
+            return;
+        }
+
+        Map<Person, Integer> distances = addressBook.findByFuzzyName(predicate.getKeywords());
+        setPersonFilter(distances::containsKey);
+        sortedPersons.setComparator(byDistance(distances));
+    }
+
+    @Override
+    public void updateFilteredPersonListByAppointmentDate(HasAppointmentBetweenPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = addressBook.getPersonsWithAppointmentsBetween(predicate.getStart(), predicate.getEnd());
+        setPersonFilter(matches::contains);
+        sortedPersons.setComparator(null);
+    }
+
+    /**
+     * Filters the filtered person list by {@code filter}, testing every person, and stops showing the persons
+     * revealed under the previous filter.
+     */
+    private void setPersonFilter(Predicate<? super Person> filter) {
+        personFilter = new RevealingFilter<>(filter);
+        filteredPersons.setPredicate(personFilter);
     }
 
     /**
@@ -255,6 +337,18 @@ public class ModelManager implements Model {
                     .orElse(null);
     }
 
+    @Override
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment period) {
+        requireNonNull(period);
+        return addressBook.getPersonsWithAppointmentsOverlapping(period);
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsOverlapping(Appointment period) {
+        requireNonNull(period);
+        return addressBook.getAppointmentsOverlapping(period);
+    }
+
     //=========== Filtered Listing List Accessors =============================================================
 
     /**
@@ -263,13 +357,54 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Listing> getFilteredListingList() {
-        return filteredListings;
+        return sortedListings;
     }
 
     @Override
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         requireNonNull(predicate);
-        filteredListings.setPredicate(predicate);
+        setListingFilter(predicate);
+        sortedListings.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredListingListByName(ListingContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (!predicate.isFuzzy()) {
+            setListingFilter(listings.getNameKeywordsMatcher(predicate.getKeywords()));
+            sortedListings.setComparator(null);
+            return;
+        }
+
+        Map<Listing, Integer> distances = listings.findByFuzzyNameOrAddress(predicate.getKeywords());
+        setListingFilter(distances::containsKey);
+        sortedListings.setComparator(byDistance(distances));
+    }
+
+    @Override
+    public void updateFilteredListingListBySearch(ListingSearchPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Listing> matches = listings.search(predicate);
+        setListingFilter(matches::contains);
+        sortedListings.setComparator(null);
+    }
+
+    /**
+     * Filters the filtered listing list by {@code filter}, testing every listing, and stops showing the listings
+     * revealed under the previous filter.
+     */
+    private void setListingFilter(Predicate<? super Listing> filter) {
+        listingFilter = new RevealingFilter<>(filter);
+        filteredListings.setPredicate(listingFilter);
+    }
+
+    /**
+     * Returns a comparator that orders elements by their number of typos in {@code distances}, the result of a
+     * fuzzy search. Elements added or edited after the search are shown because they were revealed, not because
+     * they matched, so they are not in {@code distances} and are ordered last.
+     */
+    private static <T> Comparator<T> byDistance(Map<T, Integer> distances) {
+        return Comparator.comparingInt(element -> distances.getOrDefault(element, Integer.MAX_VALUE));
     }
 
     /**
@@ -282,22 +417,20 @@ public class ModelManager implements Model {
     @Override
     public boolean hasListingsForSeller(Person seller) {
         requireNonNull(seller);
-        return listings.getListingList().stream()
-                .anyMatch(listing -> listing.getSeller().equals(seller));
+        return clientListingIndex.hasListingsWithSeller(seller);
     }
 
     /**
      * Checks if there are any listings associated with the specified {@code buyer}.
      *
-     * @param buyer The seller whose listings are to be checked.
+     * @param buyer The buyer whose listings are to be checked.
      * @return {@code true} if there is at least one listing associated with the buyer;
      *         {@code false} otherwise.
      */
     @Override
     public boolean hasListingsForBuyer(Person buyer) {
         requireNonNull(buyer);
-        return listings.getListingList().stream()
-                .anyMatch(listing -> listing.getBuyers().contains(buyer));
+        return clientListingIndex.hasListingsWithBuyer(buyer);
     }
 
     @Override
@@ -316,8 +449,8 @@ public class ModelManager implements Model {
         boolean hasSameAddressBook = addressBook.equals(otherModelManager.addressBook);
         boolean hasSameListings = listings.equals(otherModelManager.listings);
         boolean hasSameUserPrefs = userPrefs.equals(otherModelManager.userPrefs);
-        boolean hasSameFilteredPersonsList = filteredPersons.equals(otherModelManager.filteredPersons);
-        boolean hasSameFilteredListingsList = filteredListings.equals(otherModelManager.filteredListings);
+        boolean hasSameFilteredPersonsList = sortedPersons.equals(otherModelManager.sortedPersons);
+        boolean hasSameFilteredListingsList = sortedListings.equals(otherModelManager.sortedListings);
 
         return hasSameAddressBook && hasSameListings && hasSameUserPrefs
                 && hasSameFilteredPersonsList && hasSameFilteredListingsList;
@@ -13,4 +13,10 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getPersonList();
+
+    /**
+     * Returns the version of the contents of this address book.
+     * The version changes whenever the contents change, so data with an unchanged version need not be saved again.
+     */
+    long getVersion();
 }
@@ -13,4 +13,10 @@ public interface ReadOnlyListings {
      * This list will not contain any duplicate listings.
      */
     ObservableList<Listing> getListingList();
+
+    /**
+     * Returns the version of the contents of these listings.
+     * The version changes whenever the contents change, so data with an unchanged version need not be saved again.
+     */
+    long getVersion();
 }
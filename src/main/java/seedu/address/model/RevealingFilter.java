@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The predicate of a filtered list, which matches the elements matched by a filter and any elements revealed
+ * since the filter was set.
+ *
+ * Revealing an element before it is added to the source list of the filtered list, or set in place of another
+ * element, shows it without changing the predicate of the filtered list. The filtered list then tests only that
+ * element and reports only its change, instead of testing every element and reporting that the whole list changed.
+ * Elements are compared by reference, as each element of a list of unique elements is revealed at most once.
+ *
+ * @param <T> the type of the elements filtered.
+ */
+class RevealingFilter<T> implements Predicate<T> {
+
+    private final Predicate<? super T> filter;
+    private final Set<T> revealed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    RevealingFilter(Predicate<? super T> filter) {
+        this.filter = requireNonNull(filter);
+    }
+
+    /**
+     * Matches {@code element} regardless of the filter.
+     */
+    void reveal(T element) {
+        revealed.add(requireNonNull(element));
+    }
+
+    /**
+     * Stops matching {@code element} regardless of the filter, for example once it is removed from the source list.
+     */
+    void forget(T element) {
+        revealed.remove(element);
+    }
+
+    @Override
+    public boolean test(T element) {
+        return revealed.contains(element) || filter.test(element);
+    }
+}
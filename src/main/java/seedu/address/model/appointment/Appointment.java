@@ -2,17 +2,24 @@ package seedu.address.model.appointment;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
  * Represents an appointment in the address book.
  * An {@code Appointment} consists of a {@code Date}, start time ({@code From}), and end time ({@code To}).
  * All fields must be non-null.
+ * Appointments are ordered by when they take place: by date, then by start time, then by end time.
  */
-public class Appointment {
+public class Appointment implements Comparable<Appointment> {
 
     public static final Appointment EMPTY_APPOINTMENT = new Appointment(Date.EMPTY_DATE, From.EMPTY_FROM,
             To.EMPTY_TO);
+    private static final Comparator<Appointment> CHRONOLOGICAL_ORDER = Comparator
+            .comparing((Appointment appointment) -> appointment.date.value)
+            .thenComparing(appointment -> appointment.from.value)
+            .thenComparing(appointment -> appointment.to.value);
+
     private final Date date;
     private final From from;
     private final To to;
@@ -58,6 +65,11 @@ public class Appointment {
         return date.isToday();
     }
 
+    @Override
+    public int compareTo(Appointment other) {
+        return CHRONOLOGICAL_ORDER.compare(this, other);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,7 @@ package seedu.address.model.appointment;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 /**
  * Utility class for handling time-related operations for appointments.
@@ -12,6 +13,21 @@ public class AppointmentUtil {
     public static final String TIME_MESSAGE_CONSTRAINTS =
             "Times should be in the format HH:mm or HHmm, e.g., 0900 or 09:00.";
 
+    /** The format in which times are shown. */
+    static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    // Compiled once, as times are validated and parsed for every appointment loaded
+    private static final Pattern TIME_PATTERN = Pattern.compile("\\d{4}|\\d{2}:\\d{2}");
+    private static final Pattern COMPACT_TIME_PATTERN = Pattern.compile("\\d{4}");
+
+    /**
+     * Returns true if {@code test} is a time in the format HH:mm or HHmm.
+     * The hours and minutes are not checked to be in range, which is left to {@link #parseTime(String)}.
+     */
+    public static boolean isValidTimeFormat(String test) {
+        return TIME_PATTERN.matcher(test).matches();
+    }
+
     /**
      * Parses the provided time string into a {@code LocalTime} object.
      * Accepts both HH:mm and HHmm formats.
@@ -22,11 +38,10 @@ public class AppointmentUtil {
      */
     public static LocalTime parseTime(String time) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-            if (time.matches("\\d{4}")) {
+            if (COMPACT_TIME_PATTERN.matcher(time).matches()) {
                 time = time.substring(0, 2) + ":" + time.substring(2);
             }
-            return LocalTime.parse(time, formatter);
+            return LocalTime.parse(time, TIME_FORMATTER);
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException(TIME_MESSAGE_CONSTRAINTS);
         }
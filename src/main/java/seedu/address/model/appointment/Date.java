@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 /**
  * Represents the date of an appointment in the address book.
@@ -18,6 +19,10 @@ public class Date {
     public static final String MESSAGE_CONSTRAINTS =
             "Dates should be in the format dd-MM-yy or ddMMyy, e.g., 25-12-24 or 251224.";
     private static final String VALIDATION_REGEX = "\\d{2}-\\d{2}-\\d{2}|\\d{6}";
+    // Compiled and built once, as dates are validated, parsed and shown for every appointment
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern COMPACT_DATE_PATTERN = Pattern.compile("\\d{6}");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yy");
 
     public final LocalDate value;
 
@@ -38,6 +43,14 @@ public class Date {
         this.value = date;
     }
 
+    /**
+     * Returns a {@code Date} with the value {@code date}.
+     */
+    public static Date of(LocalDate date) {
+        requireNonNull(date);
+        return new Date(date);
+    }
+
     /**
      * Checks if this date is today's date.
      *
@@ -51,7 +64,7 @@ public class Date {
      * Checks if the date string is in the valid format.
      */
     public static boolean isValidDate(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -59,12 +72,11 @@ public class Date {
      */
     private LocalDate parseDate(String date) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yy");
-            if (date.matches("\\d{6}")) { // If in ddMMyy format, add dashes for parsing
+            if (COMPACT_DATE_PATTERN.matcher(date).matches()) { // If in ddMMyy format, add dashes for parsing
                 date = date.substring(0, 2) + "-" + date.substring(2, 4) + "-" + date.substring(4);
             }
 
-            return LocalDate.parse(date, formatter);
+            return LocalDate.parse(date, DATE_FORMATTER);
 
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
@@ -88,7 +100,14 @@ public class Date {
 
     @Override
     public String toString() {
-        return value.format(DateTimeFormatter.ofPattern("dd-MM-yy"));
+        return format(value);
+    }
+
+    /**
+     * Returns {@code date} in the format in which dates are shown, dd-MM-yy.
+     */
+    public static String format(LocalDate date) {
+        return date.format(DATE_FORMATTER);
     }
 
     @Override
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 
 
@@ -15,7 +14,6 @@ import java.time.format.DateTimeFormatter;
  */
 public class From {
     public static final From EMPTY_FROM = new From(LocalTime.MIN);
-    private static final String VALIDATION_REGEX = "\\d{4}|\\d{2}:\\d{2}";
 
     public final LocalTime value;
 
@@ -35,11 +33,19 @@ public class From {
         this.value = value;
     }
 
+    /**
+     * Returns a {@code From} with the start time {@code time}.
+     */
+    public static From of(LocalTime time) {
+        requireNonNull(time);
+        return new From(time);
+    }
+
     /**
      * Checks if the time string is in the valid format.
      */
     public static boolean isValidTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return AppointmentUtil.isValidTimeFormat(test);
     }
 
     @Override
@@ -59,7 +65,7 @@ public class From {
 
     @Override
     public String toString() {
-        return value.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return value.format(AppointmentUtil.TIME_FORMATTER);
     }
 
     @Override
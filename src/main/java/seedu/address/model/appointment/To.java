@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents the end time of an appointment in the address book.
@@ -13,7 +12,6 @@ import java.time.format.DateTimeFormatter;
  */
 public class To {
     public static final To EMPTY_TO = new To(LocalTime.MIN);
-    private static final String VALIDATION_REGEX = "\\d{4}|\\d{2}:\\d{2}";
 
     public final LocalTime value;
 
@@ -33,11 +31,19 @@ public class To {
         this.value = value;
     }
 
+    /**
+     * Returns a {@code To} with the end time {@code time}.
+     */
+    public static To of(LocalTime time) {
+        requireNonNull(time);
+        return new To(time);
+    }
+
     /**
      * Checks if the time string is in a valid format.
      */
     public static boolean isValidTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return AppointmentUtil.isValidTimeFormat(test);
     }
 
     @Override
@@ -57,7 +63,7 @@ public class To {
 
     @Override
     public String toString() {
-        return value.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return value.format(AppointmentUtil.TIME_FORMATTER);
     }
 
     @Override
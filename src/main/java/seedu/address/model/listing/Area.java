@@ -1,35 +1,54 @@
 package seedu.address.model.listing;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents the size of a listing in square meters in the real estate application.
- * The size is stored as an integer value representing the area in square meters (m²).
+ * The size is stored both as a string of digits representing the area in square meters (m²) and as a raw
+ * {@code BigDecimal} value.
  */
 public class Area {
     public static final String MESSAGE_CONSTRAINTS =
             "Area should only contain positive numbers and cannot start with zeroes, "
                     + "and it should be at least 2 digits long";
-    private static final String VALIDATION_REGEX = "^[1-9]\\d{1,}$";
+    private static final int MIN_DIGITS = 2;
 
     private final String squareMeters;
+    private final BigDecimal rawValue;
 
     /**
      * Constructs a {@code Area}.
      *
-     * @param squareMeters The size of the listing in square meters.
+     * @param squareMeters A valid size of the listing in square meters.
      */
     public Area(String squareMeters) {
+        requireNonNull(squareMeters);
+        checkArgument(isValidArea(squareMeters), MESSAGE_CONSTRAINTS);
         this.squareMeters = squareMeters;
+        this.rawValue = new BigDecimal(squareMeters);
     }
 
     public String getArea() {
         return this.squareMeters;
     }
 
+    /**
+     * Returns the area in square meters as a number.
+     */
+    public BigDecimal getRawValue() {
+        return this.rawValue;
+    }
+
     /**
      * Returns true if a given string is a valid area.
      */
     public static boolean isValidArea(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isDigits(test, MIN_DIGITS) && test.charAt(0) != '0';
     }
 
     @Override
@@ -136,6 +136,15 @@ public class Listing {
         return new Listing(name, address, price, area, region, sellerToAdd, buyers);
     }
 
+    /**
+     * Returns a new Listing with a different set of buyers
+     * @param buyersToSet The buyers of the new listing.
+     * @return Listing with modified buyers.
+     */
+    public Listing modifyListingWithBuyers(Set<Person> buyersToSet) {
+        return new Listing(name, address, price, area, region, seller, buyersToSet);
+    }
+
     /**
      * Checks if the given listing is the same listing as the current listing.
      * Two listings are considered the same if they have the same address or name.
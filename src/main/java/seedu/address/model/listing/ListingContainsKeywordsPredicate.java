@@ -5,19 +5,59 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.name.FuzzyWordIndex;
 
 /**
  * Tests that a {@code Listing}'s {@code Name} matches any of the keywords given.
+ * A fuzzy predicate matches the keywords as prefixes of the words in the listing's name or address, allowing for
+ * a few typos.
  */
 public class ListingContainsKeywordsPredicate implements Predicate<Listing> {
     private final List<String> keywords;
+    private final boolean isFuzzy;
 
     public ListingContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    /**
+     * Creates a predicate matching the keywords either exactly or, if {@code isFuzzy}, as prefixes allowing for
+     * a few typos.
+     */
+    public ListingContainsKeywordsPredicate(List<String> keywords, boolean isFuzzy) {
         this.keywords = keywords;
+        this.isFuzzy = isFuzzy;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public boolean isFuzzy() {
+        return isFuzzy;
     }
 
     @Override
     public boolean test(Listing listing) {
+        return isFuzzy ? getDistance(listing) != FuzzyWordIndex.NO_MATCH : containsKeyword(listing);
+    }
+
+    /**
+     * Returns the fewest typos with which a word of {@code listing} starts with one of the keywords, or
+     * {@link FuzzyWordIndex#NO_MATCH} if it does not match.
+     */
+    public int getDistance(Listing listing) {
+        return FuzzyWordIndex.getDistance(getFuzzySearchText(listing), keywords);
+    }
+
+    /**
+     * Returns the text in which a fuzzy predicate looks for the keywords.
+     */
+    static String getFuzzySearchText(Listing listing) {
+        return listing.getName().fullName + " " + listing.getAddress().value;
+    }
+
+    private boolean containsKeyword(Listing listing) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(listing.getName().fullName, keyword));
     }
@@ -32,11 +72,11 @@ public class ListingContainsKeywordsPredicate implements Predicate<Listing> {
             return false;
         }
 
-        return keywords.equals(otherPredicate.keywords);
+        return keywords.equals(otherPredicate.keywords) && isFuzzy == otherPredicate.isFuzzy;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("isFuzzy", isFuzzy).toString();
     }
 }
@@ -0,0 +1,146 @@
+package seedu.address.model.listing;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Indexes listings by price and by area, each in a sorted map, and by region, so that the listings matching a
+ * {@code ListingSearchPredicate} are found without testing every listing.
+ *
+ * A search starts from the index that gives the fewest candidates for the predicate, and only those candidates
+ * are tested against the rest of the predicate.
+ * Listings are compared by reference, as each element of a list of unique listings is indexed once.
+ */
+class ListingSearchIndex {
+
+    private final Set<Listing> allListings = newListingSet();
+    private final NavigableMap<BigDecimal, Set<Listing>> listingsByPrice = new TreeMap<>();
+    private final NavigableMap<BigDecimal, Set<Listing>> listingsByArea = new TreeMap<>();
+    private final Map<Region, Set<Listing>> listingsByRegion = new EnumMap<>(Region.class);
+
+    void add(Listing listing) {
+        allListings.add(listing);
+        BigDecimal price = listing.getPrice().getRawValue();
+        if (price != null) {
+            listingsByPrice.computeIfAbsent(price, key -> newListingSet()).add(listing);
+        }
+        listingsByArea.computeIfAbsent(listing.getArea().getRawValue(), key -> newListingSet()).add(listing);
+        listingsByRegion.computeIfAbsent(listing.getRegion(), key -> newListingSet()).add(listing);
+    }
+
+    void remove(Listing listing) {
+        allListings.remove(listing);
+        BigDecimal price = listing.getPrice().getRawValue();
+        if (price != null) {
+            removeFrom(listingsByPrice, price, listing);
+        }
+        removeFrom(listingsByArea, listing.getArea().getRawValue(), listing);
+        removeFrom(listingsByRegion, listing.getRegion(), listing);
+    }
+
+    void clear() {
+        allListings.clear();
+        listingsByPrice.clear();
+        listingsByArea.clear();
+        listingsByRegion.clear();
+    }
+
+    /**
+     * Returns the listings matching {@code predicate}.
+     */
+    Set<Listing> search(ListingSearchPredicate predicate) {
+        Collection<Set<Listing>> candidates = Collections.singletonList(allListings);
+        int candidateCount = allListings.size();
+
+        if (!predicate.getRegions().isEmpty()) {
+            Collection<Set<Listing>> regionCandidates = predicate.getRegions().stream()
+                    .map(region -> listingsByRegion.getOrDefault(region, Collections.emptySet()))
+                    .collect(Collectors.toList());
+            int regionCount = countUpTo(regionCandidates, candidateCount);
+            if (regionCount < candidateCount) {
+                candidates = regionCandidates;
+                candidateCount = regionCount;
+            }
+        }
+        if (predicate.hasPriceRange()) {
+            Collection<Set<Listing>> priceCandidates = rangeOf(listingsByPrice,
+                    predicate.getMinPrice().orElse(null), predicate.getMaxPrice().orElse(null));
+            int priceCount = countUpTo(priceCandidates, candidateCount);
+            if (priceCount < candidateCount) {
+                candidates = priceCandidates;
+                candidateCount = priceCount;
+            }
+        }
+        if (predicate.hasAreaRange()) {
+            Collection<Set<Listing>> areaCandidates = rangeOf(listingsByArea,
+                    predicate.getMinArea().orElse(null), predicate.getMaxArea().orElse(null));
+            if (countUpTo(areaCandidates, candidateCount) < candidateCount) {
+                candidates = areaCandidates;
+            }
+        }
+
+        Set<Listing> matches = newListingSet();
+        for (Set<Listing> listings : candidates) {
+            for (Listing listing : listings) {
+                if (predicate.test(listing)) {
+                    matches.add(listing);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the sets of listings indexed under the keys within the inclusive bounds {@code min} and {@code max},
+     * either of which may be null.
+     */
+    private static Collection<Set<Listing>> rangeOf(NavigableMap<BigDecimal, Set<Listing>> index,
+                                                    BigDecimal min, BigDecimal max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            return Collections.emptyList();
+        }
+
+        NavigableMap<BigDecimal, Set<Listing>> range = index;
+        if (min != null) {
+            range = range.tailMap(min, true);
+        }
+        if (max != null) {
+            range = range.headMap(max, true);
+        }
+        return range.values();
+    }
+
+    /**
+     * Returns the total number of listings in {@code listingSets}, or {@code limit} if there are at least that many,
+     * so that a large range is not counted in full.
+     */
+    private static int countUpTo(Collection<Set<Listing>> listingSets, int limit) {
+        int count = 0;
+        for (Set<Listing> listings : listingSets) {
+            count += listings.size();
+            if (count >= limit) {
+                return limit;
+            }
+        }
+        return count;
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Listing>> index, K key, Listing listing) {
+        Set<Listing> listings = index.get(key);
+        if (listings != null && listings.remove(listing) && listings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<Listing> newListingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
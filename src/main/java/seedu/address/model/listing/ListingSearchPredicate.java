@@ -0,0 +1,120 @@
+package seedu.address.model.listing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Listing}'s price and area are within the given ranges, and that it is in one of the given
+ * regions. Bounds that are not given, and an empty set of regions, do not restrict the listings matched.
+ */
+public class ListingSearchPredicate implements Predicate<Listing> {
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final BigDecimal minArea;
+    private final BigDecimal maxArea;
+    private final Set<Region> regions;
+
+    /**
+     * Creates a predicate matching the listings within the given inclusive bounds, each of which may be null,
+     * and in any of {@code regions}.
+     */
+    public ListingSearchPredicate(BigDecimal minPrice, BigDecimal maxPrice, BigDecimal minArea, BigDecimal maxArea,
+                                  Set<Region> regions) {
+        requireNonNull(regions);
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.minArea = minArea;
+        this.maxArea = maxArea;
+        this.regions = regions.isEmpty() ? EnumSet.noneOf(Region.class) : EnumSet.copyOf(regions);
+    }
+
+    public Optional<BigDecimal> getMinPrice() {
+        return Optional.ofNullable(minPrice);
+    }
+
+    public Optional<BigDecimal> getMaxPrice() {
+        return Optional.ofNullable(maxPrice);
+    }
+
+    public Optional<BigDecimal> getMinArea() {
+        return Optional.ofNullable(minArea);
+    }
+
+    public Optional<BigDecimal> getMaxArea() {
+        return Optional.ofNullable(maxArea);
+    }
+
+    /**
+     * Returns the regions matched, or an empty set if listings in any region are matched.
+     */
+    public Set<Region> getRegions() {
+        return Collections.unmodifiableSet(regions);
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean hasAreaRange() {
+        return minArea != null || maxArea != null;
+    }
+
+    @Override
+    public boolean test(Listing listing) {
+        return (regions.isEmpty() || regions.contains(listing.getRegion()))
+                && (!hasPriceRange() || isWithin(listing.getPrice().getRawValue(), minPrice, maxPrice))
+                && (!hasAreaRange() || isWithin(listing.getArea().getRawValue(), minArea, maxArea));
+    }
+
+    /**
+     * Returns true if {@code value} is within the inclusive bounds {@code min} and {@code max}, either of which
+     * may be null.
+     */
+    static boolean isWithin(BigDecimal value, BigDecimal min, BigDecimal max) {
+        return value != null
+                && (min == null || value.compareTo(min) >= 0)
+                && (max == null || value.compareTo(max) <= 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListingSearchPredicate otherPredicate)) {
+            return false;
+        }
+
+        return Objects.equals(minPrice, otherPredicate.minPrice)
+                && Objects.equals(maxPrice, otherPredicate.maxPrice)
+                && Objects.equals(minArea, otherPredicate.minArea)
+                && Objects.equals(maxArea, otherPredicate.maxArea)
+                && regions.equals(otherPredicate.regions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minPrice, maxPrice, minArea, maxArea, regions);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("minPrice", minPrice)
+                .add("maxPrice", maxPrice)
+                .add("minArea", minArea)
+                .add("maxArea", maxArea)
+                .add("regions", regions)
+                .toString();
+    }
+}
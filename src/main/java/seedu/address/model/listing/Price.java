@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents the price of a listing in the real estate application.
  * The price is stored both as a formatted string (e.g., "5 mil", "600k") and as a raw {@code BigDecimal} value.
@@ -12,7 +14,7 @@ public class Price {
     public static final String MESSAGE_CONSTRAINTS =
             "Price should only contain positive numbers and cannot start with zeroes, "
                     + "and it should be at least 6 digits long";
-    private static final String VALIDATION_REGEX = "^[1-9]\\d{5,}$";
+    private static final int MIN_DIGITS = 6;
 
     private final String formattedValue;
     private final BigDecimal rawValue;
@@ -33,7 +35,7 @@ public class Price {
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isDigits(test, MIN_DIGITS) && test.charAt(0) != '0';
     }
 
     public BigDecimal getRawValue() {
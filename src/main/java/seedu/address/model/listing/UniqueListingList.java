@@ -3,17 +3,35 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.name.Name;
+import seedu.address.model.name.FuzzyWordIndex;
+import seedu.address.model.name.NameWordIndex;
 
 /**
  * A list of listings that enforces uniqueness between its elements and does not allow nulls.
  * A listing is considered unique by comparing using {@code Listing#isSameListing(Listing)}.
+ * Listings are indexed both by case-folded name and by address, the two keys compared by
+ * {@code Listing#isSameListing(Listing)}, by the words in their names, for finding listings by name, by
+ * prefixes of the words in their names and addresses, for finding listings allowing for typos, and by
+ * price, area and region, for searching listings by those attributes. Listings are also indexed by their position
+ * in the list, so that a listing can be replaced without scanning the list. Removing a listing still takes time
+ * linear in the number of listings after it, as they move up the list.
+ * The indexes are updated together with the backing list, the word and search indexes before it so that
+ * listeners of the list see them updated.
  * Supports a minimal set of list operations.
  *
  * @see Listing#isSameListing(Listing)
@@ -22,6 +40,12 @@ public class UniqueListingList implements Iterable<Listing> {
     private final ObservableList<Listing> internalList = FXCollections.observableArrayList();
     private final ObservableList<Listing> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Listing> nameIndex = new HashMap<>();
+    private final Map<Address, Listing> addressIndex = new HashMap<>();
+    private final Map<Listing, Integer> positionIndex = new IdentityHashMap<>();
+    private final NameWordIndex<Listing> nameWordIndex = new NameWordIndex<>();
+    private final FuzzyWordIndex<Listing> fuzzyWordIndex = new FuzzyWordIndex<>();
+    private final ListingSearchIndex searchIndex = new ListingSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent listing as the given argument.
@@ -31,7 +55,23 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public boolean contains(Listing toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListing);
+        return nameIndex.containsKey(nameKeyOf(toCheck)) || addressIndex.containsKey(toCheck.getAddress());
+    }
+
+    /**
+     * Returns the listing in the list with the given name, compared ignoring case, or null if there is none.
+     */
+    public Listing getListingByName(Name name) {
+        requireNonNull(name);
+        return nameIndex.get(name.fullName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the listing in the list at the given address, or null if there is none.
+     */
+    public Listing getListingByAddress(Address address) {
+        requireNonNull(address);
+        return addressIndex.get(address);
     }
 
     /**
@@ -46,13 +86,18 @@ public class UniqueListingList implements Iterable<Listing> {
         if (contains(toAdd)) {
             throw new DuplicateListingException();
         }
+        nameWordIndex.add(toAdd, toAdd.getName());
+        fuzzyWordIndex.add(toAdd, ListingContainsKeywordsPredicate.getFuzzySearchText(toAdd));
+        searchIndex.add(toAdd);
         internalList.add(toAdd);
+        index(toAdd);
+        positionIndex.put(toAdd, internalList.size() - 1);
     }
 
     /**
      * Replaces the target listing in the list with the edited listing.
      * The target listing must exist in the list.
-     * The edited listing must not be the same as another existing listing in the list.
+     * The edited listing must not share its name or address with another existing listing in the list.
      *
      * @param target The listing to replace.
      * @param editedListing The new listing to set.
@@ -62,16 +107,27 @@ public class UniqueListingList implements Iterable<Listing> {
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Listing existing = findEquivalent(target);
+        if (existing == null) {
             throw new ListingNotFoundException();
         }
 
-        if (!target.isSameListing(editedListing) && contains(editedListing)) {
+        if (isIndexedByOther(nameIndex.get(nameKeyOf(editedListing)), existing)
+                || isIndexedByOther(addressIndex.get(editedListing.getAddress()), existing)) {
             throw new DuplicateListingException();
         }
 
-        internalList.set(index, editedListing);
+        nameWordIndex.remove(existing, existing.getName());
+        nameWordIndex.add(editedListing, editedListing.getName());
+        fuzzyWordIndex.remove(existing, ListingContainsKeywordsPredicate.getFuzzySearchText(existing));
+        fuzzyWordIndex.add(editedListing, ListingContainsKeywordsPredicate.getFuzzySearchText(editedListing));
+        searchIndex.remove(existing);
+        searchIndex.add(editedListing);
+        int position = positionIndex.remove(existing);
+        internalList.set(position, editedListing);
+        unindex(existing);
+        index(editedListing);
+        positionIndex.put(editedListing, position);
     }
 
     /**
@@ -83,9 +139,18 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void remove(Listing toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Listing existing = findEquivalent(toRemove);
+        if (existing == null) {
             throw new ListingNotFoundException();
         }
+
+        nameWordIndex.remove(existing, existing.getName());
+        fuzzyWordIndex.remove(existing, ListingContainsKeywordsPredicate.getFuzzySearchText(existing));
+        searchIndex.remove(existing);
+        int position = positionIndex.remove(existing);
+        internalList.remove(position);
+        unindex(existing);
+        reindexPositionsFrom(position);
     }
 
     /**
@@ -95,7 +160,14 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void setListings(UniqueListingList replacement) {
         requireNonNull(replacement);
+        rebuildWordAndSearchIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        addressIndex.clear();
+        addressIndex.putAll(replacement.addressIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
@@ -111,7 +183,52 @@ public class UniqueListingList implements Iterable<Listing> {
             throw new DuplicateListingException();
         }
 
+        rebuildWordAndSearchIndexes(listings);
         internalList.setAll(listings);
+        nameIndex.clear();
+        addressIndex.clear();
+        listings.forEach(this::index);
+        positionIndex.clear();
+        reindexPositionsFrom(0);
+    }
+
+    /**
+     * Returns a predicate that tests whether a listing in this list has a name containing any of
+     * {@code keywords}, ignoring case, by looking the listing up in the index of the words in names.
+     * The predicate stays correct as the list changes.
+     */
+    public Predicate<Listing> getNameKeywordsMatcher(List<String> keywords) {
+        return nameWordIndex.getMatcher(keywords);
+    }
+
+    /**
+     * Returns the listings in this list with a word in their name or address that starts with any of
+     * {@code keywords}, allowing for a few typos, each mapped to the fewest typos with which it matches.
+     *
+     * @see FuzzyWordIndex#search(List)
+     */
+    public Map<Listing, Integer> findByFuzzyNameOrAddress(List<String> keywords) {
+        return fuzzyWordIndex.search(keywords);
+    }
+
+    /**
+     * Returns the listings in this list that match {@code predicate}, found through the indexes of price, area
+     * and region.
+     */
+    public Set<Listing> search(ListingSearchPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.search(predicate);
+    }
+
+    private void rebuildWordAndSearchIndexes(List<Listing> listings) {
+        nameWordIndex.clear();
+        fuzzyWordIndex.clear();
+        searchIndex.clear();
+        for (Listing listing : listings) {
+            nameWordIndex.add(listing, listing.getName());
+            fuzzyWordIndex.add(listing, ListingContainsKeywordsPredicate.getFuzzySearchText(listing));
+            searchIndex.add(listing);
+        }
     }
 
     /**
@@ -121,16 +238,64 @@ public class UniqueListingList implements Iterable<Listing> {
      * @return True if the list contains only unique listings, false otherwise.
      */
     private boolean listingsAreUnique(List<Listing> listings) {
-        for (int i = 0; i < listings.size() - 1; i++) {
-            for (int j = i + 1; j < listings.size(); j++) {
-                if (listings.get(i).isSameListing(listings.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        Set<Address> seenAddresses = new HashSet<>();
+        for (Listing listing : listings) {
+            if (!seenNames.add(nameKeyOf(listing)) || !seenAddresses.add(listing.getAddress())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the listing in the list that is equal to {@code listing}, or null if there is none.
+     * If {@code listing} shares its name with one listing and its address with another, the one that
+     * appears first in the list is returned, as a linear search using {@code Listing#equals} would.
+     */
+    private Listing findEquivalent(Listing listing) {
+        Listing byName = nameIndex.get(nameKeyOf(listing));
+        Listing byAddress = addressIndex.get(listing.getAddress());
+        if (byName == null || byAddress == null || byName == byAddress) {
+            return byName != null ? byName : byAddress;
+        }
+        return positionIndex.get(byName) < positionIndex.get(byAddress) ? byName : byAddress;
+    }
+
+    /**
+     * Returns true if {@code indexed} is a listing other than {@code existing}.
+     */
+    private static boolean isIndexedByOther(Listing indexed, Listing existing) {
+        return indexed != null && indexed != existing;
+    }
+
+    /**
+     * Indexes the positions of the listings in the backing list from {@code start} onwards.
+     */
+    private void reindexPositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+    }
+
+    private void index(Listing listing) {
+        nameIndex.put(nameKeyOf(listing), listing);
+        addressIndex.put(listing.getAddress(), listing);
+    }
+
+    private void unindex(Listing listing) {
+        nameIndex.remove(nameKeyOf(listing));
+        addressIndex.remove(listing.getAddress());
+    }
+
+    /**
+     * Returns the key under which {@code listing} is indexed by name.
+     * Names are compared case-insensitively, as in {@code Name#equals(Object)}.
+     */
+    private static String nameKeyOf(Listing listing) {
+        return listing.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
     public ObservableList<Listing> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
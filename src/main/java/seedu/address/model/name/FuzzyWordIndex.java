@@ -0,0 +1,220 @@
+package seedu.address.model.name;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes elements by the words in a text describing them, ignoring case, so that the elements with a word that
+ * starts with a keyword, allowing for a few typos, are found without comparing the keyword to every word.
+ *
+ * The words are kept sorted, so that the words starting with a keyword are a range of them, and each word is
+ * also indexed by its trigrams and their positions in the word, so that the words close to a keyword are found
+ * among those sharing enough of its trigrams at nearby positions.
+ * Elements are compared by reference, as each element of a list of unique elements is indexed once.
+ *
+ * @param <T> the type of the elements indexed.
+ */
+public class FuzzyWordIndex<T> {
+
+    /** The distance of an element that does not match any keyword. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+    private static final String TRIGRAM_PADDING = "$$";
+
+    private final NavigableMap<String, Set<T>> elementsByWord = new TreeMap<>();
+    // Keyed by a trigram followed by its position in the padded word
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Indexes {@code element} under each of the words in {@code text}.
+     */
+    public void add(T element, String text) {
+        requireNonNull(element);
+        for (String word : wordsOf(text)) {
+            Set<T> elements = elementsByWord.get(word);
+            if (elements == null) {
+                elements = Collections.newSetFromMap(new IdentityHashMap<>());
+                elementsByWord.put(word, elements);
+                List<String> trigrams = trigramsOf(word);
+                for (int i = 0; i < trigrams.size(); i++) {
+                    wordsByTrigram.computeIfAbsent(trigrams.get(i) + i, key -> new HashSet<>()).add(word);
+                }
+            }
+            elements.add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which was indexed with {@code text}, from the index.
+     */
+    public void remove(T element, String text) {
+        requireNonNull(element);
+        for (String word : wordsOf(text)) {
+            Set<T> elements = elementsByWord.get(word);
+            if (elements == null || !elements.remove(element) || !elements.isEmpty()) {
+                continue;
+            }
+            elementsByWord.remove(word);
+            List<String> trigrams = trigramsOf(word);
+            for (int i = 0; i < trigrams.size(); i++) {
+                Set<String> words = wordsByTrigram.get(trigrams.get(i) + i);
+                if (words != null && words.remove(word) && words.isEmpty()) {
+                    wordsByTrigram.remove(trigrams.get(i) + i);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        elementsByWord.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the elements with a word that starts with any of {@code keywords}, allowing for the number of typos
+     * given by {@link #getMaxTypos(String)}, each mapped to the fewest typos with which one of its words matches.
+     *
+     * @param keywords cannot contain blank keywords.
+     */
+    public Map<T, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<T, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String prefix = keyword.trim().toLowerCase(Locale.ROOT);
+            for (Map.Entry<String, Integer> match : findWords(prefix).entrySet()) {
+                for (T element : elementsByWord.get(match.getKey())) {
+                    distances.merge(element, match.getValue(), Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the words within {@code getMaxTypos(prefix)} typos of starting with {@code prefix}, each mapped to
+     * the number of typos.
+     */
+    private Map<String, Integer> findWords(String prefix) {
+        Map<String, Integer> matches = new HashMap<>();
+        for (String word : elementsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+            matches.put(word, 0);
+        }
+
+        int maxTypos = getMaxTypos(prefix);
+        if (maxTypos == 0) {
+            return matches;
+        }
+        for (String word : getCandidateWords(prefix, maxTypos)) {
+            if (!matches.containsKey(word)) {
+                int distance = StringUtil.prefixEditDistance(word, prefix);
+                if (distance <= maxTypos) {
+                    matches.put(word, distance);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the words that may be within {@code maxTypos} typos of starting with {@code prefix}.
+     * Each typo changes at most three of the trigrams of {@code prefix} and shifts the others by at most one
+     * position, so such a word has all but at most {@code 3 * maxTypos} of them within {@code maxTypos} positions
+     * of where they are in {@code prefix}. It thus has at least one of any {@code 3 * maxTypos + 1} of them, and
+     * the words found under those of the trigrams with the fewest words are returned.
+     * If {@code prefix} does not have that many trigrams, every word is returned.
+     */
+    private Collection<String> getCandidateWords(String prefix, int maxTypos) {
+        List<String> trigrams = trigramsOf(prefix);
+        int trigramsNeeded = 3 * maxTypos + 1;
+        if (trigrams.size() < trigramsNeeded) {
+            return elementsByWord.keySet();
+        }
+
+        List<List<Set<String>>> wordsNearTrigrams = new ArrayList<>();
+        for (int i = 0; i < trigrams.size(); i++) {
+            List<Set<String>> wordsNearTrigram = new ArrayList<>();
+            for (int position = Math.max(0, i - maxTypos); position <= i + maxTypos; position++) {
+                Set<String> words = wordsByTrigram.get(trigrams.get(i) + position);
+                if (words != null) {
+                    wordsNearTrigram.add(words);
+                }
+            }
+            wordsNearTrigrams.add(wordsNearTrigram);
+        }
+        wordsNearTrigrams.sort(Comparator.comparingInt(FuzzyWordIndex::countWords));
+
+        Set<String> candidates = new HashSet<>();
+        for (List<Set<String>> wordsNearTrigram : wordsNearTrigrams.subList(0, trigramsNeeded)) {
+            wordsNearTrigram.forEach(candidates::addAll);
+        }
+        return candidates;
+    }
+
+    private static int countWords(List<Set<String>> wordSets) {
+        return wordSets.stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Returns the fewest typos with which a word in {@code text} starts with any of {@code keywords}, ignoring
+     * case, or {@link #NO_MATCH} if there is no such word within the typos allowed by {@link #getMaxTypos(String)}.
+     * This is the distance an element indexed with {@code text} is mapped to by {@link #search(List)}.
+     */
+    public static int getDistance(String text, List<String> keywords) {
+        requireNonNull(keywords);
+        int best = NO_MATCH;
+        for (String keyword : keywords) {
+            String prefix = keyword.trim().toLowerCase(Locale.ROOT);
+            for (String word : wordsOf(text)) {
+                int distance = StringUtil.prefixEditDistance(word, prefix);
+                if (distance <= getMaxTypos(prefix)) {
+                    best = Math.min(best, distance);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of typos allowed when matching {@code keyword}: none for keywords shorter than four
+     * characters, which would otherwise match too many words, one for keywords of up to seven characters and two
+     * for longer keywords.
+     */
+    public static int getMaxTypos(String keyword) {
+        int length = keyword.trim().length();
+        return length < 4 ? 0 : length < 8 ? 1 : 2;
+    }
+
+    private static String[] wordsOf(String text) {
+        return WORD_SEPARATOR.split(text.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the trigrams of {@code word} padded at its start, in order, so that the trigrams of a prefix of a
+     * word are the first trigrams of the word.
+     */
+    private static List<String> trigramsOf(String word) {
+        String padded = TRIGRAM_PADDING + word;
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.name;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Indexes elements by the words in their names, ignoring case, so that the elements whose name contains a word
+ * are found by a single lookup instead of by splitting the name of every element.
+ * Elements are compared by reference, as each element of a list of unique elements is indexed once.
+ *
+ * @param <T> the type of the elements indexed.
+ */
+public class NameWordIndex<T> {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+
+    private final Map<String, Set<T>> elementsByWord = new HashMap<>();
+
+    /**
+     * Indexes {@code element} under each of the words in {@code name}.
+     */
+    public void add(T element, Name name) {
+        requireNonNull(element);
+        for (String word : wordsOf(name)) {
+            elementsByWord.computeIfAbsent(word, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which was indexed with {@code name}, from the index.
+     */
+    public void remove(T element, Name name) {
+        requireNonNull(element);
+        for (String word : wordsOf(name)) {
+            Set<T> elements = elementsByWord.get(word);
+            if (elements != null && elements.remove(element) && elements.isEmpty()) {
+                elementsByWord.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        elementsByWord.clear();
+    }
+
+    /**
+     * Returns a predicate that tests whether an indexed element has a name containing any of {@code keywords},
+     * ignoring case. The predicate reflects later changes to the index, so it stays correct as elements are
+     * added, replaced and removed.
+     *
+     * @param keywords cannot contain blank keywords.
+     */
+    public Predicate<T> getMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> words = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
+        return element -> {
+            for (String word : words) {
+                Set<T> elements = elementsByWord.get(word);
+                if (elements != null && elements.contains(element)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static String[] wordsOf(Name name) {
+        return WORD_SEPARATOR.split(name.fullName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Indexes persons by the dates of their appointments, in a sorted map, so that the persons with appointments in a
+ * range of dates are found without testing every person.
+ * A person is indexed under the date of each of their appointments, and persons without appointments are not
+ * indexed.
+ * Persons are compared by reference, as each element of a list of unique persons is indexed once.
+ */
+class AppointmentDateIndex {
+
+    private final NavigableMap<LocalDate, Set<Person>> personsByDate = new TreeMap<>();
+
+    void add(Person person) {
+        for (Appointment appointment : person.getAppointments()) {
+            personsByDate.computeIfAbsent(appointment.getDate().value,
+                    key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        for (Appointment appointment : person.getAppointments()) {
+            LocalDate date = appointment.getDate().value;
+            Set<Person> persons = personsByDate.get(date);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByDate.remove(date);
+            }
+        }
+    }
+
+    void clear() {
+        personsByDate.clear();
+    }
+
+    /**
+     * Returns the persons with an appointment from {@code start} to {@code end}, inclusive.
+     */
+    Set<Person> getPersonsBetween(LocalDate start, LocalDate end) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (start.isAfter(end)) {
+            return persons;
+        }
+
+        for (Set<Person> personsOnDate : personsByDate.subMap(start, true, end, true).values()) {
+            persons.addAll(personsOnDate);
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.address.model.person;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Indexes the appointments of persons by the periods they take up, in an interval tree, so that the appointments
+ * overlapping a period are found without comparing the period to every appointment.
+ *
+ * Each appointment is a period from its start time to its end time on its date, counted in minutes from the epoch
+ * so that periods on different dates never overlap. The periods are kept in a treap ordered by their start, in
+ * which each node also holds the latest end of the periods under it, so that a search skips the subtrees whose
+ * periods all end before the period searched for. Adding, removing and finding each overlapping appointment take
+ * an expected number of steps logarithmic in the number of appointments.
+ * Each of the appointments of a person is indexed, and persons without appointments are not indexed.
+ * Persons are compared by reference, as each element of a list of unique persons is indexed once.
+ */
+class AppointmentIntervalIndex {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * A period in the treap. Periods with the same start are ordered by when they were added.
+     */
+    private static class Node {
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private final int priority;
+        private final Person person;
+        private final Appointment appointment;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Person person, Appointment appointment, long sequence, int priority) {
+            this.start = startOf(appointment);
+            this.end = endOf(appointment);
+            this.sequence = sequence;
+            this.priority = priority;
+            this.person = person;
+            this.appointment = appointment;
+            this.maxEnd = end;
+        }
+
+        boolean isBefore(Node other) {
+            return start < other.start || start == other.start && sequence < other.sequence;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+
+    private final Map<Person, List<Node>> nodesByPerson = new IdentityHashMap<>();
+    private final Random priorities = new Random();
+    private Node root;
+    private long nextSequence;
+
+    void add(Person person) {
+        if (!person.hasAppointment()) {
+            return;
+        }
+
+        List<Node> nodes = new ArrayList<>();
+        for (Appointment appointment : person.getAppointments()) {
+            Node node = new Node(person, appointment, nextSequence++, priorities.nextInt());
+            nodes.add(node);
+            Node[] parts = split(root, node);
+            root = merge(merge(parts[0], node), parts[1]);
+        }
+        nodesByPerson.put(person, nodes);
+    }
+
+    void remove(Person person) {
+        List<Node> nodes = nodesByPerson.remove(person);
+        if (nodes == null) {
+            return;
+        }
+
+        for (Node node : nodes) {
+            root = remove(root, node);
+        }
+    }
+
+    void clear() {
+        nodesByPerson.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the persons with an appointment overlapping {@code period}, ordered by the start of their first such
+     * appointment.
+     * Appointments that only touch {@code period}, ending when it starts or starting when it ends, do not overlap it.
+     */
+    List<Person> getPersonsOverlapping(Appointment period) {
+        List<Node> nodes = new ArrayList<>();
+        collectOverlapping(root, startOf(period), endOf(period), nodes);
+        Set<Person> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> persons = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            if (seen.add(node.person)) {
+                persons.add(node.person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the appointments overlapping {@code period}, ordered by their start.
+     * Appointments that only touch {@code period}, ending when it starts or starting when it ends, do not overlap it.
+     */
+    List<Appointment> getAppointmentsOverlapping(Appointment period) {
+        List<Node> nodes = new ArrayList<>();
+        collectOverlapping(root, startOf(period), endOf(period), nodes);
+        List<Appointment> appointments = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            appointments.add(node.appointment);
+        }
+        return appointments;
+    }
+
+    /**
+     * Adds the nodes under {@code node} with periods overlapping the period from {@code start} to {@code end} to
+     * {@code result}, in order.
+     */
+    private static void collectOverlapping(Node node, long start, long end, List<Node> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, result);
+        if (node.start >= end) {
+            // The periods to the right start even later
+            return;
+        }
+        if (node.end > start) {
+            result.add(node);
+        }
+        collectOverlapping(node.right, start, end, result);
+    }
+
+    /**
+     * Splits the treap under {@code node} into the treap of the nodes before {@code key} and the treap of the rest.
+     */
+    private static Node[] split(Node node, Node key) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        if (node.isBefore(key)) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.update();
+            return new Node[] {node, parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.update();
+        return new Node[] {parts[0], node};
+    }
+
+    /**
+     * Merges the treaps under {@code first} and {@code second}, all of whose nodes are before those of
+     * {@code second}.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    private static Node remove(Node node, Node target) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (target.isBefore(node)) {
+            node.left = remove(node.left, target);
+        } else {
+            node.right = remove(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    private static long startOf(Appointment appointment) {
+        return minutesSinceEpoch(appointment, appointment.getFrom().value);
+    }
+
+    private static long endOf(Appointment appointment) {
+        return minutesSinceEpoch(appointment, appointment.getTo().value);
+    }
+
+    private static long minutesSinceEpoch(Appointment appointment, LocalTime time) {
+        return appointment.getDate().value.toEpochDay() * MINUTES_PER_DAY + time.toSecondOfDay() / 60;
+    }
+}
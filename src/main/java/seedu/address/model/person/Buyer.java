@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
@@ -44,6 +45,22 @@ public class Buyer extends Person {
         this.role = Role.BUYER;
     }
 
+    /**
+     * Creates a Buyer with the specified details.
+     *
+     * @param name The name of the buyer.
+     * @param phone The phone number of the buyer.
+     * @param email The email address of the buyer.
+     * @param tags The tags associated with the buyer.
+     * @param appointments The appointments of the buyer.
+     * @param remark The remark associated with the buyer.
+     */
+    public Buyer(Name name, Phone phone, Email email, Set<Tag> tags,
+                 List<Appointment> appointments, String remark) {
+        super(name, phone, email, tags, appointments, remark);
+        this.role = Role.BUYER;
+    }
+
     @Override
     public Role getRole() {
         return role;
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Tests that a {@code Person} has an {@code Appointment} on a date from a start date to an end date, inclusive.
+ */
+public class HasAppointmentBetweenPredicate implements Predicate<Person> {
+    private final LocalDate start;
+    private final LocalDate end;
+
+    /**
+     * Creates a predicate matching the persons with an appointment from {@code start} to {@code end}, inclusive.
+     */
+    public HasAppointmentBetweenPredicate(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getAppointments().stream().anyMatch(this::isWithinDates);
+    }
+
+    /**
+     * Returns the number of appointments of {@code person} from the start date to the end date.
+     */
+    public int countAppointments(Person person) {
+        return (int) person.getAppointments().stream().filter(this::isWithinDates).count();
+    }
+
+    private boolean isWithinDates(Appointment appointment) {
+        LocalDate date = appointment.getDate().value;
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof HasAppointmentBetweenPredicate otherPredicate)) {
+            return false;
+        }
+
+        return start.equals(otherPredicate.start) && end.equals(otherPredicate.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
@@ -6,14 +6,13 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
 
 /**
- * Tests that a {@code Person} has a {@code Appointment} today.
+ * Tests that a {@code Person} has an {@code Appointment} today.
  */
 public class HasAppointmentTodayPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        Appointment appointment = person.getAppointment();
-        return appointment.isToday();
+        return person.getAppointments().stream().anyMatch(Appointment::isToday);
     }
 
     @Override
@@ -5,19 +5,51 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.name.FuzzyWordIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A fuzzy predicate matches the keywords as prefixes of the words in the name, allowing for a few typos.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final boolean isFuzzy;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    /**
+     * Creates a predicate matching the keywords either exactly or, if {@code isFuzzy}, as prefixes allowing for
+     * a few typos.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, boolean isFuzzy) {
         this.keywords = keywords;
+        this.isFuzzy = isFuzzy;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public boolean isFuzzy() {
+        return isFuzzy;
     }
 
     @Override
     public boolean test(Person person) {
+        return isFuzzy ? getDistance(person) != FuzzyWordIndex.NO_MATCH : containsKeyword(person);
+    }
+
+    /**
+     * Returns the fewest typos with which a word in the name of {@code person} starts with one of the keywords, or
+     * {@link FuzzyWordIndex#NO_MATCH} if it does not match.
+     */
+    public int getDistance(Person person) {
+        return FuzzyWordIndex.getDistance(person.getName().fullName, keywords);
+    }
+
+    private boolean containsKeyword(Person person) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
@@ -34,11 +66,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && isFuzzy == otherNameContainsKeywordsPredicate.isFuzzy;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("isFuzzy", isFuzzy).toString();
     }
 }
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -15,46 +18,61 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The appointments of a person are kept in the order in which they take place.
  */
 public abstract class Person {
 
+    public static final String DEFAULT_REMARK = "No remarks yet.";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Data fields
-    private String remark = "No remarks yet.";
-    private final Appointment appointment;
+    private final String remark;
+    private final List<Appointment> appointments;
     private final Set<Tag> tags = new HashSet<>();
 
     /**
      * Every field must be present and not null.
+     * The person has no appointments if {@code appointment} is {@code Appointment.EMPTY_APPOINTMENT}.
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags,
                   Appointment appointment) {
-        requireAllNonNull(name, phone, appointment);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.appointment = appointment;
-        this.tags.addAll(tags);
+        this(name, phone, email, tags, appointment, DEFAULT_REMARK);
     }
 
     /**
      * Every field must be present and not null, excluding remark.
+     * The person has no appointments if {@code appointment} is {@code Appointment.EMPTY_APPOINTMENT}.
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags,
                   Appointment appointment, String remark) {
-        requireAllNonNull(name, phone, appointment);
+        this(name, phone, email, tags, toAppointmentList(appointment), remark);
+    }
+
+    /**
+     * Every field must be present and not null, excluding remark.
+     */
+    public Person(Name name, Phone phone, Email email, Set<Tag> tags,
+                  List<Appointment> appointments, String remark) {
+        requireAllNonNull(name, phone, appointments);
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.appointment = appointment;
+        List<Appointment> sortedAppointments = new ArrayList<>(appointments);
+        Collections.sort(sortedAppointments);
+        this.appointments = Collections.unmodifiableList(sortedAppointments);
         this.tags.addAll(tags);
         this.remark = remark;
     }
 
+    private static List<Appointment> toAppointmentList(Appointment appointment) {
+        requireNonNull(appointment);
+        return appointment.equals(Appointment.EMPTY_APPOINTMENT) ? List.of() : List.of(appointment);
+    }
+
     public Name getName() {
         return name;
     }
@@ -67,8 +85,11 @@ public abstract class Person {
         return email;
     }
 
-    public Appointment getAppointment() {
-        return appointment;
+    /**
+     * Returns an immutable list of the appointments of this person, in the order in which they take place.
+     */
+    public List<Appointment> getAppointments() {
+        return appointments;
     }
 
     public Set<Tag> getTags() {
@@ -78,9 +99,6 @@ public abstract class Person {
     public String getRemark() {
         return remark;
     }
-    public void updateRemark(String newRemark) {
-        remark = newRemark;
-    }
 
     /**
      * Returns true if both persons have the same name.
@@ -100,7 +118,7 @@ public abstract class Person {
     }
 
     public boolean hasAppointment() {
-        return !appointment.equals(Appointment.EMPTY_APPOINTMENT);
+        return !appointments.isEmpty();
     }
 
     /**
@@ -130,7 +148,7 @@ public abstract class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, appointment, tags, remark);
+        return Objects.hash(name, phone, email, appointments, tags, remark);
     }
 
     @Override
@@ -140,7 +158,7 @@ public abstract class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("tags", tags)
-                .add("appointment", appointment)
+                .add("appointments", appointments)
                 .add("remark", remark)
                 .toString();
     }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
@@ -45,6 +46,22 @@ public class Seller extends Person {
         this.role = Role.SELLER;
     }
 
+    /**
+     * Creates a Seller with the specified details.
+     *
+     * @param name The name of the seller.
+     * @param phone The phone number of the seller.
+     * @param email The email address of the seller.
+     * @param tags The tags associated with the seller.
+     * @param appointments The appointments of the seller.
+     * @param remark The remark associated with the seller.
+     */
+    public Seller(Name name, Phone phone, Email email, Set<Tag> tags,
+                  List<Appointment> appointments, String remark) {
+        super(name, phone, email, tags, appointments, remark);
+        this.role = Role.SELLER;
+    }
+
     @Override
     public Role getRole() {
         return this.role;
@@ -3,11 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.name.FuzzyWordIndex;
+import seedu.address.model.name.NameWordIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +29,17 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their case-folded full name, the same key used by
+ * {@code Person#isSamePerson(Person)}, so that identity lookups do not have to scan the list, and by their
+ * position in the list, so that a person can be replaced without scanning the list. Removing a person still
+ * takes time linear in the number of persons after it, as they move up the list.
+ * They are also indexed by the words in their names, for finding persons by name, either by whole words or
+ * by prefixes allowing for typos, and by the dates of their appointments, for finding the persons with
+ * appointments in a range of dates, and by the periods of their appointments, for finding the appointments
+ * that overlap a period.
+ * The indexes are kept in sync with the backing list by every mutating operation, and the word and date indexes
+ * are updated before the backing list so that listeners of the list see them updated.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +49,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    private final Map<Person, Integer> positionIndex = new IdentityHashMap<>();
+    private final NameWordIndex<Person> nameWordIndex = new NameWordIndex<>();
+    private final FuzzyWordIndex<Person> fuzzyNameIndex = new FuzzyWordIndex<>();
+    private final AppointmentDateIndex appointmentDateIndex = new AppointmentDateIndex();
+    private final AppointmentIntervalIndex appointmentIntervalIndex = new AppointmentIntervalIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(identityKeyOf(toCheck));
     }
 
     /**
@@ -45,7 +73,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameWordIndex.add(toAdd, toAdd.getName());
+        fuzzyNameIndex.add(toAdd, toAdd.getName().fullName);
+        appointmentDateIndex.add(toAdd);
+        appointmentIntervalIndex.add(toAdd);
         internalList.add(toAdd);
+        identityIndex.put(identityKeyOf(toAdd), toAdd);
+        positionIndex.put(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -56,8 +90,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = identityIndex.get(identityKeyOf(target));
+        if (existing == null || !existing.equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +99,19 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        nameWordIndex.remove(existing, existing.getName());
+        nameWordIndex.add(editedPerson, editedPerson.getName());
+        fuzzyNameIndex.remove(existing, existing.getName().fullName);
+        fuzzyNameIndex.add(editedPerson, editedPerson.getName().fullName);
+        appointmentDateIndex.remove(existing);
+        appointmentDateIndex.add(editedPerson);
+        appointmentIntervalIndex.remove(existing);
+        appointmentIntervalIndex.add(editedPerson);
+        int position = positionIndex.remove(existing);
+        internalList.set(position, editedPerson);
+        identityIndex.remove(identityKeyOf(existing));
+        identityIndex.put(identityKeyOf(editedPerson), editedPerson);
+        positionIndex.put(editedPerson, position);
     }
 
     /**
@@ -74,14 +120,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = identityIndex.get(identityKeyOf(toRemove));
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+
+        nameWordIndex.remove(existing, existing.getName());
+        fuzzyNameIndex.remove(existing, existing.getName().fullName);
+        appointmentDateIndex.remove(existing);
+        appointmentIntervalIndex.remove(existing);
+        int position = positionIndex.remove(existing);
+        internalList.remove(position);
+        identityIndex.remove(identityKeyOf(existing));
+        reindexPositionsFrom(position);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildWordAndDateIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
@@ -94,7 +155,57 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildWordAndDateIndexes(persons);
         internalList.setAll(persons);
+        identityIndex.clear();
+        persons.forEach(person -> identityIndex.put(identityKeyOf(person), person));
+        positionIndex.clear();
+        reindexPositionsFrom(0);
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in this list has a name containing any of {@code keywords},
+     * ignoring case, by looking the person up in the index of the words in names.
+     * The predicate stays correct as the list changes.
+     */
+    public Predicate<Person> getNameKeywordsMatcher(List<String> keywords) {
+        return nameWordIndex.getMatcher(keywords);
+    }
+
+    /**
+     * Returns the persons in this list with a word in their name that starts with any of {@code keywords},
+     * allowing for a few typos, each mapped to the fewest typos with which it matches.
+     *
+     * @see FuzzyWordIndex#search(List)
+     */
+    public Map<Person, Integer> findByFuzzyName(List<String> keywords) {
+        return fuzzyNameIndex.search(keywords);
+    }
+
+    /**
+     * Returns the persons in this list with an appointment from {@code start} to {@code end}, inclusive, found
+     * through the index of appointment dates.
+     */
+    public Set<Person> getPersonsWithAppointmentsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return appointmentDateIndex.getPersonsBetween(start, end);
+    }
+
+    /**
+     * Returns the persons in this list with an appointment overlapping {@code period}, ordered by the start of
+     * the appointment.
+     */
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment period) {
+        requireNonNull(period);
+        return appointmentIntervalIndex.getPersonsOverlapping(period);
+    }
+
+    /**
+     * Returns the appointments of the persons in this list overlapping {@code period}, ordered by their start.
+     */
+    public List<Appointment> getAppointmentsOverlapping(Appointment period) {
+        requireNonNull(period);
+        return appointmentIntervalIndex.getAppointmentsOverlapping(period);
     }
 
     /**
@@ -134,17 +245,46 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void rebuildWordAndDateIndexes(List<Person> persons) {
+        nameWordIndex.clear();
+        fuzzyNameIndex.clear();
+        appointmentDateIndex.clear();
+        appointmentIntervalIndex.clear();
+        for (Person person : persons) {
+            nameWordIndex.add(person, person.getName());
+            fuzzyNameIndex.add(person, person.getName().fullName);
+            appointmentDateIndex.add(person);
+            appointmentIntervalIndex.add(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenKeys = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenKeys.add(identityKeyOf(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Indexes the positions of the persons in the backing list from {@code start} onwards.
+     */
+    private void reindexPositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the key under which {@code person} is indexed.
+     * Two persons have the same key if and only if {@code Person#isSamePerson(Person)} holds between them.
+     */
+    private static String identityKeyOf(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
 }
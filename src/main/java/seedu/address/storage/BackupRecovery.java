@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads data files that are saved with backups, recovering the data from the most recent readable backup
+ * when the data file itself is corrupted.
+ *
+ * Only a file that cannot be read or parsed is treated as corrupted. A file that is parsed but holds data that
+ * breaks a constraint is not, as its backups are older and saving the data recovered from them would overwrite
+ * the newer data in the file.
+ */
+class BackupRecovery {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupRecovery.class);
+
+    private BackupRecovery() {}
+
+    /**
+     * Returns the data read from {@code filePath} by {@code reader}, or from the most recent of its
+     * {@code backupCount} backups that can be read if {@code filePath} is corrupted.
+     * Returns {@code Optional.empty()} if {@code filePath} is not found.
+     *
+     * @throws DataLoadingException if {@code filePath} holds invalid data, or if neither {@code filePath} nor
+     *     any of its backups can be read.
+     */
+    static <T> Optional<T> readWithBackups(Path filePath, int backupCount, DataFileReader<T> reader)
+            throws DataLoadingException {
+        try {
+            return reader.read(filePath);
+        } catch (DataLoadingException e) {
+            if (!isCorrupted(e)) {
+                logger.warning("Data file at " + filePath + " holds invalid data. Its backups are not used,"
+                        + " as they are older.");
+                throw e;
+            }
+            for (int generation = 1; generation <= backupCount; generation++) {
+                Path backupPath = FileUtil.getBackupPath(filePath, generation);
+                Optional<T> recovered = readBackup(backupPath, reader);
+                if (recovered.isPresent()) {
+                    logger.warning("Data file at " + filePath + " is corrupted. Loaded the data from backup "
+                            + backupPath + " instead. The corrupted file is kept as "
+                            + FileUtil.getBackupPath(filePath, 1) + " when the data is next saved.");
+                    return recovered;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code e} was thrown because the file could not be read or parsed.
+     */
+    private static boolean isCorrupted(DataLoadingException e) {
+        return e.getCause() instanceof IOException;
+    }
+
+    private static <T> Optional<T> readBackup(Path backupPath, DataFileReader<T> reader) {
+        try {
+            return reader.read(backupPath);
+        } catch (DataLoadingException e) {
+            logger.warning("Backup at " + backupPath + " could not be loaded either.");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the data in a file.
+     */
+    @FunctionalInterface
+    interface DataFileReader<T> {
+        /**
+         * Returns the data in the file at {@code filePath}, or {@code Optional.empty()} if the file is not found.
+         */
+        Optional<T> read(Path filePath) throws DataLoadingException;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+
+/**
+ * Saves the changes made to an address book and listings by appending them to the journal of a {@code Storage},
+ * so that the cost of saving grows with the size of the changes rather than with the size of the data.
+ *
+ * Once the journal holds as many entries as the compaction threshold, it is compacted: the data is saved in
+ * full and the journal is cleared. The data is also compacted after the journal could not be appended to,
+ * since the journal may then be missing changes.
+ */
+public class CommandJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandJournal.class);
+
+    private final Storage storage;
+    private final ReadOnlyAddressBook addressBook;
+    private final ReadOnlyListings listings;
+    private final JournalRecorder recorder;
+    private final int compactionThreshold;
+    private boolean isCompactionNeeded;
+
+    /**
+     * Creates a {@code CommandJournal} that records the changes made to {@code addressBook} and {@code listings}
+     * from now on, and saves them to {@code storage}.
+     *
+     * @param compactionThreshold the number of entries in the journal at which it is compacted.
+     */
+    public CommandJournal(Storage storage, ReadOnlyAddressBook addressBook, ReadOnlyListings listings,
+                          int compactionThreshold) {
+        requireAllNonNull(storage, addressBook, listings);
+        this.storage = storage;
+        this.addressBook = addressBook;
+        this.listings = listings;
+        this.recorder = new JournalRecorder(addressBook.getPersonList(), listings.getListingList());
+        this.compactionThreshold = Math.max(1, compactionThreshold);
+    }
+
+    /**
+     * Saves the changes recorded since this method was last called, compacting the journal if it is due.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    public void commit() throws IOException {
+        List<JournalEntry> entries = recorder.takeEntries();
+        if (isCompactionNeeded) {
+            compact();
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            storage.appendToJournal(entries);
+        } catch (IOException ioe) {
+            isCompactionNeeded = true;
+            throw ioe;
+        }
+
+        if (storage.getJournalSize() >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Saves the address book and listings in full and clears the journal.
+     *
+     * @throws IOException if the data could not be saved, in which case it is compacted again on the next commit.
+     */
+    public void compact() throws IOException {
+        logger.fine("Compacting journal " + storage.getJournalFilePath());
+        isCompactionNeeded = true;
+        recorder.takeEntries();
+        storage.saveAddressBook(addressBook);
+        storage.saveListings(listings);
+        storage.clearJournal();
+        isCompactionNeeded = false;
+    }
+}
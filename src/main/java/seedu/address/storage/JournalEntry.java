@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Records a single change to the persons in the address book or to the listings, to be appended to the journal.
+ * Guarantees: immutable; holds the person or listing added or set, and the name of the person or listing
+ * replaced or deleted.
+ */
+public class JournalEntry {
+
+    /**
+     * The kinds of changes that are recorded.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON, ADD_LISTING, SET_LISTING, DELETE_LISTING
+    }
+
+    private final Type type;
+    private final Name target;
+    private final Person person;
+    private final Listing listing;
+
+    private JournalEntry(Type type, Name target, Person person, Listing listing) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.listing = listing;
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was added.
+     */
+    public static JournalEntry addPerson(Person person) {
+        requireNonNull(person);
+        return new JournalEntry(Type.ADD_PERSON, null, person, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedPerson}.
+     */
+    public static JournalEntry setPerson(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        return new JournalEntry(Type.SET_PERSON, target.getName(), editedPerson, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was deleted.
+     */
+    public static JournalEntry deletePerson(Person person) {
+        return new JournalEntry(Type.DELETE_PERSON, person.getName(), null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code listing} was added.
+     */
+    public static JournalEntry addListing(Listing listing) {
+        requireNonNull(listing);
+        return new JournalEntry(Type.ADD_LISTING, null, null, listing);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedListing}.
+     */
+    public static JournalEntry setListing(Listing target, Listing editedListing) {
+        requireNonNull(editedListing);
+        return new JournalEntry(Type.SET_LISTING, target.getName(), null, editedListing);
+    }
+
+    /**
+     * Returns an entry recording that {@code listing} was deleted.
+     */
+    public static JournalEntry deleteListing(Listing listing) {
+        return new JournalEntry(Type.DELETE_LISTING, listing.getName(), null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the person or listing replaced or deleted, or null if this entry records an addition.
+     */
+    public Name getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person added or set, or null if this entry does not record one.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the listing added or set, or null if this entry does not record one.
+     */
+    public Listing getListing() {
+        return listing;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalEntry)) {
+            return false;
+        }
+
+        JournalEntry otherEntry = (JournalEntry) other;
+        return type == otherEntry.type
+                && Objects.equals(target, otherEntry.target)
+                && Objects.equals(person, otherEntry.person)
+                && Objects.equals(listing, otherEntry.listing);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, person, listing);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .add("listing", listing)
+                .toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the changes made to a list of persons and a list of listings as {@code JournalEntry}s.
+ *
+ * A person or listing replaced by another is recorded as set. When many are replaced at once, as when a list
+ * is reset, the ones removed are recorded as deleted and the ones that replace them as added instead.
+ */
+public class JournalRecorder {
+
+    private final List<JournalEntry> entries = new ArrayList<>();
+
+    /**
+     * Creates a {@code JournalRecorder} that records the changes made to {@code persons} and {@code listings}
+     * from now on.
+     */
+    public JournalRecorder(ObservableList<Person> persons, ObservableList<Listing> listings) {
+        requireAllNonNull(persons, listings);
+        persons.addListener((ListChangeListener<Person>) change ->
+                record(change, JournalEntry::addPerson, JournalEntry::setPerson, JournalEntry::deletePerson));
+        listings.addListener((ListChangeListener<Listing>) change ->
+                record(change, JournalEntry::addListing, JournalEntry::setListing, JournalEntry::deleteListing));
+    }
+
+    /**
+     * Returns the changes recorded since this method was last called, in the order they were made.
+     */
+    public List<JournalEntry> takeEntries() {
+        List<JournalEntry> recorded = new ArrayList<>(entries);
+        entries.clear();
+        return recorded;
+    }
+
+    private <T> void record(ListChangeListener.Change<? extends T> change, Function<T, JournalEntry> add,
+                            BiFunction<T, T, JournalEntry> set, Function<T, JournalEntry> delete) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            List<? extends T> removed = change.getRemoved();
+            List<? extends T> added = change.getAddedSubList();
+            if (change.wasReplaced() && removed.size() == 1 && added.size() == 1) {
+                entries.add(set.apply(removed.get(0), added.get(0)));
+                continue;
+            }
+
+            removed.forEach(item -> entries.add(delete.apply(item)));
+            added.forEach(item -> entries.add(add.apply(item)));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+
+/**
+ * Represents a storage for the journal of changes made to the address book and listings since they were last
+ * saved in full.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Appends {@code entries} to the journal, and returns once they have been written to the storage device.
+     * @param entries cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<JournalEntry> entries) throws IOException;
+
+    /**
+     * Applies the entries in the journal, in order, to {@code addressBook} and {@code listings}.
+     * An incomplete last entry, left by a write that was interrupted, is discarded. If an entry cannot be
+     * applied, the entries before it stay applied and the journal is set aside, as by {@link #setAsideJournal()}.
+     * Returns the number of entries applied.
+     *
+     * @throws DataLoadingException if reading the journal or setting it aside failed.
+     */
+    int replayJournal(AddressBook addressBook, Listings listings) throws DataLoadingException;
+
+    /**
+     * Returns the number of entries in the journal.
+     */
+    int getJournalSize() throws IOException;
+
+    /**
+     * Moves the journal to a new file beside it, so that its entries are kept but no longer applied.
+     * Returns the path of that file.
+     * @throws IOException if there was any problem moving the file.
+     */
+    Path setAsideJournal() throws IOException;
+
+    /**
+     * Removes all entries from the journal.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void clearJournal() throws IOException;
+}
@@ -2,6 +2,9 @@ package seedu.address.storage;
 
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -13,19 +16,31 @@ import seedu.address.model.appointment.To;
 
 /**
  * Jackson-friendly version of {@link Appointment}.
+ * The date is stored as the number of days since the epoch, and the start and end times as the number of minutes
+ * since midnight, so that each appointment takes up three numbers instead of three objects of formatted strings.
  */
 public class JsonAdaptedAppointment {
-    private final JsonAdaptedDate date;
-    private final JsonAdaptedFrom from;
-    private final JsonAdaptedTo to;
+
+    public static final String MESSAGE_INVALID_DATE = "Appointment dates must be from the years 2000 to 2099.";
+    public static final String MESSAGE_INVALID_TIMES =
+            "Appointment times must be minutes from 0 to 1439 after midnight, and cannot start after they end.";
+
+    private static final long MIN_DATE = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long MAX_DATE = LocalDate.of(2099, 12, 31).toEpochDay();
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final Long date;
+    private final Integer from;
+    private final Integer to;
 
     /**
-     * Constructs a {@code JsonAdaptedAppointment} with the given Appointment details.
+     * Constructs a {@code JsonAdaptedAppointment} with the given appointment details.
      */
     @JsonCreator
-    public JsonAdaptedAppointment(@JsonProperty("date") JsonAdaptedDate date,
-                                  @JsonProperty("from") JsonAdaptedFrom from,
-                                  @JsonProperty("to") JsonAdaptedTo to) {
+    public JsonAdaptedAppointment(@JsonProperty("date") Long date,
+                                  @JsonProperty("from") Integer from,
+                                  @JsonProperty("to") Integer to) {
         this.date = date;
         this.from = from;
         this.to = to;
@@ -35,9 +50,9 @@ public class JsonAdaptedAppointment {
      * Converts a given {@code Appointment} into this class for Jackson use.
      */
     public JsonAdaptedAppointment(Appointment source) {
-        this.date = new JsonAdaptedDate(source.getDate());
-        this.from = new JsonAdaptedFrom(source.getFrom());
-        this.to = new JsonAdaptedTo(source.getTo());
+        this.date = source.getDate().value.toEpochDay();
+        this.from = toMinuteOfDay(source.getFrom().value);
+        this.to = toMinuteOfDay(source.getTo().value);
     }
 
     /**
@@ -46,27 +61,35 @@ public class JsonAdaptedAppointment {
      * @throws IllegalValueException if there were any data constraints violated in the adapted appointment.
      */
     public Appointment toModelType() throws IllegalValueException {
-        handleMissingFieldExceptions();
-
-        Date modelDate = date.toModelType();
-        From modelFrom = from.toModelType();
-        To modelTo = to.toModelType();
-
-        return new Appointment(modelDate, modelFrom, modelTo);
-    }
-
-    private void handleMissingFieldExceptions() throws IllegalValueException {
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
         }
-
         if (from == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, From.class.getSimpleName()));
         }
-
         if (to == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, To.class.getSimpleName()));
         }
+
+        if (date < MIN_DATE || date > MAX_DATE) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+        if (!isValidMinuteOfDay(from) || !isValidMinuteOfDay(to) || from > to) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIMES);
+        }
+
+        return new Appointment(Date.of(LocalDate.ofEpochDay(date)), From.of(toTime(from)), To.of(toTime(to)));
     }
 
+    private static boolean isValidMinuteOfDay(int minute) {
+        return minute >= 0 && minute < MINUTES_PER_DAY;
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.toSecondOfDay() / SECONDS_PER_MINUTE;
+    }
+
+    private static LocalTime toTime(int minuteOfDay) {
+        return LocalTime.ofSecondOfDay((long) minuteOfDay * SECONDS_PER_MINUTE);
+    }
 }
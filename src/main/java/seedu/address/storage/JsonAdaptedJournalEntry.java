@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link JournalEntry}.
+ * Listings refer to their clients by name, as in {@link JsonAdaptedListing}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing.";
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry's type %s is not recognised.";
+
+    private final String type;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String target;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPerson person;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedListing listing;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type, @JsonProperty("target") String target,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("listing") JsonAdaptedListing listing) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.listing = listing;
+    }
+
+    /**
+     * Converts a given {@code JournalEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(JournalEntry source) {
+        type = source.getType().name();
+        target = source.getTarget() == null ? null : source.getTarget().fullName;
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        listing = source.getListing() == null ? null : new JsonAdaptedListing(source.getListing());
+    }
+
+    /**
+     * Applies the recorded change to {@code addressBook} or {@code listings}.
+     * {@code clientsByKey} maps the {@link JsonAdaptedListing#clientKeyOf(String) key} of every person in
+     * {@code addressBook} to that person, and is kept up to date with the changes applied to it.
+     *
+     * Changes are applied by identity, so applying an entry again, or to data that already contains the
+     * change, leaves the data as it is: a person or listing that is added is set if it already exists,
+     * one that is set is added if it no longer exists, and one that is deleted is ignored if it is missing.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(AddressBook addressBook, Listings listings, Map<String, Person> clientsByKey)
+            throws IllegalValueException {
+        JournalEntry.Type entryType = toModelType();
+        switch (entryType) {
+        case ADD_PERSON:
+        case SET_PERSON:
+            putPerson(addressBook, clientsByKey, person.toModelType());
+            break;
+        case DELETE_PERSON:
+            Person toDelete = clientsByKey.remove(JsonAdaptedListing.clientKeyOf(requireTarget()));
+            if (toDelete != null) {
+                addressBook.removePerson(toDelete);
+            }
+            break;
+        case ADD_LISTING:
+        case SET_LISTING:
+            putListing(listings, listing.toModelType(clientsByKey));
+            break;
+        case DELETE_LISTING:
+            Listing listingToDelete = listings.getListingByName(new Name(requireTarget()));
+            if (listingToDelete != null) {
+                listings.removeListing(listingToDelete);
+            }
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+    }
+
+    /**
+     * Returns the type of the recorded change, checking that the entry holds what that type needs.
+     */
+    private JournalEntry.Type toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        JournalEntry.Type entryType;
+        try {
+            entryType = JournalEntry.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        if ((entryType == JournalEntry.Type.ADD_PERSON || entryType == JournalEntry.Type.SET_PERSON)
+                && person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        if ((entryType == JournalEntry.Type.ADD_LISTING || entryType == JournalEntry.Type.SET_LISTING)
+                && listing == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "listing"));
+        }
+        return entryType;
+    }
+
+    private String requireTarget() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (!Name.isValidName(target)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return target;
+    }
+
+    /**
+     * Puts {@code toPut} in place of the target person, or of the person with the same name if there is
+     * no target, adding it if neither exists.
+     */
+    private void putPerson(AddressBook addressBook, Map<String, Person> clientsByKey, Person toPut)
+            throws IllegalValueException {
+        String existingName = target == null ? toPut.getName().fullName : requireTarget();
+        Person existing = clientsByKey.get(JsonAdaptedListing.clientKeyOf(existingName));
+        String key = JsonAdaptedListing.clientKeyOf(toPut.getName().fullName);
+
+        Person sameName = clientsByKey.get(key);
+        if (sameName != null && sameName != existing) {
+            addressBook.removePerson(sameName);
+        }
+
+        if (existing == null) {
+            addressBook.addPerson(toPut);
+        } else {
+            addressBook.setPerson(existing, toPut);
+            clientsByKey.remove(JsonAdaptedListing.clientKeyOf(existing.getName().fullName));
+        }
+        clientsByKey.put(key, toPut);
+    }
+
+    /**
+     * Puts {@code toPut} in place of the target listing, or of the listing with the same name if there is
+     * no target, adding it if neither exists. Other listings with the same name or address are removed.
+     */
+    private void putListing(Listings listings, Listing toPut) throws IllegalValueException {
+        Name existingName = target == null ? toPut.getName() : new Name(requireTarget());
+        Listing existing = listings.getListingByName(existingName);
+
+        Listing sameName = listings.getListingByName(toPut.getName());
+        Listing sameAddress = listings.getListingByAddress(toPut.getAddress());
+        removeIfOther(listings, sameName, existing);
+        if (sameAddress != sameName) {
+            removeIfOther(listings, sameAddress, existing);
+        }
+
+        if (existing == null) {
+            listings.addListing(toPut);
+        } else {
+            listings.setListing(existing, toPut);
+        }
+    }
+
+    private static void removeIfOther(Listings listings, Listing found, Listing existing) {
+        if (found != null && found != existing) {
+            listings.removeListing(found);
+        }
+    }
+}
@@ -4,12 +4,17 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
@@ -21,17 +26,28 @@ import seedu.address.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Listing}.
+ * The seller and buyers are stored as references to clients in the address book, by their names.
+ * Listings saved in the older format, which embeds a full copy of every client, can still be read.
  */
 public class JsonAdaptedListing {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Listing's %s field is missing.";
+    public static final String MESSAGE_UNKNOWN_SELLER = "Listing's seller %s is not in the address book.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedListing.class);
 
     private final String listingName;
     private final String price;
     private final String area;
     private final String region;
     private final String address;
+    private final String sellerName;
+    private final List<String> buyerNames = new ArrayList<>();
+
+    // Clients embedded by listings saved in the older format, which are never written back.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedPerson seller;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> buyers = new ArrayList<>();
 
     /**
@@ -40,13 +56,19 @@ public class JsonAdaptedListing {
     @JsonCreator
     public JsonAdaptedListing(@JsonProperty("name") String listingName, @JsonProperty("price") String price,
                              @JsonProperty("area") String area, @JsonProperty("region") String region,
-                             @JsonProperty("address") String address, @JsonProperty("seller") JsonAdaptedPerson seller,
-                              @JsonProperty("buyers") List<JsonAdaptedPerson> buyers) {
+                             @JsonProperty("address") String address, @JsonProperty("sellerName") String sellerName,
+                             @JsonProperty("buyerNames") List<String> buyerNames,
+                             @JsonProperty("seller") JsonAdaptedPerson seller,
+                             @JsonProperty("buyers") List<JsonAdaptedPerson> buyers) {
         this.listingName = listingName;
         this.price = price;
         this.area = area;
         this.region = region;
         this.address = address;
+        this.sellerName = sellerName;
+        if (buyerNames != null) {
+            this.buyerNames.addAll(buyerNames);
+        }
         this.seller = seller;
         if (buyers != null) {
             this.buyers.addAll(buyers);
@@ -62,23 +84,78 @@ public class JsonAdaptedListing {
         area = source.getArea().toString();
         region = source.getRegion().name();
         address = source.getAddress().value;
-        seller = new JsonAdaptedPerson(source.getSeller());
-        buyers.addAll(source.getBuyers().stream()
-                .map(JsonAdaptedPerson::new)
+        sellerName = source.getSeller().getName().fullName;
+        buyerNames.addAll(source.getBuyers().stream()
+                .map(buyer -> buyer.getName().fullName)
                 .collect(Collectors.toList()));
+        seller = null;
+    }
+
+    /**
+     * Returns true if this listing was saved in the older format, which embeds copies of its clients.
+     */
+    public boolean isEmbeddedFormat() {
+        return sellerName == null && seller != null;
+    }
+
+    /**
+     * Returns the key under which {@code clientName} is looked up in the map given to {@link #toModelType(Map)}.
+     * Clients are identified by name, ignoring case, as in {@code Person#isSamePerson(Person)}.
+     */
+    public static String clientKeyOf(String clientName) {
+        return clientName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if any buyer of this listing is not one of the clients in {@code clientsByKey}, in which case
+     * {@link #toModelType(Map)} leaves that buyer out.
+     *
+     * @throws IllegalValueException if an embedded buyer of this listing violates the data constraints.
+     */
+    public boolean hasBuyersNotIn(Map<String, Person> clientsByKey) throws IllegalValueException {
+        for (String buyerName : getBuyerNames()) {
+            if (!clientsByKey.containsKey(clientKeyOf(buyerName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<String> getBuyerNames() throws IllegalValueException {
+        List<String> listingBuyerNames = new ArrayList<>(buyerNames);
+        for (JsonAdaptedPerson buyer : buyers) {
+            listingBuyerNames.add(buyer.toModelType().getName().fullName);
+        }
+        return listingBuyerNames;
     }
 
     /**
      * Converts this Jackson-friendly adapted listing object into the model's {@code Listing} object.
+     * The seller and buyers are resolved to the clients in {@code clientsByKey}, which maps the
+     * {@link #clientKeyOf(String) key} of every client in the address book to that client.
+     * Buyers that are not in the address book are left out of the listing.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted listing,
+     *     or if the seller is not in the address book.
      */
-    public Listing toModelType() throws IllegalValueException {
+    public Listing toModelType(Map<String, Person> clientsByKey) throws IllegalValueException {
         handleExceptions();
 
-        final List<Person> listingBuyers = new ArrayList<>();
-        for (JsonAdaptedPerson tag : buyers) {
-            listingBuyers.add(tag.toModelType());
+        final String modelSellerName = isEmbeddedFormat() ? seller.toModelType().getName().fullName : sellerName;
+        final Person modelSeller = clientsByKey.get(clientKeyOf(modelSellerName));
+        if (modelSeller == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SELLER, modelSellerName));
+        }
+
+        final Set<Person> modelBuyers = new HashSet<>();
+        for (String buyerName : getBuyerNames()) {
+            Person buyer = clientsByKey.get(clientKeyOf(buyerName));
+            if (buyer == null) {
+                logger.warning("Buyer " + buyerName + " of listing " + listingName
+                        + " is not in the address book and is left out.");
+                continue;
+            }
+            modelBuyers.add(buyer);
         }
 
         final Name modelListingName = new Name(listingName);
@@ -86,8 +163,6 @@ public class JsonAdaptedListing {
         final Area modelArea = new Area(area);
         final Region modelRegion = Region.fromString(region);
         final Address modelAddress = new Address(address);
-        final Person modelSeller = seller.toModelType();
-        final Set<Person> modelBuyers = new HashSet<>(listingBuyers);
 
         return new Listing(modelListingName, modelAddress, modelPrice, modelArea, modelRegion,
                 modelSeller, modelBuyers);
@@ -134,7 +209,7 @@ public class JsonAdaptedListing {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
 
-        if (seller == null) {
+        if (sellerName == null && seller == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
         }
     }
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -29,24 +30,31 @@ class JsonAdaptedPerson {
     private final String name;
     private final String phone;
     private final String email;
-    private final JsonAdaptedAppointment appointment;
+    private final List<JsonAdaptedAppointment> appointments;
+    // Only read from data files written when each person had a single appointment
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedLegacyAppointment appointment;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final String role;
     private final String remark;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * The person's appointments are read from {@code appointments}, or from the single {@code appointment} of
+     * older data files if there is no list of appointments.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
-                             @JsonProperty("appointment") JsonAdaptedAppointment appointment,
+                             @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments,
+                             @JsonProperty("appointment") JsonAdaptedLegacyAppointment appointment,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("role") String role,
                              @JsonProperty("remark") String remark) {
         this.name = name;
         this.phone = phone;
         this.email = email;
+        this.appointments = appointments;
         this.appointment = appointment;
         this.role = role;
         if (tags != null) {
@@ -62,7 +70,10 @@ class JsonAdaptedPerson {
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
-        appointment = new JsonAdaptedAppointment(source.getAppointment());
+        appointments = source.getAppointments().stream()
+                .map(JsonAdaptedAppointment::new)
+                .collect(Collectors.toList());
+        appointment = null;
         role = source instanceof Buyer ? "buyer" : "seller";
         tags.addAll(source.getTags().stream()
                   .map(JsonAdaptedTag::new)
@@ -87,17 +98,33 @@ class JsonAdaptedPerson {
         final Phone modelPhone = new Phone(phone);
         final Email modelEmail = new Email(email);
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        final Appointment modelAppointment = appointment.toModelType();
+        final List<Appointment> modelAppointments = toModelAppointments();
 
-        return createPerson(modelName, modelPhone, modelEmail, modelTags, modelAppointment, remark);
+        return createPerson(modelName, modelPhone, modelEmail, modelTags, modelAppointments, remark);
+    }
+
+    private List<Appointment> toModelAppointments() throws IllegalValueException {
+        final List<Appointment> modelAppointments = new ArrayList<>();
+        if (appointments == null) {
+            Appointment legacyAppointment = appointment.toModelType();
+            if (!legacyAppointment.equals(Appointment.EMPTY_APPOINTMENT)) {
+                modelAppointments.add(legacyAppointment);
+            }
+            return modelAppointments;
+        }
+
+        for (JsonAdaptedAppointment adaptedAppointment : appointments) {
+            modelAppointments.add(adaptedAppointment.toModelType());
+        }
+        return modelAppointments;
     }
 
     private Person createPerson(Name name, Phone phone,
-            Email email, Set<Tag> tags, Appointment appointment, String remark) {
+            Email email, Set<Tag> tags, List<Appointment> appointments, String remark) {
         if (role.equals("buyer")) {
-            return new Buyer(name, phone, email, tags, appointment, remark);
+            return new Buyer(name, phone, email, tags, appointments, remark);
         } else {
-            return new Seller(name, phone, email, tags, appointment, remark);
+            return new Seller(name, phone, email, tags, appointments, remark);
         }
     }
 
@@ -126,7 +153,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
 
-        if (appointment == null) {
+        if (appointments == null && appointment == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Appointment.class.getSimpleName()));
         }
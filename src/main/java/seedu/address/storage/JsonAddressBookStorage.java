@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +23,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the saved JSON is indented over several lines, instead of written compactly.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which keeps {@code backupCount}
+     * previous versions of the file as backups. The data is recovered from the backups if the file cannot be read.
+     *
+     * @param isPrettyPrinted whether the saved JSON is indented over several lines, instead of written compactly.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, int backupCount) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +62,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is parsed as a stream, and every person is converted as soon as it is parsed.
+     * If the file cannot be read, the data is read from the most recent of its backups that can be read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +71,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+        return BackupRecovery.readWithBackups(filePath, backupCount, this::readAddressBookFile);
+    }
 
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD,
+                    JsonAdaptedPerson.class, jsonAdaptedPerson ->
+                            JsonSerializableAddressBook.addToModelType(addressBook, jsonAdaptedPerson));
+            return isFound ? Optional.of(addressBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,7 +101,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD,
+                addressBook.getPersonList(), JsonAdaptedPerson::new, isPrettyPrinted, backupCount);
     }
 }
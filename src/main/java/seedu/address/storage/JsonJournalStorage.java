@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access the journal stored as a file on the hard disk, with one json entry per line.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    public static final String DEFAULT_FILE_NAME = "journal.jsonl";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+    private static final int UNKNOWN_SIZE = -1;
+
+    private Path filePath;
+    private int size = UNKNOWN_SIZE;
+
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void appendToJournal(List<JournalEntry> entries) throws IOException {
+        requireAllNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(JsonUtil.toSingleLineJsonString(new JsonAdaptedJournalEntry(entry))).append('\n');
+        }
+
+        int sizeBefore = getJournalSize();
+        size = UNKNOWN_SIZE;
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        size = sizeBefore + entries.size();
+    }
+
+    @Override
+    public int replayJournal(AddressBook addressBook, Listings listings) throws DataLoadingException {
+        requireAllNonNull(addressBook, listings);
+        if (!Files.exists(filePath)) {
+            size = 0;
+            return 0;
+        }
+
+        String content = readCompleteEntries();
+        Map<String, Person> clientsByKey = JsonSerializableListings.clientsByKeyOf(addressBook);
+
+        int applied = 0;
+        for (String line : content.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class)
+                        .applyTo(addressBook, listings, clientsByKey);
+            } catch (IOException e) {
+                logger.warning("Error reading entry " + (applied + 1) + " of journal " + filePath + ": " + e);
+                return setAsideAfter(applied);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + (applied + 1) + " of journal " + filePath + ": "
+                        + ive.getMessage());
+                return setAsideAfter(applied);
+            }
+            applied++;
+        }
+
+        size = applied;
+        logger.info("Replayed " + applied + " entries from journal " + filePath);
+        return applied;
+    }
+
+    /**
+     * Sets the journal aside once {@code applied} of its entries have been replayed and the next one could not be,
+     * and returns {@code applied}.
+     */
+    private int setAsideAfter(int applied) throws DataLoadingException {
+        try {
+            Path keptPath = setAsideJournal();
+            logger.warning("Replayed only the first " + applied + " entries of journal " + filePath
+                    + ". The journal is kept as " + keptPath + ".");
+            return applied;
+        } catch (IOException e) {
+            logger.warning("Error setting aside journal " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the complete lines of the journal file, discarding a last line that is not terminated.
+     */
+    private String readCompleteEntries() throws DataLoadingException {
+        try {
+            String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+            String completeEntries = content.substring(0, content.lastIndexOf('\n') + 1);
+            if (completeEntries.length() < content.length()) {
+                logger.warning("Discarding incomplete last entry of journal " + filePath);
+                try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                    channel.truncate(completeEntries.getBytes(StandardCharsets.UTF_8).length);
+                    channel.force(false);
+                }
+            }
+            return completeEntries;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public int getJournalSize() throws IOException {
+        if (size == UNKNOWN_SIZE) {
+            size = Files.exists(filePath) ? countEntries() : 0;
+        }
+        return size;
+    }
+
+    private int countEntries() throws IOException {
+        int count = 0;
+        for (byte b : Files.readAllBytes(filePath)) {
+            if (b == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Path setAsideJournal() throws IOException {
+        Path keptPath = filePath.resolveSibling(filePath.getFileName() + ".corrupted-" + System.currentTimeMillis());
+        Files.move(filePath, keptPath);
+        size = 0;
+        return keptPath;
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        requireNonNull(filePath);
+        Files.deleteIfExists(filePath);
+        size = 0;
+    }
+}
@@ -4,7 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -12,7 +18,10 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access Listings data stored as a json file on the hard disk.
@@ -22,8 +31,32 @@ public class JsonListingsStorage implements ListingStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonListingsStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int backupCount;
+
     public JsonListingsStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonListingsStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the saved JSON is indented over several lines, instead of written compactly.
+     */
+    public JsonListingsStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, 0);
+    }
+
+    /**
+     * Creates a {@code JsonListingsStorage} for the file at {@code filePath}, which keeps {@code backupCount} previous
+     * versions of the file as backups. The data is recovered from the backups if the file cannot be read.
+     *
+     * @param isPrettyPrinted whether the saved JSON is indented over several lines, instead of written compactly.
+     */
+    public JsonListingsStorage(Path filePath, boolean isPrettyPrinted, int backupCount) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.backupCount = backupCount;
     }
 
     public Path getListingsFilePath() {
@@ -31,31 +64,100 @@ public class JsonListingsStorage implements ListingStorage {
     }
 
     @Override
-    public Optional<ReadOnlyListings> readListings() throws DataLoadingException {
-        return readListings(filePath);
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return readListings(filePath, addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListingsConcurrently(
+            CompletableFuture<? extends ReadOnlyAddressBook> addressBook) throws DataLoadingException {
+        return readListingsConcurrently(filePath, addressBook);
     }
 
     /**
-     * Similar to {@link #readListings()} ()}.
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}.
+     * The file is parsed as a stream, and every listing is converted as soon as it is parsed.
+     * A file in the older format, which embeds copies of the clients, is rewritten in the current format, unless
+     * buyers not in {@code addressBook} were left out of its listings, so that reading the file does not erase them.
+     * If the file cannot be read, the data is read from the most recent of its backups that can be read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    public Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyListings> readListings(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        return readListingsConcurrently(filePath, CompletableFuture.completedFuture(addressBook));
+    }
+
+    /**
+     * Similar to {@link #readListingsConcurrently(CompletableFuture)}.
+     * The listings parsed before {@code addressBook} is read are kept as parsed, and converted once it is read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed, or if reading {@code addressBook} failed.
+     */
+    public Optional<ReadOnlyListings> readListingsConcurrently(Path filePath,
+            CompletableFuture<? extends ReadOnlyAddressBook> addressBook) throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(addressBook);
 
-        Optional<JsonSerializableListings> jsonListings = JsonUtil.readJsonFile(
-                filePath, JsonSerializableListings.class);
-        if (!jsonListings.isPresent()) {
-            return Optional.empty();
+        Optional<ListingsReader> readerOptional = BackupRecovery.readWithBackups(filePath, backupCount,
+                path -> readListingsFile(path, addressBook));
+        // The listings are not resolved against an address book that could not be read
+        awaitAddressBook(addressBook);
+        if (readerOptional.isPresent() && readerOptional.get().hasEmbeddedClients) {
+            ListingsReader reader = readerOptional.get();
+            if (reader.hasLeftOutBuyers) {
+                logger.warning("Not migrating " + filePath + " to reference clients by name, as buyers that are"
+                        + " not in the address book were left out of its listings.");
+            } else {
+                migrateListings(reader.listings, filePath);
+            }
         }
+        return readerOptional.map(reader -> reader.listings);
+    }
 
+    private Optional<ListingsReader> readListingsFile(Path filePath,
+            CompletableFuture<? extends ReadOnlyAddressBook> addressBook) throws DataLoadingException {
+        ListingsReader reader = new ListingsReader(addressBook);
         try {
-            return Optional.of(jsonListings.get().toModelType());
+            if (!JsonUtil.readJsonArrayFile(filePath, JsonSerializableListings.LISTINGS_FIELD,
+                    JsonAdaptedListing.class, reader)) {
+                return Optional.empty();
+            }
+            reader.convertParsedListings();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(reader);
+    }
+
+    /**
+     * Waits for {@code addressBook} to be read.
+     *
+     * @throws DataLoadingException if reading {@code addressBook} failed.
+     */
+    private static void awaitAddressBook(CompletableFuture<? extends ReadOnlyAddressBook> addressBook)
+            throws DataLoadingException {
+        try {
+            addressBook.join();
+        } catch (CompletionException e) {
+            throw new DataLoadingException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (CancellationException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void migrateListings(ReadOnlyListings listings, Path filePath) {
+        logger.info("Migrating " + filePath + " to reference clients by name.");
+        try {
+            saveListings(listings, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Could not migrate " + filePath + ": " + ioe.getMessage()
+                    + ". It will be migrated on the next save.");
+        }
     }
 
     @Override
@@ -72,8 +174,62 @@ public class JsonListingsStorage implements ListingStorage {
         requireNonNull(listings);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableListings(listings), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableListings.LISTINGS_FIELD,
+                listings.getListingList(), JsonAdaptedListing::new, isPrettyPrinted, backupCount);
     }
 
+    /**
+     * Converts listings into the model's {@code Listings} object as they are read.
+     * Until the address book that the listings refer to is read, the listings are kept as parsed.
+     */
+    private static class ListingsReader implements JsonUtil.JsonElementHandler<JsonAdaptedListing> {
+        private final Listings listings = new Listings();
+        private final CompletableFuture<? extends ReadOnlyAddressBook> addressBook;
+        private final List<JsonAdaptedListing> parsedListings = new ArrayList<>();
+        private Map<String, Person> clientsByKey;
+        private boolean hasEmbeddedClients;
+        private boolean hasLeftOutBuyers;
+
+        ListingsReader(CompletableFuture<? extends ReadOnlyAddressBook> addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public void handle(JsonAdaptedListing jsonAdaptedListing) throws IllegalValueException {
+            hasEmbeddedClients |= jsonAdaptedListing.isEmbeddedFormat();
+            if (clientsByKey == null && addressBook.isDone() && !addressBook.isCompletedExceptionally()) {
+                clientsByKey = JsonSerializableListings.clientsByKeyOf(addressBook.join());
+                convertParsedListings();
+            }
+            if (clientsByKey == null) {
+                parsedListings.add(jsonAdaptedListing);
+            } else {
+                convert(jsonAdaptedListing);
+            }
+        }
+
+        /**
+         * Waits for the address book to be read, and converts the listings kept as parsed until then.
+         * The listings are left as parsed if the address book could not be read.
+         */
+        void convertParsedListings() throws IllegalValueException {
+            if (clientsByKey == null) {
+                try {
+                    clientsByKey = JsonSerializableListings.clientsByKeyOf(addressBook.join());
+                } catch (CompletionException | CancellationException e) {
+                    return;
+                }
+            }
+            for (JsonAdaptedListing jsonAdaptedListing : parsedListings) {
+                convert(jsonAdaptedListing);
+            }
+            parsedListings.clear();
+        }
+
+        private void convert(JsonAdaptedListing jsonAdaptedListing) throws IllegalValueException {
+            JsonSerializableListings.addToModelType(listings, jsonAdaptedListing, clientsByKey);
+            hasLeftOutBuyers |= jsonAdaptedListing.hasBuyersNotIn(clientsByKey);
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
 
 /**
  * An Immutable Listings that is serializable to JSON format.
@@ -19,6 +23,7 @@ import seedu.address.model.listing.Listing;
 @JsonRootName(value = "listings")
 public class JsonSerializableListings {
     public static final String MESSAGE_DUPLICATE_LISTING = "Listings contains duplicate listing(s).";
+    public static final String LISTINGS_FIELD = "listings";
 
     private final List<JsonAdaptedListing> listings = new ArrayList<>();
 
@@ -26,7 +31,7 @@ public class JsonSerializableListings {
      * Constructs a {@code JsonSerializableListings} with the given listings.
      */
     @JsonCreator
-    public JsonSerializableListings(@JsonProperty("listings") List<JsonAdaptedListing> listings) {
+    public JsonSerializableListings(@JsonProperty(LISTINGS_FIELD) List<JsonAdaptedListing> listings) {
         this.listings.addAll(listings);
     }
 
@@ -39,20 +44,54 @@ public class JsonSerializableListings {
         listings.addAll(source.getListingList().stream().map(JsonAdaptedListing::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if any of the listings was saved in the older format, which embeds copies of its clients.
+     */
+    public boolean hasEmbeddedClients() {
+        return listings.stream().anyMatch(JsonAdaptedListing::isEmbeddedFormat);
+    }
+
     /**
      * Converts the listings into the model's {@code Listings} object.
+     * The clients of every listing are resolved to the clients in {@code addressBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public Listings toModelType() throws IllegalValueException {
+    public Listings toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        Map<String, Person> clientsByKey = clientsByKeyOf(addressBook);
         Listings newListings = new Listings();
         for (JsonAdaptedListing jsonAdaptedListing : listings) {
-            Listing listing = jsonAdaptedListing.toModelType();
-            if (newListings.hasListing(listing)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
-            }
-            newListings.addListing(listing);
+            addToModelType(newListings, jsonAdaptedListing, clientsByKey);
         }
         return newListings;
     }
+
+    /**
+     * Returns a map from the {@link JsonAdaptedListing#clientKeyOf(String) key} of every client in
+     * {@code addressBook} to that client.
+     */
+    public static Map<String, Person> clientsByKeyOf(ReadOnlyAddressBook addressBook) {
+        Map<String, Person> clientsByKey = new HashMap<>();
+        for (Person client : addressBook.getPersonList()) {
+            clientsByKey.put(JsonAdaptedListing.clientKeyOf(client.getName().fullName), client);
+        }
+        return clientsByKey;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedListing} into the model's {@code Listing} object and adds it to {@code listings}.
+     * Its clients are resolved to the clients in {@code clientsByKey}, as in
+     * {@link JsonAdaptedListing#toModelType(Map)}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if {@code listings}
+     *     already contains the listing.
+     */
+    public static void addToModelType(Listings listings, JsonAdaptedListing jsonAdaptedListing,
+            Map<String, Person> clientsByKey) throws IllegalValueException {
+        Listing listing = jsonAdaptedListing.toModelType(clientsByKey);
+        if (listings.hasListing(listing)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
+        }
+        listings.addListing(listing);
+    }
 }
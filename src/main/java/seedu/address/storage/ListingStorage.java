@@ -3,8 +3,10 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 
 /**
@@ -19,16 +21,29 @@ public interface ListingStorage {
 
     /**
      * Returns Listings data as a {@link ReadOnlyListings}.
+     * The sellers and buyers of the listings are the clients in {@code addressBook} they refer to.
      * Returns {@code Optional.empty()} if storage file is not found.
      *
+     * @param addressBook the clients referred to by the listings. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    Optional<ReadOnlyListings> readListings() throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException;
 
     /**
-     * @see #getListingsFilePath()
+     * @see #readListings(ReadOnlyAddressBook)
      */
-    Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
+
+    /**
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}, but the file is parsed while {@code addressBook} is still
+     * being read, by another thread. The listings parsed before it is read are resolved against it once it is read.
+     *
+     * @param addressBook the clients referred to by the listings, once read. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed, or if reading {@code addressBook} failed.
+     */
+    Optional<ReadOnlyListings> readListingsConcurrently(CompletableFuture<? extends ReadOnlyAddressBook> addressBook)
+            throws DataLoadingException;
 
     /**
      * Saves the given {@link ReadOnlyListings} to the storage.
@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -13,7 +16,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, ListingStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, ListingStorage, UserPrefsStorage, JournalStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -34,13 +37,30 @@ public interface Storage extends AddressBookStorage, ListingStorage, UserPrefsSt
     Path getListingsFilePath();
 
     @Override
-    Optional<ReadOnlyListings> readListings() throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException;
 
     @Override
-    Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
 
     @Override
     void saveListings(ReadOnlyListings listings) throws IOException;
 
+    @Override
+    Path getJournalFilePath();
+
+    @Override
+    void appendToJournal(List<JournalEntry> entries) throws IOException;
+
+    @Override
+    int replayJournal(AddressBook addressBook, Listings listings) throws DataLoadingException;
 
+    @Override
+    int getJournalSize() throws IOException;
+
+    @Override
+    Path setAsideJournal() throws IOException;
+
+    @Override
+    void clearJournal() throws IOException;
 }
@@ -2,11 +2,15 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -20,17 +24,37 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private static final String READ_ATTEMPT = "Attempting to read data from file: ";
     private static final String WRITE_ATTEMPT = "Attempting to write to data file: ";
+    private static final String WRITE_SKIPPED = "Data file is up to date, not writing to it: ";
+    private static final long NO_VERSION = -1;
     private AddressBookStorage addressBookStorage;
     private ListingStorage listingStorage;
     private UserPrefsStorage userPrefsStorage;
+    private JournalStorage journalStorage;
+
+    // Versions of the data last read from or written to the default data files, or NO_VERSION if unknown
+    private long savedAddressBookVersion = NO_VERSION;
+    private long savedListingsVersion = NO_VERSION;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * The journal is kept in the folder of the address book data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           ListingStorage listingStorage) {
+        this(addressBookStorage, userPrefsStorage, listingStorage, new JsonJournalStorage(
+                addressBookStorage.getAddressBookFilePath().resolveSibling(JsonJournalStorage.DEFAULT_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage},
+     * {@code ListingStorage} and {@code JournalStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          ListingStorage listingStorage, JournalStorage journalStorage) {
         this.addressBookStorage = addressBookStorage;
         this.listingStorage = listingStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journalStorage = journalStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,7 +84,9 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(addressBookStorage.getAddressBookFilePath());
+        savedAddressBookVersion = addressBook.map(ReadOnlyAddressBook::getVersion).orElse(NO_VERSION);
+        return addressBook;
     }
 
     @Override
@@ -69,14 +95,25 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * Nothing is written if the file already holds this version of the address book.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBook.getVersion() == savedAddressBookVersion) {
+            logger.fine(WRITE_SKIPPED + addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        savedAddressBookVersion = addressBook.getVersion();
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine(WRITE_ATTEMPT + filePath);
+        savedAddressBookVersion = NO_VERSION;
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
@@ -88,25 +125,83 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyListings> readListings() throws DataLoadingException {
-        return readListings(listingStorage.getListingsFilePath());
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        Optional<ReadOnlyListings> listings = readListings(listingStorage.getListingsFilePath(), addressBook);
+        savedListingsVersion = listings.map(ReadOnlyListings::getVersion).orElse(NO_VERSION);
+        return listings;
     }
 
     @Override
-    public Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyListings> readListings(Path filePath, ReadOnlyAddressBook addressBook)
+            throws DataLoadingException {
         logger.fine(READ_ATTEMPT + filePath);
-        return listingStorage.readListings(filePath);
+        return listingStorage.readListings(filePath, addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListingsConcurrently(
+            CompletableFuture<? extends ReadOnlyAddressBook> addressBook) throws DataLoadingException {
+        logger.fine(READ_ATTEMPT + listingStorage.getListingsFilePath());
+        Optional<ReadOnlyListings> listings = listingStorage.readListingsConcurrently(addressBook);
+        savedListingsVersion = listings.map(ReadOnlyListings::getVersion).orElse(NO_VERSION);
+        return listings;
     }
 
+    /**
+     * {@inheritDoc}
+     * Nothing is written if the file already holds this version of the listings.
+     */
     @Override
     public void saveListings(ReadOnlyListings listings) throws IOException {
+        if (listings.getVersion() == savedListingsVersion) {
+            logger.fine(WRITE_SKIPPED + listingStorage.getListingsFilePath());
+            return;
+        }
+
         saveListings(listings, listingStorage.getListingsFilePath());
+        savedListingsVersion = listings.getVersion();
     }
 
     @Override
     public void saveListings(ReadOnlyListings listings, Path filePath) throws IOException {
         logger.fine(WRITE_ATTEMPT + filePath);
+        savedListingsVersion = NO_VERSION;
         listingStorage.saveListings(listings, filePath);
     }
 
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return journalStorage.getJournalFilePath();
+    }
+
+    @Override
+    public void appendToJournal(List<JournalEntry> entries) throws IOException {
+        logger.fine(WRITE_ATTEMPT + journalStorage.getJournalFilePath());
+        journalStorage.appendToJournal(entries);
+    }
+
+    @Override
+    public int replayJournal(AddressBook addressBook, Listings listings) throws DataLoadingException {
+        logger.fine(READ_ATTEMPT + journalStorage.getJournalFilePath());
+        return journalStorage.replayJournal(addressBook, listings);
+    }
+
+    @Override
+    public int getJournalSize() throws IOException {
+        return journalStorage.getJournalSize();
+    }
+
+    @Override
+    public Path setAsideJournal() throws IOException {
+        logger.fine(WRITE_ATTEMPT + journalStorage.getJournalFilePath());
+        return journalStorage.setAsideJournal();
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        logger.fine(WRITE_ATTEMPT + journalStorage.getJournalFilePath());
+        journalStorage.clearJournal();
+    }
 }
@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves snapshots of the address book and listings to a {@code Storage} on a background thread.
+ *
+ * Snapshots submitted in quick succession are coalesced, so only the latest one is written. A snapshot is
+ * written once no newer snapshot has been submitted for the debounce interval, but never later than the
+ * maximum staleness after the oldest unsaved snapshot was submitted.
+ *
+ * A snapshot is only a copy of the lists of persons and listings, so taking one is cheap, and none is taken
+ * when the data has not changed since the last one.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+    private static final long NO_VERSION = -1;
+
+    private final Storage storage;
+    private final long debounceNanos;
+    private final long maxStalenessNanos;
+    private final ScheduledExecutorService executor;
+
+    // Versions of the data in the last snapshot taken, or NO_VERSION if none has been taken
+    private long submittedAddressBookVersion = NO_VERSION;
+    private long submittedListingsVersion = NO_VERSION;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyListings pendingListings;
+    private long oldestPendingNanos;
+    private ScheduledFuture<?> scheduledSave;
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage}.
+     *
+     * @param debounceMillis how long to wait for a newer snapshot before saving one.
+     * @param maxStalenessMillis the longest a submitted snapshot may wait before it is saved.
+     */
+    public WriteBehindSaver(Storage storage, long debounceMillis, long maxStalenessMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, debounceMillis));
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxStalenessMillis));
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} and {@code listings} to be saved, replacing any snapshot not
+     * saved yet. Nothing is scheduled if neither has changed since the last snapshot was taken.
+     * Must be called on the thread that modifies them.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+        requireNonNull(addressBook);
+        requireNonNull(listings);
+        if (addressBook.getVersion() == submittedAddressBookVersion
+                && listings.getVersion() == submittedListingsVersion) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (pendingAddressBook == null) {
+            oldestPendingNanos = now;
+        }
+        pendingAddressBook = new AddressBookSnapshot(addressBook);
+        pendingListings = new ListingsSnapshot(listings);
+        submittedAddressBookVersion = addressBook.getVersion();
+        submittedListingsVersion = listings.getVersion();
+
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        long delayNanos = Math.min(debounceNanos, oldestPendingNanos + maxStalenessNanos - now);
+        scheduledSave = executor.schedule(this::saveScheduled, Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the error of the last background save that failed since this method was last called,
+     * or null if there is none or the data has been saved successfully since.
+     */
+    public synchronized IOException takeFailure() {
+        IOException lastFailure = failure;
+        failure = null;
+        return lastFailure;
+    }
+
+    /**
+     * Saves the snapshot not saved yet, if any, and waits for it to be written.
+     *
+     * @throws IOException if the snapshot could not be saved.
+     */
+    public void flush() throws IOException {
+        IOException flushFailure;
+        try {
+            flushFailure = executor.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved.");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        if (flushFailure != null) {
+            throw flushFailure;
+        }
+    }
+
+    /**
+     * Saves the snapshot not saved yet, if any, and stops the background thread.
+     *
+     * @throws IOException if the snapshot could not be saved.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void saveScheduled() {
+        IOException saveFailure = savePending();
+        if (saveFailure != null) {
+            synchronized (this) {
+                failure = saveFailure;
+            }
+        }
+    }
+
+    /**
+     * Saves the snapshot not saved yet, if any.
+     * Returns the error if it could not be saved, in which case the snapshot is kept to be saved again.
+     */
+    private IOException savePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyListings listings;
+        synchronized (this) {
+            if (pendingAddressBook == null) {
+                return null;
+            }
+            addressBook = pendingAddressBook;
+            listings = pendingListings;
+            pendingAddressBook = null;
+            pendingListings = null;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+            storage.saveListings(listings);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                // Keeps the snapshot so that the next flush retries it, unless a newer one has been submitted
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                    pendingListings = listings;
+                    oldestPendingNanos = System.nanoTime();
+                }
+            }
+            return ioe;
+        }
+
+        synchronized (this) {
+            failure = null;
+        }
+        return null;
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code list} that later changes to {@code list} do not affect.
+     */
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(list)));
+    }
+
+    /**
+     * A copy of the persons in an address book, kept until it is saved.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = copyOf(addressBook.getPersonList());
+            version = addressBook.getVersion();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * A copy of listings, kept until it is saved.
+     */
+    private static class ListingsSnapshot implements ReadOnlyListings {
+        private final ObservableList<Listing> listings;
+        private final long version;
+
+        ListingsSnapshot(ReadOnlyListings listings) {
+            this.listings = copyOf(listings.getListingList());
+            version = listings.getVersion();
+        }
+
+        @Override
+        public ObservableList<Listing> getListingList() {
+            return listings;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
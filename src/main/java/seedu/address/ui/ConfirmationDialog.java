@@ -20,12 +20,11 @@ public class ConfirmationDialog {
      * @return {@code true} if the user confirms the action by pressing OK, {@code false} otherwise.
      */
     public static boolean showDeleteConfirmation(String clientName) {
-        FXMLLoader loader =
-                new FXMLLoader(ConfirmationDialog.class.getResource("/view/ConfirmationDialog.fxml"));
+        FXMLLoader loader = FxmlTemplates.newLoader("ConfirmationDialog.fxml");
         Stage dialogStage = new Stage();
 
         try {
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(FxmlTemplates.load(loader));
             dialogStage.setScene(scene);
             dialogStage.initModality(Modality.APPLICATION_MODAL);
             dialogStage.setTitle("Delete Confirmation");
@@ -0,0 +1,105 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXMLLoader;
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A cache of the FXML files of the UI, so that each file is found and read from the resources of the app once,
+ * however many times it is loaded.
+ *
+ * An {@code FXMLLoader} cannot copy the nodes it creates, so every load still creates its nodes from the cached
+ * file. The cells of the lists reuse the cards they load instead.
+ * The cache can be filled and the UI classes loaded by {@link #warmUp()} on another thread while the app starts.
+ */
+public class FxmlTemplates {
+
+    /** Resource folder where FXML files are stored. */
+    public static final String FXML_FILE_FOLDER = "/view/";
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlTemplates.class);
+
+    private static final List<String> FXML_FILE_NAMES = List.of("MainWindow.fxml", "PersonListPanel.fxml",
+            "PersonListCard.fxml", "ListingListPanel.fxml", "ListingListCard.fxml", "ResultDisplay.fxml",
+            "CommandBox.fxml", "StatusBarFooter.fxml", "HelpWindow.fxml", "MoreInfoWindow.fxml",
+            "ConfirmationDialog.fxml", "ChatWindow.fxml");
+
+    // Keyed by the external form of the URL of each file, as comparing URLs may resolve their hosts
+    private static final Map<String, byte[]> fxmlFiles = new ConcurrentHashMap<>();
+
+    private FxmlTemplates() {}
+
+    /**
+     * Returns the URL of the specified FXML file within {@link #FXML_FILE_FOLDER}.
+     */
+    public static URL getFxmlFileUrl(String fxmlFileName) {
+        requireNonNull(fxmlFileName);
+        String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
+        URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
+        return requireNonNull(fxmlFileUrl);
+    }
+
+    /**
+     * Returns a new {@code FXMLLoader} of the specified FXML file within {@link #FXML_FILE_FOLDER}.
+     */
+    public static FXMLLoader newLoader(String fxmlFileName) {
+        return new FXMLLoader(getFxmlFileUrl(fxmlFileName));
+    }
+
+    /**
+     * Loads the object hierarchy of the FXML file at the location of {@code loader}, read from the cache.
+     *
+     * @throws IOException if the file cannot be read or loaded.
+     */
+    public static <T> T load(FXMLLoader loader) throws IOException {
+        URL location = requireNonNull(loader.getLocation());
+        try (InputStream fxmlFile = new ByteArrayInputStream(read(location))) {
+            return loader.load(fxmlFile);
+        }
+    }
+
+    private static byte[] read(URL location) throws IOException {
+        try {
+            return fxmlFiles.computeIfAbsent(location.toExternalForm(), key -> {
+                try (InputStream fxmlFile = location.openStream()) {
+                    return fxmlFile.readAllBytes();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads every FXML file of the UI into the cache, and loads a person card and a listing card so that the
+     * classes they use are loaded before the first lists are shown.
+     * The cards are not shown, so they can be loaded on any thread. Failures are logged and otherwise ignored, as
+     * the UI loads anything missing when it is first needed.
+     */
+    public static void warmUp() {
+        try {
+            for (String fxmlFileName : FXML_FILE_NAMES) {
+                read(getFxmlFileUrl(fxmlFileName));
+            }
+            new PersonCard();
+            new ListingCard();
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not warm up the UI: " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -11,12 +11,14 @@ import javafx.scene.shape.Line;
 import seedu.address.model.listing.Listing;
 
 /**
- * An UI component that displays information of a {@code Person}.
+ * An UI component that displays information of a {@code Listing}.
+ * A card can be bound to another listing, so that a list cell reuses its card instead of loading a new one.
  */
 public class ListingCard extends UiPart<Region> {
     private static final String FXML = "ListingListCard.fxml";
 
-    public final Listing listing;
+    private Listing listing;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -39,15 +41,41 @@ public class ListingCard extends UiPart<Region> {
     @FXML
     private Line underline;
 
+    // The style of the region label in the FXML file, to which the color of the region is added
+    private String regionStyle;
+
     /**
      * Creates a {@code ListingCard} with the given {@code Listing} and index to display.
      */
     public ListingCard(Listing listing, int displayedIndex) {
+        this();
+        setListing(listing, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code ListingCard} displaying no listing until {@link #setListing(Listing, int)} is called.
+     */
+    public ListingCard() {
         super(FXML);
+        regionStyle = region.getStyle();
+        initializeUnderline();
+        buyers.setHgap(10);
+        buyers.setVgap(10);
+    }
+
+    /**
+     * Displays {@code listing} at {@code displayedIndex} in place of the listing displayed before, if any.
+     * Nothing is redrawn if the same listing is already displayed at the same index.
+     */
+    public void setListing(Listing listing, int displayedIndex) {
+        if (listing == this.listing && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.listing = listing;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         initializeName();
-        initializeUnderline();
         initializePrice();
         initializeArea();
         initializeRegion();
@@ -100,9 +128,8 @@ public class ListingCard extends UiPart<Region> {
     private void initializeRegion() {
         region.setText(listing.getRegion().toString());
 
-        String existingStyle = region.getStyle();
         String newBackgroundColor = "-fx-background-color: " + listing.getRegion().getColor() + ";";
-        region.setStyle(existingStyle + newBackgroundColor);
+        region.setStyle(regionStyle + newBackgroundColor);
     }
 
     private void initializeAddress() {
@@ -130,8 +157,7 @@ public class ListingCard extends UiPart<Region> {
     }
 
     private void initializeBuyers() {
-        buyers.setHgap(10);
-        buyers.setVgap(10);
+        buyers.getChildren().clear();
 
         listing.getBuyers().stream()
                 .sorted(Comparator.comparing(buyer -> buyer.getName().fullName))
@@ -151,6 +177,10 @@ public class ListingCard extends UiPart<Region> {
 
 
     // Getter methods for private fields
+    public Listing getListing() {
+        return listing;
+    }
+
     public Label getId() {
         return id;
     }
@@ -30,9 +30,13 @@ public class ListingListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Listing} using a {@code ListingCard}.
+     * The cell loads its card once and rebinds it to each listing it displays, as the list view reuses its cells.
      */
     class ListingListViewCell extends ListCell<Listing> {
+        // Loaded with the first listing shown in this cell, then bound to each listing shown in it
+        private ListingCard card;
+
         @Override
         protected void updateItem(Listing listing, boolean empty) {
             super.updateItem(listing, empty);
@@ -41,7 +45,11 @@ public class ListingListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ListingCard(listing, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ListingCard();
+                }
+                card.setListing(listing, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -16,6 +16,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -166,6 +167,30 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Opens a window with the information of {@code person}, where its remark can be edited.
+     */
+    private void handleMoreInfo(Person person) {
+        new MoreInfoWindow(person, this::updateRemark).show();
+    }
+
+    /**
+     * Updates the remark of {@code person} through the logic, so that the change is saved like a command.
+     * Returns the person that replaced {@code person}, which is still replaced if the change could not be saved.
+     */
+    private Person updateRemark(Person person, String remark) {
+        try {
+            return logic.updateRemark(person, remark);
+        } catch (CommandException e) {
+            logger.warning("An error occurred while updating the remark of " + person.getName());
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            return logic.getAddressBook().getPersonList().stream()
+                    .filter(person::isSamePerson)
+                    .findFirst()
+                    .orElse(person);
+        }
+    }
+
     private void handleListings() {
         personListPanelPlaceholder.getChildren().clear();
         personListPanelPlaceholder.getChildren().add(listingListPanel.getRoot());
@@ -202,6 +227,10 @@ public class MainWindow extends UiPart<Stage> {
                 handleHelp();
             }
 
+            if (commandResult.isShowMoreInfo()) {
+                handleMoreInfo(commandResult.getMoreInfoPerson());
+            }
+
             if (commandResult.isExit()) {
                 handleExit();
             }
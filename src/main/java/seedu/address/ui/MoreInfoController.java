@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
@@ -8,6 +11,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 
 /**
@@ -15,6 +19,7 @@ import seedu.address.model.person.Person;
  */
 public class MoreInfoController {
     private Person person;
+    private BiFunction<Person, String, Person> remarkUpdater;
 
     @FXML
     private Label clientNameLabel;
@@ -51,11 +56,17 @@ public class MoreInfoController {
         clientNameLabel.setText("" + person.getName());
         clientEmailLabel.setText("Email: " + person.getEmail());
         clientPhoneLabel.setText("Phone: " + person.getPhone());
-        clientAppointmentLabel.setText("Appointment: " + person.getAppointment());
+        clientAppointmentLabel.setText("Appointments: " + (person.hasAppointment()
+                ? person.getAppointments().stream().map(Appointment::toString).collect(Collectors.joining(", "))
+                : Appointment.EMPTY_APPOINTMENT.toString()));
         clientRoleLabel.setText("Role: " + person.getRole());
         clientRemarksLabel.setText("" + person.getRemark());
     }
 
+    public void setRemarkUpdater(BiFunction<Person, String, Person> remarkUpdater) {
+        this.remarkUpdater = remarkUpdater;
+    }
+
     /**
      * Handles key pressed events in the remark input text area.
      * @param event The key event that occurred.
@@ -65,7 +76,7 @@ public class MoreInfoController {
             String newRemark = remarkInput.getText().trim();
             if (!newRemark.isEmpty()) {
                 clientRemarksLabel.setText(newRemark);
-                person.updateRemark(newRemark);
+                person = remarkUpdater.apply(person, newRemark);
                 remarkInput.clear();
             }
             event.consume();
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
@@ -9,15 +10,21 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Line;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be bound to another person, so that a list cell reuses its card instead of loading a new one.
  */
 public class PersonCard extends UiPart<Region> {
     private static final String FXML = "PersonListCard.fxml";
-    public final Person person;
+    private static final String BUYER_STYLE_CLASS = "buyer_label";
+    private static final String SELLER_STYLE_CLASS = "seller_label";
+
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -49,12 +56,31 @@ public class PersonCard extends UiPart<Region> {
      * @param displayedIndex The index of the person in the list, used for display purposes.
      */
     public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code PersonCard} displaying no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
         super(FXML);
+        initializeUnderline();
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} in place of the person displayed before, if any.
+     * Nothing is redrawn if the same person is already displayed at the same index.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
 
         initializeId(displayedIndex);
         initializeName();
-        initializeUnderline();
         initializePhone();
         initializeEmail();
         initializeAppointment();
@@ -108,7 +134,13 @@ public class PersonCard extends UiPart<Region> {
     }
 
     private void initializeAppointment() {
-        appointment.setText(person.getAppointment().toString());
+        if (!person.hasAppointment()) {
+            appointment.setText(Appointment.EMPTY_APPOINTMENT.toString());
+            return;
+        }
+        appointment.setText(person.getAppointments().stream()
+                .map(Appointment::toString)
+                .collect(Collectors.joining("\n")));
     }
 
     private void initializeTags() {
@@ -159,16 +191,21 @@ public class PersonCard extends UiPart<Region> {
     }
 
     private void initializeRole() {
+        role.getStyleClass().removeAll(BUYER_STYLE_CLASS, SELLER_STYLE_CLASS);
         if (person instanceof Buyer) {
             role.setText("Buyer");
-            role.getStyleClass().add("buyer_label");
+            role.getStyleClass().add(BUYER_STYLE_CLASS);
         } else {
             role.setText("Seller");
-            role.getStyleClass().add("seller_label");
+            role.getStyleClass().add(SELLER_STYLE_CLASS);
         }
     }
 
     // Getter methods for private fields
+    public Person getPerson() {
+        return person;
+    }
+
     public Label getId() {
         return id;
     }
@@ -31,8 +31,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell loads its card once and rebinds it to each person it displays, as the list view reuses its cells.
      */
     class PersonListViewCell extends ListCell<Person> {
+        // Loaded with the first person shown in this cell, then bound to each person shown in it
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +45,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -48,8 +48,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     public static void handleChatButtonAction() {
         try {
-            FXMLLoader loader = new FXMLLoader(StatusBarFooter.class.getResource("/view/ChatWindow.fxml"));
-            Parent chatRoot = loader.load();
+            FXMLLoader loader = FxmlTemplates.newLoader("ChatWindow.fxml");
+            Parent chatRoot = FxmlTemplates.load(loader);
             ChatWindow chatController = loader.getController();
             Stage chatStage = new Stage();
             chatStage.setTitle("Chat with us!");
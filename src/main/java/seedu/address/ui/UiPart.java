@@ -6,7 +6,6 @@ import java.io.IOException;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
-import seedu.address.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -15,7 +14,7 @@ import seedu.address.MainApp;
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
-    public static final String FXML_FILE_FOLDER = "/view/";
+    public static final String FXML_FILE_FOLDER = FxmlTemplates.FXML_FILE_FOLDER;
 
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
@@ -32,7 +31,7 @@ public abstract class UiPart<T> {
      * @see #UiPart(URL)
      */
     public UiPart(String fxmlFileName) {
-        this(getFxmlFileUrl(fxmlFileName));
+        this(FxmlTemplates.getFxmlFileUrl(fxmlFileName));
     }
 
     /**
@@ -48,7 +47,7 @@ public abstract class UiPart<T> {
      * @see #UiPart(URL, T)
      */
     public UiPart(String fxmlFileName, T root) {
-        this(getFxmlFileUrl(fxmlFileName), root);
+        this(FxmlTemplates.getFxmlFileUrl(fxmlFileName), root);
     }
 
     /**
@@ -59,7 +58,7 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Loads the object hierarchy from a FXML document.
+     * Loads the object hierarchy from a FXML document, which is read once and cached by {@code FxmlTemplates}.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
@@ -69,20 +68,10 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            FxmlTemplates.load(fxmlLoader);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
-    /**
-     * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
-     */
-    private static URL getFxmlFileUrl(String fxmlFileName) {
-        requireNonNull(fxmlFileName);
-        String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
-        URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
-        return requireNonNull(fxmlFileUrl);
-    }
-
 }
@@ -16,7 +16,17 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", writeBehindSaveEnabled=" + config.isWriteBehindSaveEnabled()
+                + ", saveDebounceMillis=" + config.getSaveDebounceMillis()
+                + ", maxSaveStalenessMillis=" + config.getMaxSaveStalenessMillis()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", compactJsonEnabled=" + config.isCompactJsonEnabled()
+                + ", dataBackupCount=" + config.getDataBackupCount()
+                + ", chatTranscriptCapacity=" + config.getChatTranscriptCapacity()
+                + ", startupTimingsFilePath=" + config.getStartupTimingsFilePath()
+                + ", commandStatsLogIntervalSeconds=" + config.getCommandStatsLogIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -32,6 +42,38 @@ public class ConfigTest {
         Config differentConfig = new Config();
         differentConfig.setLogLevel(Level.WARNING);
         assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setWriteBehindSaveEnabled(false);
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setMaxSaveStalenessMillis(defaultConfig.getMaxSaveStalenessMillis() + 1);
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setJournalEnabled(!defaultConfig.isJournalEnabled());
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setCompactJsonEnabled(!defaultConfig.isCompactJsonEnabled());
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setDataBackupCount(defaultConfig.getDataBackupCount() + 1);
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setChatTranscriptCapacity(defaultConfig.getChatTranscriptCapacity() + 1);
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setStartupTimingsFilePath(Paths.get("startup.json"));
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        differentConfig = new Config();
+        differentConfig.setCommandStatsLogIntervalSeconds(defaultConfig.getCommandStatsLogIntervalSeconds() + 1);
+        assertFalse(defaultConfig.equals(differentConfig));
     }
 
     @Test
@@ -67,6 +109,47 @@ public class ConfigTest {
         assertEquals(Paths.get("custom_prefs.json"), config.getUserPrefsFilePath());
     }
 
+    @Test
+    public void getAndSetWriteBehindSave() {
+        Config config = new Config();
+
+        // Data is saved in the background by default
+        assertTrue(config.isWriteBehindSaveEnabled());
+        assertTrue(config.getSaveDebounceMillis() <= config.getMaxSaveStalenessMillis());
+
+        config.setWriteBehindSaveEnabled(false);
+        config.setSaveDebounceMillis(50);
+        config.setMaxSaveStalenessMillis(500);
+        assertFalse(config.isWriteBehindSaveEnabled());
+        assertEquals(50, config.getSaveDebounceMillis());
+        assertEquals(500, config.getMaxSaveStalenessMillis());
+    }
+
+    @Test
+    public void getAndSetJournal() {
+        Config config = new Config();
+
+        // Data is saved in full by default
+        assertFalse(config.isJournalEnabled());
+        assertTrue(config.getJournalCompactionThreshold() > 0);
+
+        config.setJournalEnabled(true);
+        config.setJournalCompactionThreshold(10);
+        assertTrue(config.isJournalEnabled());
+        assertEquals(10, config.getJournalCompactionThreshold());
+    }
+
+    @Test
+    public void getAndSetCompactJson() {
+        Config config = new Config();
+
+        // Data files are pretty-printed by default
+        assertFalse(config.isCompactJsonEnabled());
+
+        config.setCompactJsonEnabled(true);
+        assertTrue(config.isCompactJsonEnabled());
+    }
+
     @Test
     public void testEqualsWithDifferentObjectTypes() {
         Config config = new Config();
@@ -0,0 +1,96 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class PhaseTimerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final PhaseTimer timer = new PhaseTimer("Startup");
+
+    @Test
+    public void start_nullPhaseName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timer.start(null));
+    }
+
+    @Test
+    public void getTimings_phasesClosed_timedInOrderClosed() throws Exception {
+        PhaseTimer.Phase outer = timer.start("outer");
+        try (PhaseTimer.Phase inner = timer.start("inner")) {
+            Thread.sleep(5);
+        }
+        outer.close();
+        // closing a phase again has no effect
+        outer.close();
+        timer.start("unclosed");
+
+        List<PhaseTimer.Timing> timings = timer.getTimings();
+        assertEquals(2, timings.size());
+        PhaseTimer.Timing inner = timings.get(0);
+        PhaseTimer.Timing outerTiming = timings.get(1);
+        assertEquals("inner", inner.getPhaseName());
+        assertEquals("outer", outerTiming.getPhaseName());
+        assertTrue(inner.getDurationMillis() >= 5);
+        assertTrue(outerTiming.getStartMillis() <= inner.getStartMillis());
+        assertTrue(outerTiming.getDurationMillis() >= inner.getDurationMillis());
+        assertTrue(timer.getElapsedMillis() >= outerTiming.getStartMillis() + outerTiming.getDurationMillis());
+    }
+
+    @Test
+    public void getTimings_phaseOnOtherThread_timed() {
+        CompletableFuture.runAsync(() -> timer.start("background").close()).join();
+        assertEquals("background", timer.getTimings().get(0).getPhaseName());
+    }
+
+    @Test
+    public void getSummary() {
+        timer.start("initConfig").close();
+        timer.start("initPrefs").close();
+
+        String summary = timer.getSummary();
+        assertTrue(summary.matches("Startup took \\d+\\.\\d ms: initConfig \\d+\\.\\d ms, initPrefs \\d+\\.\\d ms"),
+                summary);
+    }
+
+    @Test
+    public void getSummary_defaultLocaleUsesDecimalComma_decimalPointUsed() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            timer.start("initConfig").close();
+            String summary = timer.getSummary();
+            assertTrue(summary.matches("Startup took \\d+\\.\\d ms: initConfig \\d+\\.\\d ms"), summary);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void writeJson_phasesTimed_allPhasesWritten() throws Exception {
+        timer.start("initConfig").close();
+        timer.start("readAddressBook").close();
+        Path timingsFile = testFolder.resolve("logs").resolve("startup.json");
+
+        timer.writeJson(timingsFile);
+
+        String json = FileUtil.readFromFile(timingsFile);
+        assertTrue(json.contains("\"name\""), json);
+        assertTrue(json.contains("\"totalMillis\""), json);
+        assertTrue(json.contains("\"initConfig\""), json);
+        assertTrue(json.contains("\"readAddressBook\""), json);
+        assertTrue(json.contains("\"durationMillis\""), json);
+    }
+}
@@ -1,13 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,67 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+    }
+
+    @Test
+    public void writeToFileAtomically_withBackups_previousVersionsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (String content : new String[] {"first", "second", "third", "fourth"}) {
+            FileUtil.writeToFileAtomically(file, outputStream -> outputStream.write(content.getBytes()), 2);
+        }
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException("interrupted");
+        }, 1));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_concurrentWriters_oneContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String content = "writer " + i;
+            writes.add(CompletableFuture.runAsync(() -> {
+                try {
+                    FileUtil.writeToFileAtomically(file, outputStream -> outputStream.write(content.getBytes()), 2);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+        writes.forEach(CompletableFuture::join);
+
+        assertTrue(FileUtil.readFromFile(file).matches("writer \\d"));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            // the file and its two backups, with no temporary files left behind
+            assertEquals(3, files.count());
+        }
+    }
+
 }
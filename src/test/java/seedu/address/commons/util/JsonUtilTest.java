@@ -1,12 +1,19 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +46,67 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        List<String> elements = new ArrayList<>();
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "items",
+                String.class, elements::add));
+        assertTrue(elements.isEmpty());
+    }
+
+    @Test
+    public void readJsonArrayFile_validFile_elementsHandledInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{ \"other\" : { \"items\" : [ \"x\" ] }, \"count\" : 2, \"items\" : [ \"a\", \"b\" ] }");
+
+        List<String> elements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, elements::add));
+        assertEquals(List.of("a", "b"), elements);
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"a\" ]");
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_elementRejected_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"items\" : [ \"a\" ] }");
+        assertThrows(IllegalValueException.class, "rejected", () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, element -> {
+                    throw new IllegalValueException("rejected");
+                }));
+    }
+
+    @Test
+    public void saveJsonArrayFile_prettyPrinted_elementsSavedOnSeveralLines() throws Exception {
+        FileUtil.createIfMissing(SERIALIZATION_FILE);
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "items", List.of("a", "b"), String::toUpperCase, true, 0);
+
+        assertTrue(FileUtil.readFromFile(SERIALIZATION_FILE).contains("\n"));
+        List<String> elements = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, elements::add);
+        assertEquals(List.of("A", "B"), elements);
+    }
+
+    @Test
+    public void saveJsonArrayFile_compact_elementsSavedOnOneLine() throws Exception {
+        FileUtil.createIfMissing(SERIALIZATION_FILE);
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "items", List.of("a", "b"), String::toUpperCase, false, 0);
+
+        assertEquals("{\"items\":[\"A\",\"B\"]}", FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void saveJsonArrayFile_noElements_emptyArraySaved() throws Exception {
+        FileUtil.createIfMissing(SERIALIZATION_FILE);
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "items", List.<String>of(), String::toUpperCase, false, 0);
+
+        assertEquals("{\"items\":[]}", FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
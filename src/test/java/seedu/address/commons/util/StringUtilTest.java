@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -46,6 +47,28 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for isDigits --------------------------------------
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isDigits(null, 1));
+
+        // EP: shorter than the minimum length
+        assertFalse(StringUtil.isDigits("", 1)); // Boundary value
+        assertFalse(StringUtil.isDigits("12", 3));
+
+        // EP: non-digits
+        assertFalse(StringUtil.isDigits("12a", 1));
+        assertFalse(StringUtil.isDigits(" 123", 1));
+        assertFalse(StringUtil.isDigits("-123", 1));
+        assertFalse(StringUtil.isDigits("\u0663\u0664\u0665", 1)); // non-ASCII digits, as \d does not match them
+
+        // EP: digits of at least the minimum length
+        assertTrue(StringUtil.isDigits("", 0));
+        assertTrue(StringUtil.isDigits("007", 3)); // Boundary value
+        assertTrue(StringUtil.isDigits("0123456789", 3));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
@@ -140,4 +163,35 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for prefixEditDistance --------------------------------------
+
+    @Test
+    public void prefixEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.prefixEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.prefixEditDistance("abc", null));
+    }
+
+    @Test
+    public void prefixEditDistance_validInputs_correctResult() {
+        // prefixes, including the empty prefix and the whole word
+        assertEquals(0, StringUtil.prefixEditDistance("alice", ""));
+        assertEquals(0, StringUtil.prefixEditDistance("alice", "ali"));
+        assertEquals(0, StringUtil.prefixEditDistance("alice", "alice"));
+
+        // one substitution, deletion, insertion
+        assertEquals(1, StringUtil.prefixEditDistance("alice", "alx"));
+        assertEquals(1, StringUtil.prefixEditDistance("alice", "alce"));
+        assertEquals(1, StringUtil.prefixEditDistance("alice", "allic"));
+
+        // prefix longer than the word
+        assertEquals(2, StringUtil.prefixEditDistance("al", "alic"));
+
+        // case is significant
+        assertEquals(1, StringUtil.prefixEditDistance("alice", "Al"));
+
+        // no common prefix
+        assertEquals(3, StringUtil.prefixEditDistance("alice", "bob"));
+        assertEquals(3, StringUtil.prefixEditDistance("", "bob"));
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -11,18 +13,25 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.clientcommands.AddBuyerProfileCommand;
 import seedu.address.logic.commands.clientcommands.AddSellerProfileCommand;
 import seedu.address.logic.commands.clientcommands.ShowClientsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStats;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Listings;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -31,10 +40,12 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Seller;
+import seedu.address.storage.CommandJournal;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonListingsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -117,6 +128,39 @@ public class LogicManagerTest {
 
         assertCommandSuccess(listCommand, ShowClientsCommand.MESSAGE_SUCCESS, model);
     }
+
+    @Test
+    public void execute_commands_recordedByCommandWord() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).buildBuyer());
+        logic.execute(ShowClientsCommand.COMMAND_WORD);
+        logic.execute("  " + ShowClientsCommand.COMMAND_WORD + " 3");
+        // commands that cannot be parsed are not recorded
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        Map<String, CommandStats> allStats = logic.getCommandMetrics().getAllStats();
+        assertEquals(Set.of(ShowClientsCommand.COMMAND_WORD), allStats.keySet());
+        CommandStats stats = allStats.get(ShowClientsCommand.COMMAND_WORD);
+        assertEquals(2, stats.getCount());
+        assertEquals(2, stats.getExecuteNanos().getCount());
+        assertEquals(Set.of("addressBook", "listings"), stats.getSaveNanosByStore().keySet());
+        if (CommandMetrics.getCurrentThreadAllocatedBytes() != CommandMetrics.ALLOCATION_UNSUPPORTED) {
+            assertEquals(2, stats.getAllocatedBytes().getCount());
+        }
+
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains(ShowClientsCommand.COMMAND_WORD + " x2: parse "));
+    }
+
+    @Test
+    public void execute_commandFails_executeTimeRecordedWithoutSave() {
+        assertThrows(CommandException.class, () -> logic.execute("deleteclient 1"));
+
+        CommandStats stats = logic.getCommandMetrics().getStats("deleteclient");
+        assertEquals(1, stats.getCount());
+        assertEquals(1, stats.getExecuteNanos().getCount());
+        assertTrue(stats.getSaveNanosByStore().isEmpty());
+    }
+
     @Test
     public void execute_listCommandWhenNoClients_throwsCommandException() {
         model = new ModelManager();
@@ -141,6 +185,119 @@ public class LogicManagerTest {
         assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
+    @Test
+    public void execute_writeBehindSave_dataSavedOnFlush() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 60_000, 60_000);
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(AddBuyerProfileCommand.COMMAND_WORD + " " + NAME_DESC_AMY + " "
+                + PHONE_DESC_AMY + " " + EMAIL_DESC_AMY);
+        saver.shutdown();
+
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void updateRemark_writeBehindSave_remarkSavedOnShutdown() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 60_000, 60_000);
+        logic = new LogicManager(model, storage, saver);
+        logic.execute(AddBuyerProfileCommand.COMMAND_WORD + " " + NAME_DESC_AMY + " "
+                + PHONE_DESC_AMY + " " + EMAIL_DESC_AMY);
+
+        Person editedPerson = logic.updateRemark(model.getFilteredPersonList().get(0), "Prefers morning viewings");
+        saver.shutdown();
+
+        Person savedPerson = storage.readAddressBook().get().getPersonList().get(0);
+        assertEquals("Prefers morning viewings", savedPerson.getRemark());
+        assertEquals(editedPerson, savedPerson);
+    }
+
+    @Test
+    public void updateRemark_storageThrowsIoException_throwsCommandException() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        model.addPerson(AMY);
+        logic = new LogicManager(model, storage);
+
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logic.updateRemark(AMY, "Prefers morning viewings"));
+        assertEquals("Prefers morning viewings", model.getFilteredPersonList().get(0).getRemark());
+    }
+
+    @Test
+    public void execute_writeBehindSaveFailed_nextCommandThrowsCommandException() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0, 0);
+        logic = new LogicManager(model, storage, saver);
+
+        // The command itself returns before its data is saved
+        logic.execute(AddBuyerProfileCommand.COMMAND_WORD + " " + NAME_DESC_AMY + " "
+                + PHONE_DESC_AMY + " " + EMAIL_DESC_AMY);
+        assertThrows(IOException.class, saver::flush);
+
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logic.execute(ShowClientsCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_journal_changesAppendedToJournal() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        CommandJournal journal = new CommandJournal(storage, model.getAddressBook(), model.getListings(), 100);
+        logic = new LogicManager(model, storage, journal);
+
+        logic.execute(AddBuyerProfileCommand.COMMAND_WORD + " " + NAME_DESC_AMY + " "
+                + PHONE_DESC_AMY + " " + EMAIL_DESC_AMY);
+
+        assertEquals(1, storage.getJournalSize());
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+
+        AddressBook replayedAddressBook = new AddressBook();
+        storage.replayJournal(replayedAddressBook, new Listings());
+        assertEquals(model.getAddressBook(), replayedAddressBook);
+    }
+
+    @Test
+    public void execute_journalReachesThreshold_journalCompacted() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        CommandJournal journal = new CommandJournal(storage, model.getAddressBook(), model.getListings(), 1);
+        logic = new LogicManager(model, storage, journal);
+
+        logic.execute(AddBuyerProfileCommand.COMMAND_WORD + " " + NAME_DESC_AMY + " "
+                + PHONE_DESC_AMY + " " + EMAIL_DESC_AMY);
+
+        assertEquals(0, storage.getJournalSize());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,101 @@
+package seedu.address.logic.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class ChatIntentClassifierTest {
+
+    @Test
+    public void classify_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ChatIntentClassifier.classify(null));
+    }
+
+    @Test
+    public void classify_messageOfEachIntent_classified() {
+        assertEquals(ChatIntent.HELLO, ChatIntentClassifier.classify("  Heyyy  "));
+        assertEquals(ChatIntent.ADD_LISTING_BUYERS, ChatIntentClassifier.classify("buyers for a listing, adding"));
+        assertEquals(ChatIntent.REMOVE_LISTING_BUYERS, ChatIntentClassifier.classify("remove buyers from listing"));
+        assertEquals(ChatIntent.GOODBYE, ChatIntentClassifier.classify("see you later"));
+        assertEquals(ChatIntent.ADD_CLIENT, ChatIntentClassifier.classify("add a client"));
+        assertEquals(ChatIntent.ADD_BUYER, ChatIntentClassifier.classify("ADDING A BUYER"));
+        assertEquals(ChatIntent.ADD_SELLER, ChatIntentClassifier.classify("add seller"));
+        assertEquals(ChatIntent.ADD_LISTING, ChatIntentClassifier.classify("adds listing"));
+        assertEquals(ChatIntent.ADD_APPOINTMENT, ChatIntentClassifier.classify("add appointment"));
+        assertEquals(ChatIntent.DELETE_CLIENT, ChatIntentClassifier.classify("delete client"));
+        assertEquals(ChatIntent.DELETE_BUYER, ChatIntentClassifier.classify("deleting buyer"));
+        assertEquals(ChatIntent.DELETE_SELLER, ChatIntentClassifier.classify("delete seller"));
+        assertEquals(ChatIntent.DELETE_APPOINTMENT, ChatIntentClassifier.classify("delete appointment"));
+        assertEquals(ChatIntent.DELETE_LISTING, ChatIntentClassifier.classify("deletes listing"));
+        assertEquals(ChatIntent.EDIT_CLIENT, ChatIntentClassifier.classify("edit client"));
+        assertEquals(ChatIntent.EDIT_LISTING, ChatIntentClassifier.classify("editing listing"));
+        assertEquals(ChatIntent.SHOW_CLIENTS, ChatIntentClassifier.classify("show clients"));
+        assertEquals(ChatIntent.SHOW_LISTINGS, ChatIntentClassifier.classify("view listings"));
+        assertEquals(ChatIntent.THANK_YOU, ChatIntentClassifier.classify("thank u"));
+        assertEquals(ChatIntent.LOVE, ChatIntentClassifier.classify("love"));
+        assertEquals(ChatIntent.DELETE, ChatIntentClassifier.classify("delete"));
+        assertEquals(ChatIntent.ADD, ChatIntentClassifier.classify("add"));
+        assertEquals(ChatIntent.EDIT, ChatIntentClassifier.classify("edit"));
+        assertEquals(ChatIntent.CHECK_APPOINTMENTS, ChatIntentClassifier.classify("check appointments"));
+        assertEquals(ChatIntent.SHOW, ChatIntentClassifier.classify("show"));
+        assertEquals(ChatIntent.MORE_INFO, ChatIntentClassifier.classify("more info"));
+        assertEquals(ChatIntent.CLEAR, ChatIntentClassifier.classify("wipe"));
+        assertEquals(ChatIntent.HELP, ChatIntentClassifier.classify("help"));
+        assertEquals(ChatIntent.UNKNOWN, ChatIntentClassifier.classify("random gibberish"));
+        assertEquals(ChatIntent.UNKNOWN, ChatIntentClassifier.classify(""));
+    }
+
+    @Test
+    public void classify_messageOfSeveralIntents_firstIntentByPrecedence() {
+        // hello is checked before everything else
+        assertEquals(ChatIntent.HELLO, ChatIntentClassifier.classify("hi, how do I add a buyer?"));
+        // adding buyers to a listing is checked before adding a buyer or a listing
+        assertEquals(ChatIntent.ADD_LISTING_BUYERS, ChatIntentClassifier.classify("add buyers to listing"));
+        // the more specific intents are checked before the general ones
+        assertEquals(ChatIntent.DELETE_BUYER, ChatIntentClassifier.classify("delete this buyer please"));
+        assertEquals(ChatIntent.ADD, ChatIntentClassifier.classify("add a person"));
+        assertEquals(ChatIntent.SHOW_CLIENTS, ChatIntentClassifier.classify("show my clients"));
+        assertEquals(ChatIntent.SHOW, ChatIntentClassifier.classify("show my stuff"));
+    }
+
+    @Test
+    public void classify_sameAsFirstPatternFound() {
+        List<String> messages = List.of("add", "addd buyers to my listingss", "removing buyer from listing",
+                "adding a client", "deleted the seller", "edit my appointments", "show me a listing",
+                "thanks", "thank you", "i love this", "see the appointment", "view details", "reset", "heelp",
+                "please help me clear the buyers", "bye", "unknown words only", "dele te", "ad d client");
+        for (String message : messages) {
+            ChatIntent expected = ChatIntent.UNKNOWN;
+            for (ChatIntent intent : ChatIntent.values()) {
+                if (intent.getPattern() != null
+                        && intent.getPattern().matcher(message.toLowerCase(Locale.ROOT)).find()) {
+                    expected = intent;
+                    break;
+                }
+            }
+            assertEquals(expected, ChatIntentClassifier.classify(message), message);
+        }
+    }
+
+    @Test
+    public void isAbout() {
+        assertTrue(ChatIntentClassifier.isAbout("Bye!", ChatIntent.GOODBYE));
+        // matched even though the message is classified as hello
+        assertTrue(ChatIntentClassifier.isAbout("hi and bye", ChatIntent.GOODBYE));
+        assertFalse(ChatIntentClassifier.isAbout("add buyer", ChatIntent.GOODBYE));
+        assertTrue(ChatIntentClassifier.isAbout("anything", ChatIntent.UNKNOWN));
+        assertThrows(NullPointerException.class, () -> ChatIntentClassifier.isAbout("bye", null));
+    }
+
+    @Test
+    public void getResponse() {
+        assertEquals("Sure! What do you need help with?", ChatIntent.HELP.getResponse());
+        assertEquals("Goodbye! Have a great day!", ChatIntentClassifier.classify("goodbye").getResponse());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class ChatTranscriptTest {
+
+    private static final ChatMessage HELLO = new ChatMessage(ChatMessage.Sender.USER, "hello");
+    private static final ChatMessage REPLY = new ChatMessage(ChatMessage.Sender.ASSISTANT,
+            ChatIntent.HELLO.getResponse());
+    private static final ChatMessage BYE = new ChatMessage(ChatMessage.Sender.USER, "bye");
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChatTranscript(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChatTranscript(-1));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ChatTranscript(1).add(null));
+    }
+
+    @Test
+    public void add_withinCapacity_allMessagesKeptInOrder() {
+        ChatTranscript transcript = new ChatTranscript(3);
+        transcript.add(HELLO);
+        transcript.add(REPLY);
+        transcript.add(BYE);
+        assertEquals(List.of(HELLO, REPLY, BYE), transcript.getMessages());
+    }
+
+    @Test
+    public void add_beyondCapacity_oldestMessagesDropped() {
+        ChatTranscript transcript = new ChatTranscript(2);
+        transcript.add(HELLO);
+        transcript.add(REPLY);
+        transcript.add(BYE);
+        assertEquals(List.of(REPLY, BYE), transcript.getMessages());
+
+        for (int i = 0; i < 100; i++) {
+            transcript.add(new ChatMessage(ChatMessage.Sender.USER, String.valueOf(i)));
+        }
+        assertEquals(2, transcript.getMessages().size());
+        assertEquals("99", transcript.getMessages().get(1).getText());
+    }
+
+    @Test
+    public void add_listenerNotified() {
+        ChatTranscript transcript = new ChatTranscript(ChatTranscript.DEFAULT_CAPACITY);
+        List<ChatMessage> added = new ArrayList<>();
+        transcript.getMessages().addListener((ListChangeListener<ChatMessage>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        transcript.add(HELLO);
+        assertEquals(List.of(HELLO), added);
+    }
+
+    @Test
+    public void getMessages_modify_throwsUnsupportedOperationException() {
+        ChatTranscript transcript = new ChatTranscript(ChatTranscript.DEFAULT_CAPACITY);
+        assertThrows(UnsupportedOperationException.class, () -> transcript.getMessages().add(HELLO));
+    }
+
+    @Test
+    public void getDisplayText() {
+        assertEquals("You: hello", HELLO.getDisplayText());
+        assertEquals("Assistant: Hi there! How can I assist you today?", REPLY.getDisplayText());
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +46,10 @@ public class CommandResultTest {
         // different showClients value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback",
                 false, false, false, true)));
+
+        // different moreInfoPerson value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", ALICE)));
+        assertFalse(new CommandResult("feedback", ALICE).equals(new CommandResult("feedback", BENSON)));
     }
 
     @Test
@@ -79,7 +85,8 @@ public class CommandResultTest {
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
                 + ", exit=" + commandResult.isExit() + ", showListings=" + commandResult.isShowListings()
-                + ", showClients=" + commandResult.isShowClients() + "}";
+                + ", showClients=" + commandResult.isShowClients()
+                + ", moreInfoPerson=" + commandResult.getMoreInfoPerson() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void constructor_nullCommandMetrics_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_noCommands_noCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(new CommandMetrics()), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsSummary() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        commandMetrics.getStats(HelpCommand.COMMAND_WORD).recordParse(1000);
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, commandMetrics.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new HelpCommand()));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
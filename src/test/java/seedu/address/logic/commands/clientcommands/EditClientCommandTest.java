@@ -84,6 +84,19 @@ public class EditClientCommandTest {
         assertCommandSuccess(editClientCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_personWithRemark_remarkKept() throws Exception {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person personWithRemark = MoreInfoCommand.updateRemark(model, personToEdit, "Prefers morning viewings");
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+
+        new EditClientCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        Person editedPerson = model.getPersonByName(personWithRemark.getName());
+        assertEquals(VALID_PHONE_BOB, editedPerson.getPhone().value);
+        assertEquals("Prefers morning viewings", editedPerson.getRemark());
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditClientCommand editClientCommand = new EditClientCommand(INDEX_FIRST_PERSON, new EditPersonDescriptor());
@@ -118,9 +131,12 @@ public class EditClientCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs(),
                 new Listings());
+        showPersonWithName(expectedModel, typicalNames.get(randomIndex));
         expectedModel.setPerson(personToEdit, editedPerson);
 
+        // the filter is kept, and the edited person is still shown
         assertCommandSuccess(editClientCommand, model, expectedMessage, expectedModel);
+        assertEquals(List.of(editedPerson), model.getFilteredPersonList());
     }
 
     @Test
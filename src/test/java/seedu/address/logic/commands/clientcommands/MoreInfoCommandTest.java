@@ -10,16 +10,38 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.PERSON_INDEX_OUT_OF_BOUNDS;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Listings;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonListingsStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
 
 public class MoreInfoCommandTest {
+    @TempDir
+    public Path temporaryFolder;
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+
+    @Test
+    public void execute_validIndexUnfilteredList_showsMoreInfoOfClient() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        CommandResult result = new MoreInfoCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertEquals(new CommandResult(MoreInfoCommand.SHOWING_MORE_INFO_MESSAGE, person), result);
+    }
+
     @Test
     public void execute_clientIndexOutOfBoundsUnfilteredList_throwsCommandException() {
         MoreInfoCommand moreInfoCommand = new MoreInfoCommand(PERSON_INDEX_OUT_OF_BOUNDS);
@@ -36,6 +58,24 @@ public class MoreInfoCommandTest {
         assertCommandFailure(moreInfoCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void updateRemark_savedAndReloaded_remarkKept() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonListingsStorage(temporaryFolder.resolve("listings.json")));
+        storage.saveAddressBook(model.getAddressBook());
+
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person editedPerson = MoreInfoCommand.updateRemark(model, person, "Prefers morning viewings");
+        storage.saveAddressBook(model.getAddressBook());
+
+        Person reloadedPerson = new ModelManager(storage.readAddressBook().get(), new UserPrefs(), new Listings())
+                .getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals("Prefers morning viewings", reloadedPerson.getRemark());
+        assertEquals(editedPerson, reloadedPerson);
+    }
+
     @Test
     public void equals() {
         MoreInfoCommand moreInfoFirstCommand = new MoreInfoCommand(INDEX_FIRST_PERSON);
@@ -114,11 +114,75 @@ public class AddAppointmentCommandTest {
         // Act
         command.execute(modelStub);
 
-        // Assert
-        Person editedPerson = new PersonBuilder(personToEdit).withAppointment(VALID_DATE, VALID_FROM, VALID_TO)
-                .buildBuyer();
-        assertEquals(editedPerson.getAppointment(), validAppointment);
+        // Assert: the existing appointment is kept, and the appointments stay in time order
+        List<Appointment> expectedAppointments = new ArrayList<>(personToEdit.getAppointments());
+        expectedAppointments.add(validAppointment);
+        assertEquals(expectedAppointments, modelStub.persons.get(0).getAppointments());
+    }
+
+    @Test
+    public void execute_earlierAppointment_appointmentsInTimeOrder() throws Exception {
+        Appointment earlierAppointment = new Appointment(new Date("20-12-23"), new From(VALID_FROM), new To(VALID_TO));
+        Person personToEdit = new PersonBuilder().withAppointments(validAppointment).buildBuyer();
+        ModelStubWithPerson modelStub = new ModelStubWithPerson(personToEdit);
+
+        new AddAppointmentCommand(INDEX_FIRST_PERSON, earlierAppointment).execute(modelStub);
+
+        assertEquals(List.of(earlierAppointment, validAppointment), modelStub.persons.get(0).getAppointments());
+    }
+
+    @Test
+    public void execute_personWithRemark_remarkKept() throws Exception {
+        Person personToEdit = new PersonBuilder().withRemark("Prefers morning viewings").buildBuyer();
+        ModelStubWithPerson modelStub = new ModelStubWithPerson(personToEdit);
+
+        new AddAppointmentCommand(INDEX_FIRST_PERSON, validAppointment).execute(modelStub);
+
+        assertEquals("Prefers morning viewings", modelStub.persons.get(0).getRemark());
     }
+
+    @Test
+    public void execute_duplicateAppointment_throwsCommandException() {
+        Person personToEdit = new PersonBuilder().withAppointments(validAppointment).buildBuyer();
+        ModelStubWithPerson modelStub = new ModelStubWithPerson(personToEdit);
+
+        AddAppointmentCommand command = new AddAppointmentCommand(INDEX_FIRST_PERSON, validAppointment);
+
+        assertThrows(CommandException.class, () -> command.execute(modelStub),
+                String.format(AddAppointmentCommand.MESSAGE_DUPLICATE_APPOINTMENT, personToEdit.getName()));
+    }
+
+    @Test
+    public void execute_overlappingAppointment_addedWithNote() throws Exception {
+        Person personToEdit = new PersonBuilder().withName("Amy Buyer").buildBuyer();
+        Person otherPerson = new PersonBuilder().withName("Bob Seller")
+                .withAppointment(VALID_DATE, "0900", "1100").buildSeller();
+        ModelStubWithPerson modelStub = new ModelStubWithPerson(personToEdit);
+        modelStub.persons.add(otherPerson);
+
+        CommandResult result = new AddAppointmentCommand(INDEX_FIRST_PERSON, validAppointment).execute(modelStub);
+
+        assertEquals(String.format(AddAppointmentCommand.MESSAGE_ADD_APPOINTMENT_SUCCESS,
+                        personToEdit.getName(), validAppointment)
+                        + String.format(AddAppointmentCommand.MESSAGE_OVERLAPPING_APPOINTMENTS, "Bob Seller"),
+                result.getFeedbackToUser());
+        assertTrue(modelStub.persons.get(0).getAppointments().contains(validAppointment));
+    }
+
+    @Test
+    public void execute_ownAppointmentOverlapping_addedWithNote() throws Exception {
+        Person personToEdit = new PersonBuilder().withName("Amy Buyer")
+                .withAppointment(VALID_DATE, "0900", "1100").buildBuyer();
+        ModelStubWithPerson modelStub = new ModelStubWithPerson(personToEdit);
+
+        CommandResult result = new AddAppointmentCommand(INDEX_FIRST_PERSON, validAppointment).execute(modelStub);
+
+        assertEquals(String.format(AddAppointmentCommand.MESSAGE_ADD_APPOINTMENT_SUCCESS,
+                        personToEdit.getName(), validAppointment)
+                        + String.format(AddAppointmentCommand.MESSAGE_OVERLAPPING_APPOINTMENTS, "Amy Buyer"),
+                result.getFeedbackToUser());
+    }
+
     @Test
     public void equals() {
         AddAppointmentCommand firstAddAppointmentCommand =
@@ -186,6 +250,16 @@ public class AddAppointmentCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             // Stub that doesn't filter persons but is needed to pass the method call
         }
+
+        @Override
+        public List<Person> getPersonsWithAppointmentsOverlapping(Appointment period) {
+            return persons.stream()
+                    .filter(person -> person.getAppointments().stream()
+                            .anyMatch(appointment -> appointment.getDate().equals(period.getDate())
+                                    && appointment.getFrom().value.isBefore(period.getTo().value)
+                                    && period.getFrom().value.isBefore(appointment.getTo().value)))
+                    .toList();
+        }
     }
 
 }
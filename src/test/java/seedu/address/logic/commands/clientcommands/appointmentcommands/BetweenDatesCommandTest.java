@@ -0,0 +1,84 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_BETWEEN;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Listings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for BetweenDatesCommand.
+ */
+public class BetweenDatesCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+
+    @Test
+    public void execute_noAppointmentsBetweenDates_throwsCommandException() {
+        HasAppointmentBetweenPredicate predicate =
+                new HasAppointmentBetweenPredicate(LocalDate.of(2021, 1, 1), LocalDate.of(2023, 12, 31));
+
+        // A failed listing leaves the list filtered to no persons
+        model.updateFilteredPersonList(person -> false);
+
+        assertCommandFailure(new BetweenDatesCommand(predicate), model,
+                String.format(ListAppointmentsCommand.MESSAGE_NO_APPOINTMENTS, "01-01-21", "31-12-23"));
+    }
+
+    @Test
+    public void execute_appointmentsBetweenDates_showsList() {
+        HasAppointmentBetweenPredicate predicate =
+                new HasAppointmentBetweenPredicate(LocalDate.of(2020, 12, 1), LocalDate.of(2020, 12, 31));
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_BETWEEN, 1, "01-12-20", "31-12-20");
+
+        assertCommandSuccess(new BetweenDatesCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        HasAppointmentBetweenPredicate firstPredicate =
+                new HasAppointmentBetweenPredicate(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 15));
+        HasAppointmentBetweenPredicate secondPredicate =
+                new HasAppointmentBetweenPredicate(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 1));
+        BetweenDatesCommand firstCommand = new BetweenDatesCommand(firstPredicate);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new BetweenDatesCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different dates -> returns false
+        assertFalse(firstCommand.equals(new BetweenDatesCommand(secondPredicate)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HasAppointmentBetweenPredicate predicate =
+                new HasAppointmentBetweenPredicate(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 15));
+        String expected = BetweenDatesCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, new BetweenDatesCommand(predicate).toString());
+    }
+}
@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalNames;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -28,9 +29,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
 import seedu.address.model.name.Name;
 import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class DeleteAppointmentCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
@@ -96,6 +101,38 @@ public class DeleteAppointmentCommandTest {
         assertCommandSuccess(deleteAppointmentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_dateAndStartTime_deletesOnlyThatAppointment() {
+        Appointment laterAppointment = new Appointment(new Date("20-12-24"), new From("0800"), new To("0900"));
+        List<Appointment> appointments = new ArrayList<>(ALICE.getAppointments());
+        appointments.add(laterAppointment);
+        Person aliceWithTwoAppointments = new PersonBuilder(ALICE).withAppointments(
+                appointments.toArray(Appointment[]::new)).buildBuyer();
+        model.setPerson(ALICE, aliceWithTwoAppointments);
+
+        DeleteAppointmentCommand deleteAppointmentCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON,
+                laterAppointment.getDate(), laterAppointment.getFrom());
+
+        String expectedMessage = String.format(DeleteAppointmentCommand.MESSAGE_DELETE_APPOINTMENT_SUCCESS,
+                ALICE.getName());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), new Listings());
+        expectedModel.setPerson(aliceWithTwoAppointments, new PersonBuilder(ALICE).withAppointments(
+                ALICE.getAppointments().toArray(Appointment[]::new)).buildBuyer());
+
+        assertCommandSuccess(deleteAppointmentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noAppointmentAtDateAndStartTime_throwsCommandException() {
+        Date date = new Date("01-01-24");
+        From from = new From("0830");
+        DeleteAppointmentCommand deleteAppointmentCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON,
+                date, from);
+
+        assertCommandFailure(deleteAppointmentCommand, model, String.format(
+                DeleteAppointmentCommand.MESSAGE_APPOINTMENT_NOT_FOUND, ALICE.getName(), date, from));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         DeleteAppointmentCommand deleteAppointmentCommand =
@@ -138,12 +175,26 @@ public class DeleteAppointmentCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstAppointmentCommand.equals(deleteSecondAppointmentCommand));
+
+        // one appointment instead of all -> returns false
+        DeleteAppointmentCommand deleteOneAppointmentCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON,
+                new Date("01-01-24"), new From("0800"));
+        assertFalse(deleteFirstAppointmentCommand.equals(deleteOneAppointmentCommand));
+        assertTrue(deleteOneAppointmentCommand.equals(new DeleteAppointmentCommand(INDEX_FIRST_PERSON,
+                new Date("01-01-24"), new From("0800"))));
     }
 
     @Test
     public void toStringMethod() {
         DeleteAppointmentCommand deleteCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON);
-        String expected = DeleteAppointmentCommand.class.getCanonicalName() + "{targetIndex=" + "1" + "}";
+        String expected = DeleteAppointmentCommand.class.getCanonicalName() + "{targetIndex=" + "1"
+                + ", date=null, from=null}";
         assertEquals(expected, deleteCommand.toString());
+
+        DeleteAppointmentCommand deleteOneCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON,
+                new Date("20-12-24"), new From("0800"));
+        expected = DeleteAppointmentCommand.class.getCanonicalName() + "{targetIndex=" + "1"
+                + ", date=20-12-24, from=08:00}";
+        assertEquals(expected, deleteOneCommand.toString());
     }
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Listings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeSlotsCommand.
+ */
+public class FreeSlotsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+
+    @Test
+    public void execute_appointmentsInPeriod_listsGaps() {
+        // The typical persons have overlapping appointments from 08:00 to 09:00 on 01-01-24
+        Person overlapping = new PersonBuilder().withName("Amy Buyer")
+                .withAppointment("01-01-24", "0830", "1000").buildBuyer();
+        Person later = new PersonBuilder().withName("Bob Seller")
+                .withAppointment("01-01-24", "1200", "1300").buildSeller();
+        model.addPerson(overlapping);
+        model.addPerson(later);
+        expectedModel.addPerson(overlapping);
+        expectedModel.addPerson(later);
+
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, "01-01-24", "07:00", "18:00",
+                "07:00 to 08:00\n10:00 to 12:00\n13:00 to 18:00");
+        assertCommandSuccess(new FreeSlotsCommand(period("01-01-24", "0700", "1800")), model, expectedMessage,
+                expectedModel);
+
+        // appointments ending or starting at the ends of the period
+        expectedMessage = String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, "01-01-24", "10:00", "13:00",
+                "10:00 to 12:00");
+        assertCommandSuccess(new FreeSlotsCommand(period("01-01-24", "1000", "1300")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noAppointmentsOnDay_wholePeriodFree() {
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, "02-01-24", "00:00", "23:59",
+                "00:00 to 23:59");
+        assertCommandSuccess(new FreeSlotsCommand(period("02-01-24", FreeSlotsCommand.DEFAULT_FROM,
+                FreeSlotsCommand.DEFAULT_TO)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_periodFullyBooked_noFreeSlots() {
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS, "01-01-24", "08:15",
+                "08:45");
+        assertCommandSuccess(new FreeSlotsCommand(period("01-01-24", "0815", "0845")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand firstCommand = new FreeSlotsCommand(period("01-01-24", "0900", "1800"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FreeSlotsCommand(period("01-01-24", "0900", "1800"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different period -> returns false
+        assertFalse(firstCommand.equals(new FreeSlotsCommand(period("02-01-24", "0900", "1800"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Appointment period = period("01-01-24", "0900", "1800");
+        String expected = FreeSlotsCommand.class.getCanonicalName() + "{period=" + period + "}";
+        assertEquals(expected, new FreeSlotsCommand(period).toString());
+    }
+
+    private static Appointment period(String date, String from, String to) {
+        return new Appointment(new Date(date), new From(from), new To(to));
+    }
+}
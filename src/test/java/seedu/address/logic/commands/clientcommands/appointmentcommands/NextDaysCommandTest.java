@@ -0,0 +1,89 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_BETWEEN;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Listings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for NextDaysCommand.
+ */
+public class NextDaysCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+
+    @Test
+    public void execute_noAppointmentsInNextDays_throwsCommandException() {
+        LocalDate today = LocalDate.now();
+
+        // A failed listing leaves the list filtered to no persons
+        model.updateFilteredPersonList(person -> false);
+
+        assertCommandFailure(new NextDaysCommand(3), model,
+                String.format(ListAppointmentsCommand.MESSAGE_NO_APPOINTMENTS,
+                        Date.format(today), Date.format(today.plusDays(2))));
+    }
+
+    @Test
+    public void execute_appointmentsInNextDays_showsList() {
+        LocalDate today = LocalDate.now();
+        Person lastDay = new PersonBuilder().withName("Alice Buyer")
+                .withAppointment(Date.format(today.plusDays(2)), "0800", "0900").buildBuyer();
+        Person dayAfter = new PersonBuilder().withName("Bob Seller")
+                .withAppointment(Date.format(today.plusDays(3)), "0800", "0900").buildSeller();
+        model.addPerson(lastDay);
+        model.addPerson(dayAfter);
+        expectedModel.addPerson(lastDay);
+        expectedModel.addPerson(dayAfter);
+
+        expectedModel.updateFilteredPersonList(new HasAppointmentBetweenPredicate(today, today.plusDays(2)));
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_BETWEEN, 1,
+                Date.format(today), Date.format(today.plusDays(2)));
+
+        assertCommandSuccess(new NextDaysCommand(3), model, expectedMessage, expectedModel);
+        assertEquals(List.of(lastDay), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        NextDaysCommand firstCommand = new NextDaysCommand(7);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new NextDaysCommand(7)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different number of days -> returns false
+        assertFalse(firstCommand.equals(new NextDaysCommand(1)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = NextDaysCommand.class.getCanonicalName() + "{days=7}";
+        assertEquals(expected, new NextDaysCommand(7).toString());
+    }
+}
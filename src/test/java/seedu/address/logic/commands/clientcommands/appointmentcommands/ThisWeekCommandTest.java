@@ -0,0 +1,86 @@
+package seedu.address.logic.commands.clientcommands.appointmentcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_BETWEEN;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Listings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ThisWeekCommand.
+ */
+public class ThisWeekCommandTest {
+    private static final LocalDate MONDAY = LocalDate.now().with(DayOfWeek.MONDAY);
+    private static final LocalDate SUNDAY = LocalDate.now().with(DayOfWeek.SUNDAY);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+
+    @Test
+    public void execute_noAppointmentsThisWeek_throwsCommandException() {
+        // A failed listing leaves the list filtered to no persons
+        model.updateFilteredPersonList(person -> false);
+
+        assertCommandFailure(new ThisWeekCommand(), model,
+                String.format(ListAppointmentsCommand.MESSAGE_NO_APPOINTMENTS, Date.format(MONDAY), Date.format(SUNDAY)));
+    }
+
+    @Test
+    public void execute_appointmentsThisWeek_showsList() {
+        Person sunday = new PersonBuilder().withName("Alice Buyer")
+                .withAppointment(Date.format(SUNDAY), "0800", "0900").buildBuyer();
+        Person nextMonday = new PersonBuilder().withName("Bob Seller")
+                .withAppointment(Date.format(SUNDAY.plusDays(1)), "0800", "0900").buildSeller();
+        model.addPerson(sunday);
+        model.addPerson(nextMonday);
+        expectedModel.addPerson(sunday);
+        expectedModel.addPerson(nextMonday);
+
+        expectedModel.updateFilteredPersonList(new HasAppointmentBetweenPredicate(MONDAY, SUNDAY));
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_BETWEEN, 1,
+                Date.format(MONDAY), Date.format(SUNDAY));
+
+        assertCommandSuccess(new ThisWeekCommand(), model, expectedMessage, expectedModel);
+        assertEquals(List.of(sunday), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ThisWeekCommand thisWeekCommand = new ThisWeekCommand();
+
+        // same object -> returns true
+        assertTrue(thisWeekCommand.equals(thisWeekCommand));
+
+        // same values -> returns true
+        assertTrue(thisWeekCommand.equals(new ThisWeekCommand()));
+
+        // different types -> returns false
+        assertFalse(thisWeekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(thisWeekCommand.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ThisWeekCommand.class.getCanonicalName() + "{}";
+        assertEquals(expected, new ThisWeekCommand().toString());
+    }
+}
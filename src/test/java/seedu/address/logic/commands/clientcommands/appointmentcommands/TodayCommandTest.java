@@ -125,8 +125,7 @@ public class TodayCommandTest {
     @Test
     public void toStringMethod() {
         TodayCommand todayCommand = new TodayCommand();
-        String expected = TodayCommand.class.getCanonicalName()
-                + "{predicate=" + new HasAppointmentTodayPredicate() + "}";
+        String expected = TodayCommand.class.getCanonicalName() + "{}";
         assertEquals(expected, todayCommand.toString());
     }
 }
@@ -19,6 +19,8 @@ import static seedu.address.testutil.TypicalListings.getTypicalListings;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
@@ -103,8 +105,10 @@ public class EditListingCommandTest {
         showListingWithName(expectedModel, PASIR_RIS.getName());
 
         expectedModel.setListing(PASIR_RIS, editedListing);
-        expectedModel.updateFilteredListingList(listings -> true);
+
+        // the filter is kept, and the edited listing is still shown
         assertCommandSuccess(editListingCommand, model, expectedMessage, expectedModel);
+        assertEquals(List.of(editedListing), model.getFilteredListingList());
     }
 
     @Test
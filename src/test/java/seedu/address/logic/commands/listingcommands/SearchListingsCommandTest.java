@@ -0,0 +1,99 @@
+package seedu.address.logic.commands.listingcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_LISTINGS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.ListingSearchPredicate;
+import seedu.address.model.listing.Region;
+import seedu.address.testutil.TypicalListings;
+
+public class SearchListingsCommandTest {
+
+    private Model model = new ModelManager(new AddressBook(), new UserPrefs(), TypicalListings.getTypicalListings());
+    private Model expectedModel =
+            new ModelManager(new AddressBook(), new UserPrefs(), TypicalListings.getTypicalListings());
+
+    @Test
+    public void equals() {
+        ListingSearchPredicate firstPredicate = new ListingSearchPredicate(new BigDecimal("500000"), null,
+                null, null, EnumSet.noneOf(Region.class));
+        ListingSearchPredicate secondPredicate = new ListingSearchPredicate(null, null,
+                null, null, EnumSet.of(Region.WEST));
+
+        SearchListingsCommand searchFirstCommand = new SearchListingsCommand(firstPredicate);
+        SearchListingsCommand searchSecondCommand = new SearchListingsCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        SearchListingsCommand searchFirstCommandCopy = new SearchListingsCommand(firstPredicate);
+        assertTrue(searchFirstCommand.equals(searchFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingListings_noListingFound() {
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 0);
+        ListingSearchPredicate predicate = new ListingSearchPredicate(new BigDecimal("800000"), null,
+                null, null, EnumSet.noneOf(Region.class));
+        SearchListingsCommand command = new SearchListingsCommand(predicate);
+        expectedModel.updateFilteredListingList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredListingList());
+    }
+
+    @Test
+    public void execute_priceAndRegion_multipleListingsFound() {
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 2);
+        ListingSearchPredicate predicate = new ListingSearchPredicate(new BigDecimal("500000"), null,
+                null, null, EnumSet.of(Region.EAST));
+        SearchListingsCommand command = new SearchListingsCommand(predicate);
+        expectedModel.updateFilteredListingList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalListings.PASIR_RIS, TypicalListings.TAMPINES),
+                model.getFilteredListingList());
+    }
+
+    @Test
+    public void execute_areaRange_multipleListingsFound() {
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 1);
+        ListingSearchPredicate predicate = new ListingSearchPredicate(null, null,
+                null, new BigDecimal("80"), EnumSet.noneOf(Region.class));
+        SearchListingsCommand command = new SearchListingsCommand(predicate);
+        expectedModel.updateFilteredListingList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalListings.PASIR_RIS), model.getFilteredListingList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListingSearchPredicate predicate = new ListingSearchPredicate(null, null, null, null,
+                EnumSet.of(Region.EAST));
+        SearchListingsCommand searchListingsCommand = new SearchListingsCommand(predicate);
+        String expected = SearchListingsCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, searchListingsCommand.toString());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void getStats_nullCommandWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandMetrics.getStats(null));
+    }
+
+    @Test
+    public void getStats_sameCommandWord_sameStats() {
+        assertSame(commandMetrics.getStats("find"), commandMetrics.getStats("find"));
+    }
+
+    @Test
+    public void getSummary_noCommands_noCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_lineForEachCommandWordInOrder() {
+        CommandStats findStats = commandMetrics.getStats("find");
+        findStats.recordParse(1_000_000);
+        findStats.recordExecute(2_000_000);
+        findStats.recordSave("listings", 4_000_000);
+        findStats.recordSave("addressBook", 3_000_000);
+        findStats.recordAllocation(2048);
+        findStats.recordParse(1_000_000);
+        commandMetrics.getStats("exit").recordParse(500_000);
+
+        assertEquals(3, commandMetrics.getCount());
+        List<String> lines = commandMetrics.getSummary().lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals("exit x1: parse 0.50 / 0.50 / 0.50", lines.get(1));
+        assertEquals("find x2: parse 1.00 / 1.00 / 1.00, execute 2.00 / 2.00 / 2.00,"
+                + " save addressBook 3.00 / 3.00 / 3.00, save listings 4.00 / 4.00 / 4.00,"
+                + " allocated 2.00 / 2.00 / 2.00", lines.get(2));
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_allocate_increases() {
+        long before = CommandMetrics.getCurrentThreadAllocatedBytes();
+        if (before == CommandMetrics.ALLOCATION_UNSUPPORTED) {
+            return;
+        }
+        long[] allocated = new long[1024];
+        assertTrue(CommandMetrics.getCurrentThreadAllocatedBytes() - before >= allocated.length * Long.BYTES);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void bucketOf_largestValueOfBucket_inSameBucket() {
+        for (long value : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE}) {
+            int bucket = Histogram.bucketOf(value);
+            long largestValue = Histogram.largestValueOf(bucket);
+            assertTrue(largestValue >= value);
+            assertEquals(bucket, Histogram.bucketOf(largestValue));
+            if (largestValue < Long.MAX_VALUE) {
+                assertEquals(bucket + 1, Histogram.bucketOf(largestValue + 1));
+            }
+            // a bucket is at most an eighth as wide as its values
+            assertTrue(largestValue - value <= value / 8);
+        }
+    }
+
+    @Test
+    public void getPercentile_noValues_zero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.5));
+    }
+
+    @Test
+    public void getPercentile_values_withinAnEighth() {
+        List<Long> values = new ArrayList<>();
+        for (long value = 1; value <= 1000; value++) {
+            values.add(value * 1000);
+        }
+        values.forEach(histogram::record);
+        histogram.record(-5);
+
+        assertEquals(1001, histogram.getCount());
+        assertEquals(1000 * 1000, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(1000 * 1000, histogram.getPercentile(100));
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500 * 1000 && median <= 500 * 1000 * 9 / 8, String.valueOf(median));
+        long ninetyFifth = histogram.getPercentile(95);
+        assertTrue(ninetyFifth >= 950 * 1000 && ninetyFifth <= 1000 * 1000, String.valueOf(ninetyFifth));
+    }
+
+    @Test
+    public void record_concurrently_allValuesRecorded() {
+        List<CompletableFuture<Void>> recordings = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            recordings.add(CompletableFuture.runAsync(() -> {
+                for (int value = 0; value < 10000; value++) {
+                    histogram.record(value);
+                }
+            }));
+        }
+        recordings.forEach(CompletableFuture::join);
+
+        assertEquals(40000, histogram.getCount());
+        assertEquals(9999, histogram.getMax());
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 4999 && median - 4999 <= 4999 / 8);
+    }
+}
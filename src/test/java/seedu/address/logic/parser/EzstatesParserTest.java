@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.clientcommands.AddBuyerProfileCommand;
 import seedu.address.logic.commands.clientcommands.AddSellerProfileCommand;
 import seedu.address.logic.commands.clientcommands.DeleteClientProfileCommand;
@@ -30,7 +32,11 @@ import seedu.address.logic.commands.clientcommands.EditClientCommand.EditPersonD
 import seedu.address.logic.commands.clientcommands.FindClientCommand;
 import seedu.address.logic.commands.clientcommands.ShowClientsCommand;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.AddAppointmentCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.BetweenDatesCommand;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.DeleteAppointmentCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.FreeSlotsCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.NextDaysCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.ThisWeekCommand;
 import seedu.address.logic.commands.clientcommands.appointmentcommands.TodayCommand;
 import seedu.address.logic.commands.listingcommands.AddBuyersToListingCommand;
 import seedu.address.logic.commands.listingcommands.AddListingCommand;
@@ -40,12 +46,14 @@ import seedu.address.logic.commands.listingcommands.EditListingCommand;
 import seedu.address.logic.commands.listingcommands.FindListingCommand;
 import seedu.address.logic.commands.listingcommands.RemoveBuyersFromListingCommand;
 import seedu.address.logic.commands.listingcommands.ShowListingsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.Date;
 import seedu.address.model.appointment.From;
 import seedu.address.model.appointment.To;
 import seedu.address.model.person.Buyer;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Seller;
@@ -137,6 +145,15 @@ public class EzstatesParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        EzstatesParser parserWithMetrics = new EzstatesParser(commandMetrics);
+        assertEquals(new StatsCommand(commandMetrics), parserWithMetrics.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(commandMetrics),
+                parserWithMetrics.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ShowClientsCommand.COMMAND_WORD) instanceof ShowClientsCommand);
@@ -161,6 +178,29 @@ public class EzstatesParserTest {
         assertTrue(parser.parseCommand(TodayCommand.COMMAND_WORD) instanceof TodayCommand);
     }
 
+    @Test
+    public void parseCommand_thisWeek() throws Exception {
+        assertTrue(parser.parseCommand(ThisWeekCommand.COMMAND_WORD) instanceof ThisWeekCommand);
+    }
+
+    @Test
+    public void parseCommand_nextDays() throws Exception {
+        assertEquals(new NextDaysCommand(7), parser.parseCommand(NextDaysCommand.COMMAND_WORD + " 7"));
+    }
+
+    @Test
+    public void parseCommand_freeSlots() throws Exception {
+        assertEquals(new FreeSlotsCommand(new Appointment(new Date("20-12-24"), new From("0900"), new To("1800"))),
+                parser.parseCommand(FreeSlotsCommand.COMMAND_WORD + " d/20-12-24 fr/0900 to/1800"));
+    }
+
+    @Test
+    public void parseCommand_betweenDates() throws Exception {
+        Command command = parser.parseCommand(BetweenDatesCommand.COMMAND_WORD + " fr/01-11-24 to/15-11-24");
+        assertEquals(new BetweenDatesCommand(new HasAppointmentBetweenPredicate(
+                LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 15))), command);
+    }
+
     @Test
     public void parseCommand_showListings() throws Exception {
         assertTrue(parser.parseCommand(ShowListingsCommand.COMMAND_WORD) instanceof ShowListingsCommand);
@@ -32,4 +32,18 @@ public class FindClientCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindClientCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FindClientCommand expectedFindClientCommand =
+                new FindClientCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alce", "Bob"), true));
+        assertParseSuccess(parser, " fz/Alce Bob", expectedFindClientCommand);
+
+        // whitespace after the prefix
+        assertParseSuccess(parser, " fz/  Alce \t Bob", expectedFindClientCommand);
+
+        // no keywords
+        assertParseFailure(parser, " fz/  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindClientCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.BetweenDatesCommand;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+
+public class BetweenDatesCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BetweenDatesCommand.MESSAGE_USAGE);
+
+    private BetweenDatesCommandParser parser = new BetweenDatesCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBetweenDatesCommand() {
+        BetweenDatesCommand expectedCommand = new BetweenDatesCommand(
+                new HasAppointmentBetweenPredicate(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 15)));
+
+        assertParseSuccess(parser, " fr/01-11-24 to/15-11-24", expectedCommand);
+
+        // either date format, in any order
+        assertParseSuccess(parser, " to/151124 fr/ 011124 ", expectedCommand);
+
+        // same start and end date
+        assertParseSuccess(parser, " fr/01-11-24 to/01-11-24", new BetweenDatesCommand(
+                new HasAppointmentBetweenPredicate(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 1))));
+    }
+
+    @Test
+    public void parse_missingField_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " fr/01-11-24", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/15-11-24", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_throwsParseException() {
+        assertParseFailure(parser, " 1 fr/01-11-24 to/15-11-24", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // invalid date
+        assertParseFailure(parser, " fr/1-11-24 to/15-11-24", Date.MESSAGE_CONSTRAINTS);
+
+        // start date after end date
+        assertParseFailure(parser, " fr/15-11-24 to/01-11-24", BetweenDatesCommandParser.MESSAGE_INVALID_RANGE);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " fr/01-11-24 fr/02-11-24 to/15-11-24",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FROM));
+    }
+}
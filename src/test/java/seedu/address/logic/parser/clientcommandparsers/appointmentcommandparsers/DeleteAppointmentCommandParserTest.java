@@ -8,6 +8,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.clientcommands.appointmentcommands.DeleteAppointmentCommand;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
 
 public class DeleteAppointmentCommandParserTest {
     private DeleteAppointmentCommandParser parser = new DeleteAppointmentCommandParser();
@@ -15,6 +17,21 @@ public class DeleteAppointmentCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, " 1 ", new DeleteAppointmentCommand(INDEX_FIRST_PERSON));
+        assertParseSuccess(parser, " 1 d/20-12-24 fr/0800",
+                new DeleteAppointmentCommand(INDEX_FIRST_PERSON, new Date("20-12-24"), new From("0800")));
+    }
+
+    @Test
+    public void parse_onlyDateOrStartTime_throwsParseException() {
+        assertParseFailure(parser, " 1 d/20-12-24", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteAppointmentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 1 fr/0800", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteAppointmentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " 1 d/2024-12-20 fr/0800", Date.MESSAGE_CONSTRAINTS);
     }
 
     @Test
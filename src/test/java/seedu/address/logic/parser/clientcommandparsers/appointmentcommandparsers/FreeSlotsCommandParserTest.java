@@ -0,0 +1,56 @@
+package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.AddAppointmentCommand;
+import seedu.address.logic.commands.clientcommands.appointmentcommands.FreeSlotsCommand;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentUtil;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+
+public class FreeSlotsCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFreeSlotsCommand() {
+        assertParseSuccess(parser, " d/20-12-24 fr/0900 to/18:00", new FreeSlotsCommand(
+                new Appointment(new Date("20-12-24"), new From("0900"), new To("1800"))));
+
+        // times not given -> whole day
+        assertParseSuccess(parser, " d/201224", new FreeSlotsCommand(
+                new Appointment(new Date("20-12-24"), new From("0000"), new To("2359"))));
+
+        // only start time given
+        assertParseSuccess(parser, " d/20-12-24 fr/1200", new FreeSlotsCommand(
+                new Appointment(new Date("20-12-24"), new From("1200"), new To("2359"))));
+    }
+
+    @Test
+    public void parse_missingDate_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " fr/0900 to/1800", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_throwsParseException() {
+        assertParseFailure(parser, " 1 d/20-12-24", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " d/20-12-24 fr/9am", AppointmentUtil.TIME_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/20-12-24 fr/1800 to/0900", AddAppointmentCommand.MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, " d/20-12-24 d/21-12-24", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DATE));
+    }
+}
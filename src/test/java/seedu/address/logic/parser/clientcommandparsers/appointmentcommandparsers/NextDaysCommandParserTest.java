@@ -0,0 +1,34 @@
+package seedu.address.logic.parser.clientcommandparsers.appointmentcommandparsers;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.clientcommands.appointmentcommands.NextDaysCommand;
+
+public class NextDaysCommandParserTest {
+    private NextDaysCommandParser parser = new NextDaysCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsNextDaysCommand() {
+        assertParseSuccess(parser, " 7 ", new NextDaysCommand(7));
+    }
+
+    @Test
+    public void parse_missingField_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                NextDaysCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                NextDaysCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "-3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                NextDaysCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "seven", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                NextDaysCommand.MESSAGE_USAGE));
+    }
+}
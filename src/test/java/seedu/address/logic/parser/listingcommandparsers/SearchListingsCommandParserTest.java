@@ -0,0 +1,67 @@
+package seedu.address.logic.parser.listingcommandparsers;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.getErrorMessageForDuplicatePrefixes;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.listingcommands.SearchListingsCommand;
+import seedu.address.model.listing.Area;
+import seedu.address.model.listing.ListingSearchPredicate;
+import seedu.address.model.listing.Region;
+
+public class SearchListingsCommandParserTest {
+    private SearchListingsCommandParser parser = new SearchListingsCommandParser();
+
+    @Test
+    public void parse_noCriteria_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchListingsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_throwsParseException() {
+        assertParseFailure(parser, " east reg/east",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchListingsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchListingsCommand() {
+        SearchListingsCommand expectedCommand = new SearchListingsCommand(new ListingSearchPredicate(
+                new BigDecimal("800000"), new BigDecimal("1200000"), new BigDecimal("90"), null,
+                EnumSet.of(Region.EAST, Region.NORTHEAST)));
+        assertParseSuccess(parser, " minpr/800000 maxpr/1200000 minar/90 reg/east reg/northeast", expectedCommand);
+
+        // different order
+        assertParseSuccess(parser, " reg/northeast minar/90 maxpr/1200000 reg/east minpr/800000", expectedCommand);
+
+        // single criterion
+        assertParseSuccess(parser, " maxar/100", new SearchListingsCommand(new ListingSearchPredicate(
+                null, null, null, new BigDecimal("100"), EnumSet.noneOf(Region.class))));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " minar/1", Area.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " reg/middle", "Invalid region: middle");
+    }
+
+    @Test
+    public void parse_minimumAboveMaximum_throwsParseException() {
+        assertParseFailure(parser, " minpr/900000 maxpr/800000",
+                String.format(SearchListingsCommandParser.MESSAGE_INVALID_RANGE, "price"));
+        assertParseFailure(parser, " minar/100 maxar/90",
+                String.format(SearchListingsCommandParser.MESSAGE_INVALID_RANGE, "area"));
+    }
+
+    @Test
+    public void parse_duplicateBound_throwsParseException() {
+        assertParseFailure(parser, " minpr/800000 minpr/900000", getErrorMessageForDuplicatePrefixes(PREFIX_MIN_PRICE));
+    }
+}
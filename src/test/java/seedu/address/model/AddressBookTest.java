@@ -2,9 +2,11 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -74,6 +76,55 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_mutations_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withTags().buildSeller();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(editedAlice);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_queries_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(BOB);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_failedMutation_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_copies() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        assertEquals(original.getVersion(), copy.getVersion());
+
+        // Versions are not shared by address books that are modified independently
+        original.addPerson(BOB);
+        copy.addPerson(BOB);
+        assertNotEquals(original.getVersion(), copy.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -135,5 +186,10 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
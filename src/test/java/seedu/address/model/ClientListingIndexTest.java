@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ClientListingIndexTest {
+
+    private final Listings listings = new Listings();
+    private final ClientListingIndex index = new ClientListingIndex(listings.getListingList());
+
+    @Test
+    public void constructor_existingListings_indexed() {
+        listings.addListing(PASIR_RIS);
+        ClientListingIndex newIndex = new ClientListingIndex(listings.getListingList());
+        assertTrue(newIndex.hasListingsWithSeller(ALICE));
+        assertTrue(newIndex.hasListingsWithBuyer(DANIEL));
+    }
+
+    @Test
+    public void addListing_sellerAndBuyersIndexed() {
+        listings.addListing(PASIR_RIS);
+        listings.addListing(TAMPINES);
+        assertEquals(List.of(PASIR_RIS), index.getListingsWithSeller(ALICE));
+        assertEquals(List.of(TAMPINES), index.getListingsWithSeller(BENSON));
+        assertEquals(2, index.getListingsWithBuyer(DANIEL).size());
+        assertEquals(List.of(PASIR_RIS), index.getListingsWithBuyer(GEORGE));
+        assertFalse(index.hasListingsWithSeller(DANIEL));
+        assertFalse(index.hasListingsWithBuyer(ALICE));
+    }
+
+    @Test
+    public void getListingsWithSeller_outdatedCopyOfSeller_found() {
+        listings.addListing(PASIR_RIS);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").buildSeller();
+        assertEquals(List.of(PASIR_RIS), index.getListingsWithSeller(editedAlice));
+    }
+
+    @Test
+    public void removeListing_unindexed() {
+        listings.addListing(PASIR_RIS);
+        listings.removeListing(PASIR_RIS);
+        assertFalse(index.hasListingsWithSeller(ALICE));
+        assertFalse(index.hasListingsWithBuyer(DANIEL));
+    }
+
+    @Test
+    public void setListing_reindexed() {
+        listings.addListing(PASIR_RIS);
+        Listing editedListing = new ListingBuilder(PASIR_RIS).withSeller(BENSON).withBuyers(ELLE).build();
+        listings.setListing(PASIR_RIS, editedListing);
+        assertFalse(index.hasListingsWithSeller(ALICE));
+        assertFalse(index.hasListingsWithBuyer(DANIEL));
+        assertSame(editedListing, index.getListingsWithSeller(BENSON).get(0));
+        assertSame(editedListing, index.getListingsWithBuyer(ELLE).get(0));
+    }
+
+    @Test
+    public void resetData_reindexed() {
+        listings.addListing(PASIR_RIS);
+        Listings newData = new Listings();
+        newData.addListing(TAMPINES);
+        listings.resetData(newData);
+        assertFalse(index.hasListingsWithSeller(ALICE));
+        assertTrue(index.hasListingsWithSeller(BENSON));
+        assertEquals(List.of(TAMPINES), index.getListingsWithBuyer(ELLE));
+    }
+}
@@ -51,6 +51,37 @@ public class ListingsTest {
         assertFalse(listings.hashCode() == differentListings.hashCode());
     }
 
+    @Test
+    public void getVersion_mutations_versionChanges() {
+        long version = listings.getVersion();
+        listings.addListing(sampleListing);
+        assertNotEquals(version, listings.getVersion());
+
+        version = listings.getVersion();
+        listings.setListing(sampleListing, new ListingBuilder(sampleListing).withArea("1000").build());
+        assertNotEquals(version, listings.getVersion());
+
+        version = listings.getVersion();
+        listings.removeListing(listings.getListingList().get(0));
+        assertNotEquals(version, listings.getVersion());
+
+        version = listings.getVersion();
+        listings.resetData(TypicalListings.getTypicalListings());
+        assertNotEquals(version, listings.getVersion());
+    }
+
+    @Test
+    public void getVersion_copies() {
+        Listings original = TypicalListings.getTypicalListings();
+        Listings copy = new Listings(original);
+        assertEquals(original.getVersion(), copy.getVersion());
+
+        // Versions are not shared by listings that are modified independently
+        original.addListing(sampleListing);
+        copy.addListing(sampleListing);
+        assertNotEquals(original.getVersion(), copy.getVersion());
+    }
+
     @Test
     public void replaceBuyer_existingBuyer_replacesWithNewBuyer() {
         Listing listing = new Listing(TypicalListings.PASIR_RIS);
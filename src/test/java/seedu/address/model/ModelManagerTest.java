@@ -9,9 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
 import seedu.address.model.name.Name;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -209,6 +212,64 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_filteredList_filterKeptAndPersonShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        modelManager.addPerson(DANIEL);
+        assertEquals(Arrays.asList(ALICE, DANIEL), modelManager.getFilteredPersonList());
+
+        // revealed persons are no longer shown once the filter is changed
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_filteredList_editedPersonShownOnlyIfTargetWas() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").buildBuyer();
+        modelManager.setPerson(ALICE, editedAlice);
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Meyer").buildBuyer();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(editedAlice);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_fuzzy_personAddedAfterSearchShownLast() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(Arrays.asList("Alise"), true));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(DANIEL);
+        assertEquals(Arrays.asList(ALICE, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByAppointmentDate_personRescheduled_shownUntilSearchedAgain() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        HasAppointmentBetweenPredicate inJanuary = new HasAppointmentBetweenPredicate(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        modelManager.updateFilteredPersonListByAppointmentDate(inJanuary);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person rescheduledAlice = new PersonBuilder(ALICE).withAppointment("02-02-24", "0800", "0900").buildSeller();
+        modelManager.setPerson(ALICE, rescheduledAlice);
+        assertEquals(Arrays.asList(rescheduledAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonListByAppointmentDate(inJanuary);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getPersonByName_nullName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.getPersonByName(null));
@@ -317,4 +378,51 @@ public class ModelManagerTest {
                 "There should be no listings with the original seller (ALICE) after the update.");
     }
 
+    @Test
+    public void hasListingsForSeller_sellerOfListing_returnsTrue() {
+        modelManager.addListing(PASIR_RIS);
+        assertTrue(modelManager.hasListingsForSeller(ALICE));
+        assertFalse(modelManager.hasListingsForSeller(BENSON));
+    }
+
+    @Test
+    public void hasListingsForBuyer_buyerOfListing_returnsTrue() {
+        modelManager.addListing(PASIR_RIS);
+        assertTrue(modelManager.hasListingsForBuyer(DANIEL));
+        assertFalse(modelManager.hasListingsForBuyer(ALICE));
+    }
+
+    @Test
+    public void removeClientFromListings_seller_deletesListingsOfSeller() {
+        modelManager.addListing(PASIR_RIS);
+        modelManager.addListing(TypicalListings.TAMPINES);
+        modelManager.removeClientFromListings(ALICE);
+        assertFalse(modelManager.hasListing(PASIR_RIS));
+        assertTrue(modelManager.hasListing(TypicalListings.TAMPINES));
+        assertFalse(modelManager.hasListingsForSeller(ALICE));
+    }
+
+    @Test
+    public void removeClientFromListings_buyer_removesBuyerFromListings() {
+        modelManager.addListing(PASIR_RIS);
+        modelManager.addListing(TypicalListings.TAMPINES);
+        modelManager.removeClientFromListings(DANIEL);
+        assertEquals(2, modelManager.getListings().getListingList().size());
+        assertTrue(modelManager.getListings().getListingList().stream()
+                .noneMatch(listing -> listing.hasBuyer(DANIEL)));
+        assertFalse(modelManager.hasListingsForBuyer(DANIEL));
+    }
+
+    @Test
+    public void updateListingsAfterClientEdit_sellerEdited_keepsListingPosition() {
+        modelManager.addListing(PASIR_RIS);
+        modelManager.addListing(TypicalListings.TAMPINES);
+        Person updatedSeller = new PersonBuilder(ALICE).withName("Updated Alice").buildSeller();
+
+        modelManager.updateListingsAfterClientEdit(ALICE, updatedSeller);
+
+        assertEquals(updatedSeller, modelManager.getListings().getListingList().get(0).getSeller());
+        assertTrue(modelManager.hasListingsForSeller(updatedSeller));
+        assertFalse(modelManager.hasListingsForSeller(ALICE));
+    }
 }
@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingSearchPredicate;
 import seedu.address.model.name.Name;
+import seedu.address.model.person.HasAppointmentBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -107,6 +113,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment period) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsOverlapping(Appointment period) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonListByAppointmentDate(HasAppointmentBetweenPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasListing(Listing listing) {
         throw new AssertionError("This method should not be called.");
@@ -161,4 +187,19 @@ public class ModelStub implements Model {
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredListingListByName(ListingContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredListingListBySearch(ListingSearchPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeClientFromListings(Person client) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
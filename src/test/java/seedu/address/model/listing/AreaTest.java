@@ -8,6 +8,17 @@ import org.junit.jupiter.api.Test;
 
 public class AreaTest {
 
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Area(null));
+    }
+
+    @Test
+    public void constructor_invalidArea_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Area("9"));
+        assertThrows(IllegalArgumentException.class, () -> new Area("area"));
+    }
+
     @Test
     public void isValidArea() {
         // null area
@@ -29,10 +40,10 @@ public class AreaTest {
 
     @Test
     public void equals() {
-        Area area = new Area("3");
+        Area area = new Area("30");
 
         // same values -> returns true
-        assertTrue(area.equals(new Area("3")));
+        assertTrue(area.equals(new Area("30")));
 
         // same object -> returns true
         assertTrue(area.equals(area));
@@ -44,6 +55,6 @@ public class AreaTest {
         assertFalse(area.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(area.equals(new Area("1")));
+        assertFalse(area.equals(new Area("10")));
     }
 }
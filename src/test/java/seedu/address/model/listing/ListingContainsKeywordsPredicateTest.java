@@ -89,7 +89,8 @@ public class ListingContainsKeywordsPredicateTest {
         List<String> keywords = List.of("keyword1", "keyword2");
         ListingContainsKeywordsPredicate predicate = new ListingContainsKeywordsPredicate(keywords);
 
-        String expected = ListingContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = ListingContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", isFuzzy=false}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalListings.BUONA_VISTA;
+import static seedu.address.testutil.TypicalListings.HOUGANG;
+import static seedu.address.testutil.TypicalListings.KENT_RIDGE;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.SIMEI;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ListingSearchIndexTest {
+
+    private final ListingSearchIndex index = new ListingSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        for (Listing listing : new Listing[] {PASIR_RIS, TAMPINES, KENT_RIDGE, BUONA_VISTA, SIMEI, HOUGANG}) {
+            index.add(listing);
+        }
+    }
+
+    @Test
+    public void search_noCriteria_returnsAllListings() {
+        assertEquals(Set.of(PASIR_RIS, TAMPINES, KENT_RIDGE, BUONA_VISTA, SIMEI, HOUGANG),
+                Set.copyOf(index.search(new ListingSearchPredicate(null, null, null, null,
+                        EnumSet.noneOf(Region.class)))));
+    }
+
+    @Test
+    public void search_allCriteria_returnsMatchingListings() {
+        ListingSearchPredicate predicate = new ListingSearchPredicate(new BigDecimal("100000"),
+                new BigDecimal("650000"), new BigDecimal("60"), null, EnumSet.of(Region.EAST, Region.WEST));
+        assertEquals(Set.of(TAMPINES, KENT_RIDGE, BUONA_VISTA), Set.copyOf(index.search(predicate)));
+    }
+
+    @Test
+    public void search_emptyRange_returnsNoListings() {
+        ListingSearchPredicate predicate = new ListingSearchPredicate(new BigDecimal("800000"), null, null, null,
+                EnumSet.noneOf(Region.class));
+        assertEquals(Set.of(), Set.copyOf(index.search(predicate)));
+    }
+
+    @Test
+    public void search_afterRemove_excludesRemovedListing() {
+        index.remove(SIMEI);
+        ListingSearchPredicate predicate = new ListingSearchPredicate(null, new BigDecimal("120000"), null, null,
+                EnumSet.noneOf(Region.class));
+        assertEquals(Set.of(HOUGANG), Set.copyOf(index.search(predicate)));
+
+        index.clear();
+        assertEquals(Set.of(), Set.copyOf(index.search(predicate)));
+    }
+}
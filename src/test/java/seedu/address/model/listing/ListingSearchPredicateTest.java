@@ -0,0 +1,90 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TypicalListings;
+
+public class ListingSearchPredicateTest {
+
+    private static final Set<Region> ANY_REGION = EnumSet.noneOf(Region.class);
+
+    @Test
+    public void equals() {
+        ListingSearchPredicate firstPredicate = new ListingSearchPredicate(new BigDecimal("500000"), null,
+                null, null, EnumSet.of(Region.EAST));
+        ListingSearchPredicate secondPredicate = new ListingSearchPredicate(null, new BigDecimal("500000"),
+                null, null, EnumSet.of(Region.EAST));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        ListingSearchPredicate firstPredicateCopy = new ListingSearchPredicate(new BigDecimal("500000"), null,
+                null, null, EnumSet.of(Region.EAST));
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different bounds -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different regions -> returns false
+        assertFalse(firstPredicate.equals(new ListingSearchPredicate(new BigDecimal("500000"), null,
+                null, null, EnumSet.of(Region.WEST))));
+    }
+
+    @Test
+    public void test_withinRanges_returnsTrue() {
+        // no criteria
+        assertTrue(new ListingSearchPredicate(null, null, null, null, ANY_REGION).test(TypicalListings.PASIR_RIS));
+
+        // bounds are inclusive
+        assertTrue(new ListingSearchPredicate(new BigDecimal("700000"), new BigDecimal("700000"),
+                new BigDecimal("75"), new BigDecimal("75"), ANY_REGION).test(TypicalListings.PASIR_RIS));
+
+        // open-ended ranges
+        assertTrue(new ListingSearchPredicate(new BigDecimal("500000"), null, null, new BigDecimal("80"),
+                ANY_REGION).test(TypicalListings.PASIR_RIS));
+
+        // any of the regions
+        assertTrue(new ListingSearchPredicate(null, null, null, null, EnumSet.of(Region.WEST, Region.EAST))
+                .test(TypicalListings.PASIR_RIS));
+    }
+
+    @Test
+    public void test_outsideRanges_returnsFalse() {
+        // price below the minimum
+        assertFalse(new ListingSearchPredicate(new BigDecimal("700001"), null, null, null, ANY_REGION)
+                .test(TypicalListings.PASIR_RIS));
+
+        // area above the maximum
+        assertFalse(new ListingSearchPredicate(null, null, null, new BigDecimal("74"), ANY_REGION)
+                .test(TypicalListings.PASIR_RIS));
+
+        // different region
+        assertFalse(new ListingSearchPredicate(null, null, null, null, EnumSet.of(Region.WEST))
+                .test(TypicalListings.PASIR_RIS));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListingSearchPredicate predicate = new ListingSearchPredicate(new BigDecimal("1"), null, null, null,
+                EnumSet.of(Region.EAST));
+
+        String expected = ListingSearchPredicate.class.getCanonicalName() + "{minPrice=1, maxPrice=null, "
+                + "minArea=null, maxArea=null, regions=[EAST]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
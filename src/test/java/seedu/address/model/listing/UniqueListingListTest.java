@@ -2,8 +2,11 @@ package seedu.address.model.listing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.KENT_RIDGE;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
 import static seedu.address.testutil.TypicalListings.TAMPINES;
 
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.name.Name;
 import seedu.address.testutil.ListingBuilder;
 
 public class UniqueListingListTest {
@@ -44,6 +48,35 @@ public class UniqueListingListTest {
         assertTrue(uniqueListingList.contains(editedListing));
     }
 
+    @Test
+    public void contains_listingWithSameAddressOnly_returnsTrue() {
+        uniqueListingList.add(PASIR_RIS);
+        Listing sameAddress = new ListingBuilder(TAMPINES).withAddress(PASIR_RIS.getAddress().value).build();
+        assertTrue(uniqueListingList.contains(sameAddress));
+    }
+
+    @Test
+    public void contains_listingWithSameNameInDifferentCase_returnsTrue() {
+        uniqueListingList.add(PASIR_RIS);
+        Listing sameName = new ListingBuilder(TAMPINES).withName(PASIR_RIS.getName().fullName.toUpperCase()).build();
+        assertTrue(uniqueListingList.contains(sameName));
+    }
+
+    @Test
+    public void getListingByName_nameInDifferentCase_returnsListing() {
+        uniqueListingList.add(PASIR_RIS);
+        assertSame(PASIR_RIS, uniqueListingList.getListingByName(
+                new Name(PASIR_RIS.getName().fullName.toUpperCase())));
+        assertNull(uniqueListingList.getListingByName(TAMPINES.getName()));
+    }
+
+    @Test
+    public void getListingByAddress_addressInList_returnsListing() {
+        uniqueListingList.add(PASIR_RIS);
+        assertSame(PASIR_RIS, uniqueListingList.getListingByAddress(PASIR_RIS.getAddress()));
+        assertNull(uniqueListingList.getListingByAddress(TAMPINES.getAddress()));
+    }
+
     @Test
     public void add_nullListing_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueListingList.add(null));
@@ -105,6 +138,22 @@ public class UniqueListingListTest {
         assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListing(PASIR_RIS, TAMPINES));
     }
 
+    @Test
+    public void setListing_editedListingSharesAddressWithAnotherListing_throwsDuplicateListingException() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.add(TAMPINES);
+        Listing editedListing = new ListingBuilder(PASIR_RIS).withAddress(TAMPINES.getAddress().value).build();
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListing(PASIR_RIS, editedListing));
+    }
+
+    @Test
+    public void setListing_editedListingHasDifferentIdentity_updatesLookup() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.setListing(PASIR_RIS, TAMPINES);
+        assertFalse(uniqueListingList.contains(PASIR_RIS));
+        assertTrue(uniqueListingList.contains(TAMPINES));
+    }
+
     @Test
     public void remove_nullListing_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueListingList.remove(null));
@@ -123,6 +172,28 @@ public class UniqueListingListTest {
         assertEquals(expectedUniqueListingList, uniqueListingList);
     }
 
+    @Test
+    public void remove_existingListing_allowsReAdding() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.remove(PASIR_RIS);
+        assertFalse(uniqueListingList.contains(PASIR_RIS));
+        uniqueListingList.add(PASIR_RIS);
+        assertTrue(uniqueListingList.contains(PASIR_RIS));
+    }
+
+    @Test
+    public void remove_listingBeforeOthers_laterListingsStillReplaceable() {
+        uniqueListingList.setListings(Arrays.asList(PASIR_RIS, TAMPINES, KENT_RIDGE));
+        uniqueListingList.remove(PASIR_RIS);
+        Listing editedKentRidge = new ListingBuilder(KENT_RIDGE).withArea("1500").build();
+        uniqueListingList.setListing(KENT_RIDGE, editedKentRidge);
+        uniqueListingList.remove(TAMPINES);
+
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(editedKentRidge);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+    }
+
     @Test
     public void setListings_nullUniqueListingList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueListingList.setListings((UniqueListingList) null));
@@ -158,6 +229,13 @@ public class UniqueListingListTest {
         assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListings(listWithDuplicateListings));
     }
 
+    @Test
+    public void setListings_listWithSharedAddress_throwsDuplicateListingException() {
+        Listing sameAddress = new ListingBuilder(TAMPINES).withAddress(PASIR_RIS.getAddress().value).build();
+        List<Listing> listWithDuplicateListings = Arrays.asList(PASIR_RIS, sameAddress);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListings(listWithDuplicateListings));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueListingList.asUnmodifiableObservableList().toString(), uniqueListingList.toString());
@@ -0,0 +1,71 @@
+package seedu.address.model.name;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyWordIndexTest {
+
+    private static final List<String> TEXTS = List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier",
+            "Elle Meyer", "Fiona Kunz", "George Best", "Hoon Meier", "Ida Mueller", "Alicia Paulsen", "Aaron Aaronson");
+
+    private final FuzzyWordIndex<String> index = new FuzzyWordIndex<>();
+
+    @Test
+    public void search_prefixesAndTypos_matchedWithFewestTypos() {
+        index.add("alice", "Alice  Pauline");
+        index.add("elle", "Elle Meyer");
+        index.add("benson", "Benson Meier");
+
+        assertEquals(Map.of("alice", 0), index.search(List.of("PAUL")));
+        assertEquals(Map.of("elle", 0, "benson", 1), index.search(List.of("meyer")));
+        assertEquals(Map.of("elle", 0, "benson", 0), index.search(List.of("meyer", "bens")));
+
+        // short keywords allow no typos
+        assertEquals(Map.of(), index.search(List.of("mi")));
+        assertEquals(Map.of(), index.search(List.of()));
+    }
+
+    @Test
+    public void search_indexChanged_changesReflected() {
+        index.add("alice", "Alice Pauline");
+        index.add("alicia", "Alicia Pauline");
+        index.remove("alice", "Alice Pauline");
+        assertEquals(Map.of("alicia", 0), index.search(List.of("pauline")));
+
+        index.clear();
+        assertEquals(Map.of(), index.search(List.of("pauline")));
+    }
+
+    @Test
+    public void search_sameAsDistanceOfEachText() {
+        for (String text : TEXTS) {
+            index.add(text, text);
+        }
+
+        for (String keyword : List.of("al", "alce", "alicia", "paulin", "meir", "mueler", "aaronsen", "kunz", "xyz",
+                "benzon", "georgebest")) {
+            Map<String, Integer> expected = new HashMap<>();
+            for (String text : TEXTS) {
+                int distance = FuzzyWordIndex.getDistance(text, List.of(keyword));
+                if (distance != FuzzyWordIndex.NO_MATCH) {
+                    expected.put(text, distance);
+                }
+            }
+            assertEquals(expected, index.search(List.of(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void getMaxTypos() {
+        assertEquals(0, FuzzyWordIndex.getMaxTypos("abc"));
+        assertEquals(1, FuzzyWordIndex.getMaxTypos(" abcd "));
+        assertEquals(1, FuzzyWordIndex.getMaxTypos("abcdefg"));
+        assertEquals(2, FuzzyWordIndex.getMaxTypos("abcdefgh"));
+        assertEquals(FuzzyWordIndex.NO_MATCH, FuzzyWordIndex.getDistance("Alice", List.of("bob")));
+    }
+}
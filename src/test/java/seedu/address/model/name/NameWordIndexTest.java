@@ -0,0 +1,47 @@
+package seedu.address.model.name;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class NameWordIndexTest {
+
+    private final NameWordIndex<String> index = new NameWordIndex<>();
+
+    @Test
+    public void getMatcher_wordsInName_matched() {
+        index.add("alice", new Name("Alice  Pauline"));
+        Predicate<String> matcher = index.getMatcher(List.of("bob", "PAULINE"));
+
+        assertTrue(matcher.test("alice"));
+        assertFalse(index.getMatcher(List.of("Paul")).test("alice")); // not a full word match
+        assertFalse(index.getMatcher(List.of()).test("alice"));
+    }
+
+    @Test
+    public void getMatcher_indexChangedAfterwards_changesReflected() {
+        Predicate<String> matcher = index.getMatcher(List.of("pauline"));
+        index.add("alice", new Name("Alice Pauline"));
+        assertTrue(matcher.test("alice"));
+
+        index.remove("alice", new Name("Alice Pauline"));
+        assertFalse(matcher.test("alice"));
+
+        index.add("alice", new Name("Pauline Pauline"));
+        index.clear();
+        assertFalse(matcher.test("alice"));
+    }
+
+    @Test
+    public void getMatcher_elementsComparedByReference() {
+        String alice = new String("alice");
+        index.add(alice, new Name("Alice"));
+
+        assertTrue(index.getMatcher(List.of("alice")).test(alice));
+        assertFalse(index.getMatcher(List.of("alice")).test(new String("alice")));
+    }
+}
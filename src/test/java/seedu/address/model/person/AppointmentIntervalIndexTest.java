@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+import seedu.address.testutil.PersonBuilder;
+
+public class AppointmentIntervalIndexTest {
+
+    private final AppointmentIntervalIndex index = new AppointmentIntervalIndex();
+
+    @Test
+    public void getPersonsOverlapping_touchingAndOtherDates_notOverlapping() {
+        Person morning = personWithAppointment("Morning", "01-11-24", "0800", "0900");
+        Person noon = personWithAppointment("Noon", "01-11-24", "1130", "1300");
+        Person nextDay = personWithAppointment("Next Day", "02-11-24", "0800", "0900");
+        index.add(noon);
+        index.add(morning);
+        index.add(nextDay);
+
+        assertEquals(List.of(morning, noon), index.getPersonsOverlapping(appointment("01-11-24", "0830", "1200")));
+        assertEquals(List.of(), index.getPersonsOverlapping(appointment("01-11-24", "0900", "1130")));
+        assertEquals(List.of(nextDay), index.getPersonsOverlapping(appointment("02-11-24", "0000", "2359")));
+        assertEquals(noon.getAppointments(),
+                index.getAppointmentsOverlapping(appointment("01-11-24", "1200", "1200")));
+    }
+
+    @Test
+    public void getPersonsOverlapping_indexChanged_changesReflected() {
+        Person morning = personWithAppointment("Morning", "01-11-24", "0800", "0900");
+        Person sameTime = personWithAppointment("Same Time", "01-11-24", "0800", "0900");
+        index.add(morning);
+        index.add(sameTime);
+        index.remove(morning);
+        assertEquals(List.of(sameTime), index.getPersonsOverlapping(appointment("01-11-24", "0800", "0900")));
+
+        index.clear();
+        assertEquals(List.of(), index.getPersonsOverlapping(appointment("01-11-24", "0800", "0900")));
+    }
+
+    @Test
+    public void getPersonsOverlapping_severalAppointments_personFoundOnce() {
+        Person busy = new PersonBuilder().withName("Busy").withAppointments(appointment("01-11-24", "0800", "0900"),
+                appointment("01-11-24", "1000", "1100"), appointment("03-11-24", "0800", "0900")).buildBuyer();
+        Person noon = personWithAppointment("Noon", "01-11-24", "1030", "1300");
+        index.add(busy);
+        index.add(noon);
+
+        assertEquals(List.of(busy, noon), index.getPersonsOverlapping(appointment("01-11-24", "0830", "1200")));
+        assertEquals(busy.getAppointments().subList(0, 2),
+                index.getAppointmentsOverlapping(appointment("01-11-24", "0830", "1030")));
+
+        index.remove(busy);
+        assertEquals(List.of(noon), index.getPersonsOverlapping(appointment("01-11-24", "0830", "1200")));
+        assertEquals(List.of(), index.getPersonsOverlapping(appointment("03-11-24", "0800", "0900")));
+    }
+
+    @Test
+    public void getAppointmentsOverlapping_sameAsComparingEveryAppointment() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Appointment[] appointments = new Appointment[random.nextInt(4)];
+            for (int j = 0; j < appointments.length; j++) {
+                appointments[j] = randomAppointment(random);
+            }
+            Person person = new PersonBuilder().withName("Person " + i).withAppointments(appointments).buildBuyer();
+            persons.add(person);
+            index.add(person);
+        }
+        for (int i = 0; i < persons.size(); i += 3) {
+            index.remove(persons.get(i));
+        }
+
+        Comparator<Appointment> byStart = Comparator.comparing(appointment -> appointment.getFrom().value);
+        for (int i = 0; i < 200; i++) {
+            Appointment period = randomAppointment(random);
+            List<Appointment> expected = new ArrayList<>();
+            for (int j = 0; j < persons.size(); j++) {
+                for (Appointment appointment : persons.get(j).getAppointments()) {
+                    if (j % 3 != 0 && overlaps(appointment, period)) {
+                        expected.add(appointment);
+                    }
+                }
+            }
+
+            List<Appointment> actual = index.getAppointmentsOverlapping(period);
+            List<Appointment> actualByStart = new ArrayList<>(actual);
+            actualByStart.sort(byStart);
+            assertEquals(actualByStart, actual);
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+            assertEquals(expected.size(), actual.size());
+        }
+    }
+
+    private static boolean overlaps(Appointment appointment, Appointment period) {
+        return appointment.getDate().equals(period.getDate())
+                && appointment.getFrom().value.isBefore(period.getTo().value)
+                && period.getFrom().value.isBefore(appointment.getTo().value);
+    }
+
+    private static Appointment randomAppointment(Random random) {
+        String date = String.format("%02d-11-24", 1 + random.nextInt(3));
+        String from = String.format("%02d%02d", random.nextInt(24), random.nextInt(4) * 15);
+        String to = String.format("%02d%02d", random.nextInt(24), random.nextInt(4) * 15);
+        return from.compareTo(to) <= 0 ? appointment(date, from, to) : appointment(date, to, from);
+    }
+
+    private static Appointment appointment(String date, String from, String to) {
+        return new Appointment(new Date(date), new From(from), new To(to));
+    }
+
+    private static Person personWithAppointment(String name, String date, String from, String to) {
+        return new PersonBuilder().withName(name).withAppointment(date, from, to).buildBuyer();
+    }
+}
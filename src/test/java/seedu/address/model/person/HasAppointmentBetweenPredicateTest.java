@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.testutil.PersonBuilder;
+
+public class HasAppointmentBetweenPredicateTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 11, 1);
+    private static final LocalDate END = LocalDate.of(2024, 11, 7);
+
+    @Test
+    public void equals() {
+        HasAppointmentBetweenPredicate firstPredicate = new HasAppointmentBetweenPredicate(START, END);
+        HasAppointmentBetweenPredicate secondPredicate = new HasAppointmentBetweenPredicate(START, START);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        HasAppointmentBetweenPredicate firstPredicateCopy = new HasAppointmentBetweenPredicate(START, END);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different dates -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_appointmentWithinDates_returnsTrue() {
+        HasAppointmentBetweenPredicate predicate = new HasAppointmentBetweenPredicate(START, END);
+
+        // first day
+        assertTrue(predicate.test(new PersonBuilder().withAppointment("01-11-24", "0800", "0900").buildBuyer()));
+
+        // last day
+        assertTrue(predicate.test(new PersonBuilder().withAppointment("07-11-24", "0800", "0900").buildBuyer()));
+
+        // single day
+        assertTrue(new HasAppointmentBetweenPredicate(START, START)
+                .test(new PersonBuilder().withAppointment("01-11-24", "0800", "0900").buildSeller()));
+    }
+
+    @Test
+    public void test_appointmentOutsideDates_returnsFalse() {
+        HasAppointmentBetweenPredicate predicate = new HasAppointmentBetweenPredicate(START, END);
+
+        assertFalse(predicate.test(new PersonBuilder().withAppointment("31-10-24", "0800", "0900").buildBuyer()));
+        assertFalse(predicate.test(new PersonBuilder().withAppointment("08-11-24", "0800", "0900").buildBuyer()));
+    }
+
+    @Test
+    public void test_noAppointment_returnsFalse() {
+        Person person = new PersonBuilder().buildBuyer();
+        Person personWithoutAppointment = new Buyer(person.getName(), person.getPhone(), person.getEmail(),
+                person.getTags(), Appointment.EMPTY_APPOINTMENT);
+
+        assertFalse(new HasAppointmentBetweenPredicate(LocalDate.MIN, LocalDate.MAX).test(personWithoutAppointment));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HasAppointmentBetweenPredicate predicate = new HasAppointmentBetweenPredicate(START, END);
+
+        String expected = HasAppointmentBetweenPredicate.class.getCanonicalName() + "{start=" + START
+                + ", end=" + END + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -37,6 +37,28 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different mode -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList, true)));
+    }
+
+    @Test
+    public void test_fuzzyKeywords_matchesPrefixesWithTypos() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("alce", "bo"), true);
+
+        // prefix
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol Bobby").buildBuyer()));
+        assertEquals(0, predicate.getDistance(new PersonBuilder().withName("Carol Bobby").buildBuyer()));
+
+        // one typo
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").buildBuyer()));
+        assertEquals(1, predicate.getDistance(new PersonBuilder().withName("Alice Tan").buildBuyer()));
+
+        // short keywords allow no typos
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol Bibby").buildBuyer()));
+
+        // too many typos
+        assertFalse(predicate.test(new PersonBuilder().withName("Alan Tan").buildBuyer()));
     }
 
     @Test
@@ -79,7 +101,8 @@ public class NameContainsKeywordsPredicateTest {
         List<String> keywords = List.of("keyword1", "keyword2");
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
 
-        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", isFuzzy=false}";
         assertEquals(expected, predicate.toString());
     }
 }
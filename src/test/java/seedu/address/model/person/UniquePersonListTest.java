@@ -5,14 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -44,6 +52,14 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .buildBuyer();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -98,6 +114,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -123,6 +149,36 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").buildBuyer();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_existingPerson_allowsReAdding() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_laterPersonsStillReplaceable() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withPhone("99999999").buildBuyer();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(BENSON);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -158,6 +214,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_list_replacesLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_listWithDifferentCaseDuplicates_throwsDuplicatePersonException() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .buildBuyer();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, upperCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -168,4 +240,57 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void getNameKeywordsMatcher_listChanges_matchesCurrentNames() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> matcher = uniquePersonList.getNameKeywordsMatcher(List.of("alice", "BOB"));
+        assertTrue(matcher.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Carol").buildSeller();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(matcher.test(ALICE));
+        assertFalse(matcher.test(editedAlice));
+
+        uniquePersonList.add(BOB);
+        assertTrue(matcher.test(BOB));
+        uniquePersonList.remove(BOB);
+        assertFalse(matcher.test(BOB));
+    }
+
+    @Test
+    public void getPersonsWithAppointmentsBetween_listChanges_returnsCurrentAppointments() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.getPersonsWithAppointmentsBetween(
+                LocalDate.of(2020, 12, 14), LocalDate.of(2024, 1, 1)));
+        assertEquals(Set.of(BENSON), uniquePersonList.getPersonsWithAppointmentsBetween(
+                LocalDate.of(2020, 12, 14), LocalDate.of(2023, 12, 31)));
+        assertEquals(Set.of(), uniquePersonList.getPersonsWithAppointmentsBetween(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2020, 12, 14)));
+
+        Person rescheduledAlice = new PersonBuilder(ALICE).withAppointment("15-12-20", "0800", "0900").buildSeller();
+        uniquePersonList.setPerson(ALICE, rescheduledAlice);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Set.of(rescheduledAlice), uniquePersonList.getPersonsWithAppointmentsBetween(
+                LocalDate.of(2020, 12, 14), LocalDate.of(2024, 1, 1)));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(Set.of(BOB), uniquePersonList.getPersonsWithAppointmentsBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void getPersonsWithAppointmentsOverlapping_listChanges_returnsCurrentAppointments() {
+        Appointment period = new Appointment(new Date("01-01-24"), new From("0830"), new To("1000"));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(List.of(ALICE), uniquePersonList.getPersonsWithAppointmentsOverlapping(period));
+
+        Person rescheduledAlice = new PersonBuilder(ALICE).withAppointment("01-01-24", "1000", "1100").buildSeller();
+        uniquePersonList.setPerson(ALICE, rescheduledAlice);
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAppointmentsOverlapping(period));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(BOB.getAppointments(), uniquePersonList.getAppointmentsOverlapping(period));
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalRecorderTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final Listings listings = new Listings();
+    private JournalRecorder recorder;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addPerson(ALICE);
+        listings.addListing(PASIR_RIS);
+        recorder = new JournalRecorder(addressBook.getPersonList(), listings.getListingList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalRecorder(null, listings.getListingList()));
+        assertThrows(NullPointerException.class, () -> new JournalRecorder(addressBook.getPersonList(), null));
+    }
+
+    @Test
+    public void takeEntries_noChanges_returnsEmptyList() {
+        assertTrue(recorder.takeEntries().isEmpty());
+    }
+
+    @Test
+    public void takeEntries_personChanges_changesRecordedInOrder() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").buildSeller();
+        addressBook.addPerson(AMY);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(AMY);
+
+        assertEquals(List.of(JournalEntry.addPerson(AMY), JournalEntry.setPerson(ALICE, editedAlice),
+                JournalEntry.deletePerson(AMY)), recorder.takeEntries());
+        assertTrue(recorder.takeEntries().isEmpty());
+    }
+
+    @Test
+    public void takeEntries_listingChanges_changesRecordedInOrder() {
+        Listing editedPasirRis = new ListingBuilder(PASIR_RIS).withArea("1000").build();
+        listings.addListing(TAMPINES);
+        listings.setListing(PASIR_RIS, editedPasirRis);
+        listings.removeListing(TAMPINES);
+
+        assertEquals(List.of(JournalEntry.addListing(TAMPINES), JournalEntry.setListing(PASIR_RIS, editedPasirRis),
+                JournalEntry.deleteListing(TAMPINES)), recorder.takeEntries());
+    }
+
+    @Test
+    public void takeEntries_listReset_recordedAsDeletedAndAdded() {
+        addressBook.setPersons(List.of(BENSON, AMY));
+
+        assertEquals(List.of(JournalEntry.deletePerson(ALICE), JournalEntry.addPerson(BENSON),
+                JournalEntry.addPerson(AMY)), recorder.takeEntries());
+    }
+}
@@ -1,93 +1,59 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.Date;
 import seedu.address.model.appointment.From;
 import seedu.address.model.appointment.To;
 
 public class JsonAdaptedAppointmentTest {
 
-    // Tests for JsonAdaptedAppointment
-    @Test
-    public void toModelType_nullDate_throwsIllegalValueException() {
-        JsonAdaptedDate date = null;
-        JsonAdaptedFrom from = new JsonAdaptedFrom("0800");
-        JsonAdaptedTo to = new JsonAdaptedTo("0900");
-        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(date, from, to);
-
-        String expectedMessage = String.format("Person's %s field is missing!", Date.class.getSimpleName());
-        assertThrows(IllegalValueException.class, appointment::toModelType, expectedMessage);
-    }
-
-    @Test
-    public void toModelType_nullFrom_throwsIllegalValueException() {
-        JsonAdaptedDate date = new JsonAdaptedDate("01/01/2024");
-        JsonAdaptedFrom from = null;
-        JsonAdaptedTo to = new JsonAdaptedTo("0900");
-        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(date, from, to);
-
-        String expectedMessage = String.format("Person's %s field is missing!", From.class.getSimpleName());
-        assertThrows(IllegalValueException.class, appointment::toModelType, expectedMessage);
-    }
-
-    @Test
-    public void toModelType_nullTo_throwsIllegalValueException() {
-        JsonAdaptedDate date = new JsonAdaptedDate("01/01/2024");
-        JsonAdaptedFrom from = new JsonAdaptedFrom("0800");
-        JsonAdaptedTo to = null;
-        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(date, from, to);
-
-        String expectedMessage = String.format("Person's %s field is missing!", To.class.getSimpleName());
-        assertThrows(IllegalValueException.class, appointment::toModelType, expectedMessage);
-    }
-
-    // Tests for JsonAdaptedDate
-    @Test
-    public void toModelType_nullDateValue_throwsIllegalValueException() {
-        JsonAdaptedDate date = new JsonAdaptedDate((String) null);
-        String expectedMessage = String.format("Person's %s field is missing!", Date.class.getSimpleName());
-        assertThrows(IllegalValueException.class, date::toModelType, expectedMessage);
-    }
-
-    @Test
-    public void toModelType_validDateValue_returnsDate() throws IllegalValueException {
-        JsonAdaptedDate date = new JsonAdaptedDate("01-01-24");
-        Date modelDate = date.toModelType();
-        assertEquals("01-01-24", modelDate.toString());
-    }
+    private static final long VALID_DATE = LocalDate.of(2024, 12, 20).toEpochDay();
+    private static final int VALID_FROM = 8 * 60;
+    private static final int VALID_TO = 23 * 60 + 59;
 
-    // Tests for JsonAdaptedFrom
     @Test
-    public void toModelType_nullFromValue_throwsIllegalValueException() {
-        JsonAdaptedFrom from = new JsonAdaptedFrom((String) null);
-        String expectedMessage = String.format("Person's %s field is missing!", From.class.getSimpleName());
-        assertThrows(IllegalValueException.class, from::toModelType, expectedMessage);
+    public void toModelType_validAppointment_returnsAppointment() throws Exception {
+        Appointment appointment = new Appointment(new Date("20-12-24"), new From("0800"), new To("2359"));
+        assertEquals(appointment, new JsonAdaptedAppointment(VALID_DATE, VALID_FROM, VALID_TO).toModelType());
+        assertEquals(appointment, new JsonAdaptedAppointment(appointment).toModelType());
     }
 
     @Test
-    public void toModelType_validFromValue_returnsFrom() throws IllegalValueException {
-        JsonAdaptedFrom from = new JsonAdaptedFrom("0800");
-        From modelFrom = from.toModelType();
-        assertEquals("08:00", modelFrom.toString());
+    public void toModelType_nullFields_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()),
+                new JsonAdaptedAppointment(null, VALID_FROM, VALID_TO)::toModelType);
+        assertThrows(IllegalValueException.class,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, From.class.getSimpleName()),
+                new JsonAdaptedAppointment(VALID_DATE, null, VALID_TO)::toModelType);
+        assertThrows(IllegalValueException.class,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, To.class.getSimpleName()),
+                new JsonAdaptedAppointment(VALID_DATE, VALID_FROM, null)::toModelType);
     }
 
-    // Tests for JsonAdaptedTo
     @Test
-    public void toModelType_nullToValue_throwsIllegalValueException() {
-        JsonAdaptedTo to = new JsonAdaptedTo((String) null);
-        String expectedMessage = String.format("Person's %s field is missing!", To.class.getSimpleName());
-        assertThrows(IllegalValueException.class, to::toModelType, expectedMessage);
+    public void toModelType_invalidDate_throwsIllegalValueException() {
+        long dayBefore2000 = LocalDate.of(1999, 12, 31).toEpochDay();
+        assertThrows(IllegalValueException.class, JsonAdaptedAppointment.MESSAGE_INVALID_DATE,
+                new JsonAdaptedAppointment(dayBefore2000, VALID_FROM, VALID_TO)::toModelType);
     }
 
     @Test
-    public void toModelType_validToValue_returnsTo() throws IllegalValueException {
-        JsonAdaptedTo to = new JsonAdaptedTo("0900");
-        To modelTo = to.toModelType();
-        assertEquals("09:00", modelTo.toString());
+    public void toModelType_invalidTimes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAdaptedAppointment.MESSAGE_INVALID_TIMES,
+                new JsonAdaptedAppointment(VALID_DATE, -1, VALID_TO)::toModelType);
+        assertThrows(IllegalValueException.class, JsonAdaptedAppointment.MESSAGE_INVALID_TIMES,
+                new JsonAdaptedAppointment(VALID_DATE, VALID_FROM, 24 * 60)::toModelType);
+        assertThrows(IllegalValueException.class, JsonAdaptedAppointment.MESSAGE_INVALID_TIMES,
+                new JsonAdaptedAppointment(VALID_DATE, VALID_TO, VALID_FROM)::toModelType);
     }
 }
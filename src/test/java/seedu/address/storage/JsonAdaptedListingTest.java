@@ -1,11 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.JsonAdaptedListing.MESSAGE_UNKNOWN_SELLER;
 import static seedu.address.storage.JsonAdaptedListing.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -13,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.listing.Price;
 import seedu.address.model.listing.Region;
 import seedu.address.model.name.Name;
@@ -31,104 +42,163 @@ public class JsonAdaptedListingTest {
     private static final String VALID_PRICE = PASIR_RIS.getPrice().toString();
     private static final String VALID_ADDRESS = PASIR_RIS.getAddress().toString();
     private static final String VALID_REGION = PASIR_RIS.getRegion().toString();
-    private static final JsonAdaptedPerson VALID_SELLER = new JsonAdaptedPerson(PASIR_RIS.getSeller());
-    private static final List<JsonAdaptedPerson> VALID_BUYERS = PASIR_RIS.getBuyers()
+    private static final String VALID_SELLER = PASIR_RIS.getSeller().getName().fullName;
+    private static final List<String> VALID_BUYERS = PASIR_RIS.getBuyers()
             .stream()
-            .map(JsonAdaptedPerson::new)
+            .map(buyer -> buyer.getName().fullName)
             .collect(Collectors.toList());
+    private static final String UNKNOWN_CLIENT = "Unknown Client";
+
+    private static final Map<String, Person> CLIENTS = new HashMap<>();
+
+    static {
+        for (Person client : getTypicalAddressBook().getPersonList()) {
+            CLIENTS.put(JsonAdaptedListing.clientKeyOf(client.getName().fullName), client);
+        }
+    }
 
     @Test
     public void toModelType_validListingDetails_returnsListing() throws Exception {
         JsonAdaptedListing listing = new JsonAdaptedListing(PASIR_RIS);
-        assertEquals(PASIR_RIS, listing.toModelType());
+        assertEquals(PASIR_RIS, listing.toModelType(CLIENTS));
+    }
+
+    @Test
+    public void toModelType_validListingDetails_resolvesClientsFromAddressBook() throws Exception {
+        Listing listing = new JsonAdaptedListing(PASIR_RIS).toModelType(CLIENTS);
+        assertSame(CLIENTS.get(JsonAdaptedListing.clientKeyOf(VALID_SELLER)), listing.getSeller());
+        for (Person buyer : listing.getBuyers()) {
+            assertSame(CLIENTS.get(JsonAdaptedListing.clientKeyOf(buyer.getName().fullName)), buyer);
+        }
+    }
+
+    @Test
+    public void toModelType_clientNameInDifferentCase_resolvesClient() throws Exception {
+        JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME, VALID_PRICE, VALID_AREA,
+                VALID_REGION, VALID_ADDRESS, VALID_SELLER.toUpperCase(), VALID_BUYERS, null, null);
+        assertSame(CLIENTS.get(JsonAdaptedListing.clientKeyOf(VALID_SELLER)),
+                listing.toModelType(CLIENTS).getSeller());
+    }
+
+    @Test
+    public void toModelType_embeddedClients_resolvesClientsFromAddressBook() throws Exception {
+        JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME, VALID_PRICE, VALID_AREA,
+                VALID_REGION, VALID_ADDRESS, null, null, new JsonAdaptedPerson(ALICE),
+                Collections.singletonList(new JsonAdaptedPerson(DANIEL)));
+        Listing modelListing = listing.toModelType(CLIENTS);
+        assertSame(CLIENTS.get(JsonAdaptedListing.clientKeyOf(ALICE.getName().fullName)), modelListing.getSeller());
+        assertSame(CLIENTS.get(JsonAdaptedListing.clientKeyOf(DANIEL.getName().fullName)),
+                modelListing.getBuyers().iterator().next());
+    }
+
+    @Test
+    public void isEmbeddedFormat() {
+        assertFalse(new JsonAdaptedListing(PASIR_RIS).isEmbeddedFormat());
+        assertTrue(new JsonAdaptedListing(VALID_LISTING_NAME, VALID_PRICE, VALID_AREA, VALID_REGION,
+                VALID_ADDRESS, null, null, new JsonAdaptedPerson(ALICE), null).isEmbeddedFormat());
+    }
+
+    @Test
+    public void toModelType_unknownSeller_throwsIllegalValueException() {
+        JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
+                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, UNKNOWN_CLIENT, VALID_BUYERS, null, null);
+        String expectedMessage = String.format(MESSAGE_UNKNOWN_SELLER, UNKNOWN_CLIENT);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
+    }
+
+    @Test
+    public void toModelType_unknownBuyer_buyerLeftOut() throws Exception {
+        JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME, VALID_PRICE, VALID_AREA,
+                VALID_REGION, VALID_ADDRESS, VALID_SELLER, Collections.singletonList(UNKNOWN_CLIENT), null, null);
+        assertTrue(listing.toModelType(CLIENTS).getBuyers().isEmpty());
     }
 
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(INVALID_LISTING_NAME,
-                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_nullListingName_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(null,
-                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_invalidPrice_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                INVALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                INVALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = Price.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_nullPrice_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                null, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                null, VALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Price.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_invalidArea_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, INVALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, INVALID_AREA, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = Area.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_nullArea_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, null, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, null, VALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Area.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_invalidRegion_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, VALID_AREA, INVALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, INVALID_REGION, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = Region.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_nullRegion_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, VALID_AREA, null, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, null, VALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Region.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, VALID_AREA, VALID_REGION, INVALID_ADDRESS, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, VALID_REGION, INVALID_ADDRESS, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, VALID_AREA, VALID_REGION, null, VALID_SELLER, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, VALID_REGION, null, VALID_SELLER, VALID_BUYERS, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
     @Test
     public void toModelType_nullSeller_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(VALID_LISTING_NAME,
-                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, null, VALID_BUYERS);
+                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, null, VALID_BUYERS, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, listing::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> listing.toModelType(CLIENTS));
     }
 
 }
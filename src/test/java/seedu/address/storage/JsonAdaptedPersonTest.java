@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,7 +29,11 @@ public class JsonAdaptedPersonTest {
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
     private static final String VALID_REMARK = "valid remark";
-    private static final JsonAdaptedAppointment VALID_APPOINTMENT = new JsonAdaptedAppointment(BENSON.getAppointment());
+    private static final List<JsonAdaptedAppointment> VALID_APPOINTMENTS = BENSON.getAppointments().stream()
+            .map(JsonAdaptedAppointment::new)
+            .collect(Collectors.toList());
+
+    private static final long VALID_EPOCH_DAY = LocalDate.of(2024, 1, 1).toEpochDay();
 
     private static final List<JsonAdaptedTag> VALID_TAGS = BENSON.getTags().stream()
             .map(JsonAdaptedTag::new)
@@ -42,7 +48,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_APPOINTMENT,
+                new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_APPOINTMENTS, null,
                         VALID_TAGS, "buyer", VALID_REMARK);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -51,7 +57,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_APPOINTMENT,
+                new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_APPOINTMENTS, null,
                         VALID_TAGS, "buyer", VALID_REMARK);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -60,7 +66,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_APPOINTMENT,
+                new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_APPOINTMENTS, null,
                         VALID_TAGS, "buyer", VALID_REMARK);
         //  VALID_TAGS
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
@@ -70,7 +76,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_APPOINTMENT,
+                new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_APPOINTMENTS, null,
                         VALID_TAGS, "buyer", VALID_REMARK);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -79,7 +85,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_APPOINTMENT,
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_APPOINTMENTS, null,
                         VALID_TAGS, "buyer", VALID_REMARK);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -88,7 +94,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null,
-                VALID_APPOINTMENT, VALID_TAGS, "buyer", VALID_REMARK);
+                VALID_APPOINTMENTS, null, VALID_TAGS, "buyer", VALID_REMARK);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -98,17 +104,43 @@ public class JsonAdaptedPersonTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_APPOINTMENT, invalidTags, "buyer", VALID_REMARK);
+                VALID_APPOINTMENTS, null, invalidTags, "buyer", VALID_REMARK);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
     @Test
     public void toModelType_nullAppointment_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null, null,
                         VALID_TAGS, "seller", VALID_REMARK);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Appointment.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidAppointment_throwsIllegalValueException() {
+        List<JsonAdaptedAppointment> invalidAppointments = new ArrayList<>(VALID_APPOINTMENTS);
+        invalidAppointments.add(new JsonAdaptedAppointment(VALID_EPOCH_DAY, 600, 540));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                invalidAppointments, null, VALID_TAGS, "buyer", VALID_REMARK);
+        assertThrows(IllegalValueException.class, JsonAdaptedAppointment.MESSAGE_INVALID_TIMES, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_legacyAppointment_returnsPersonWithAppointment() throws Exception {
+        JsonAdaptedLegacyAppointment legacyAppointment = new JsonAdaptedLegacyAppointment(
+                new JsonAdaptedDate("14-12-20"), new JsonAdaptedFrom("1000"), new JsonAdaptedTo("2330"));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                null, legacyAppointment, VALID_TAGS, "buyer", VALID_REMARK);
+        assertEquals(BENSON.getAppointments(), person.toModelType().getAppointments());
+    }
+
+    @Test
+    public void toModelType_emptyLegacyAppointment_returnsPersonWithoutAppointments() throws Exception {
+        JsonAdaptedLegacyAppointment legacyAppointment = new JsonAdaptedLegacyAppointment(
+                Appointment.EMPTY_APPOINTMENT);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                null, legacyAppointment, VALID_TAGS, "buyer", VALID_REMARK);
+        assertFalse(person.toModelType().hasAppointment());
+    }
 }
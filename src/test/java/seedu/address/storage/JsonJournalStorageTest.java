@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.SENTOSA;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path journalFile;
+    private JsonJournalStorage journalStorage;
+
+    @BeforeEach
+    public void setUp() {
+        journalFile = testFolder.resolve("journal.jsonl");
+        journalStorage = new JsonJournalStorage(journalFile);
+    }
+
+    @Test
+    public void appendToJournal_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> journalStorage.appendToJournal(null));
+    }
+
+    @Test
+    public void replayJournal_missingFile_nothingReplayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(0, journalStorage.replayJournal(addressBook, getTypicalListings()));
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(0, journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void appendToJournalAndReplayJournal_allChanges_changesReplayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+        List<JournalEntry> entries = makeChanges(addressBook, listings);
+        journalStorage.appendToJournal(entries);
+        assertEquals(entries.size(), journalStorage.getJournalSize());
+
+        AddressBook replayedAddressBook = getTypicalAddressBook();
+        Listings replayedListings = getTypicalListings();
+        assertEquals(entries.size(), journalStorage.replayJournal(replayedAddressBook, replayedListings));
+        assertEquals(addressBook, replayedAddressBook);
+        assertEquals(listings, replayedListings);
+
+        // Replaying again leaves the data as it is
+        journalStorage.replayJournal(replayedAddressBook, replayedListings);
+        assertEquals(addressBook, replayedAddressBook);
+        assertEquals(listings, replayedListings);
+    }
+
+    @Test
+    public void replayJournal_incompleteLastEntry_entryDiscarded() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+        List<JournalEntry> entries = makeChanges(addressBook, listings);
+        journalStorage.appendToJournal(entries);
+        Files.write(journalFile, "{\"type\":\"ADD_PER".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        AddressBook replayedAddressBook = getTypicalAddressBook();
+        Listings replayedListings = getTypicalListings();
+        assertEquals(entries.size(), journalStorage.replayJournal(replayedAddressBook, replayedListings));
+        assertEquals(addressBook, replayedAddressBook);
+        assertEquals(listings, replayedListings);
+        assertTrue(new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    public void replayJournal_invalidEntry_journalSetAside() throws Exception {
+        Files.write(journalFile, "{\"type\":\"UNKNOWN\"}\n".getBytes(StandardCharsets.UTF_8));
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(0, journalStorage.replayJournal(addressBook, getTypicalListings()));
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertJournalSetAside("{\"type\":\"UNKNOWN\"}\n");
+    }
+
+    @Test
+    public void replayJournal_listingWithUnknownSeller_entriesBeforeReplayed() throws Exception {
+        Listing bobListing = new ListingBuilder().withSeller(BOB).build();
+        journalStorage.appendToJournal(List.of(JournalEntry.deletePerson(ALICE), JournalEntry.addPerson(AMY),
+                JournalEntry.addListing(bobListing), JournalEntry.deletePerson(CARL)));
+        String journal = new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+        assertEquals(2, journalStorage.replayJournal(addressBook, listings));
+
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+        expectedAddressBook.addPerson(AMY);
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(getTypicalListings(), listings);
+        assertJournalSetAside(journal);
+    }
+
+    @Test
+    public void setAsideJournal_existingJournal_entriesKeptButNotReplayed() throws Exception {
+        journalStorage.appendToJournal(List.of(JournalEntry.addPerson(AMY)));
+        String journal = new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8);
+
+        Path keptPath = journalStorage.setAsideJournal();
+
+        assertEquals(journal, new String(Files.readAllBytes(keptPath), StandardCharsets.UTF_8));
+        assertJournalSetAside(journal);
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(0, journalStorage.replayJournal(addressBook, getTypicalListings()));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void getJournalSize_existingJournal_entriesCounted() throws Exception {
+        journalStorage.appendToJournal(List.of(JournalEntry.addPerson(AMY), JournalEntry.deletePerson(ALICE)));
+        assertEquals(2, new JsonJournalStorage(journalFile).getJournalSize());
+    }
+
+    @Test
+    public void clearJournal_existingJournal_journalEmpty() throws Exception {
+        journalStorage.appendToJournal(List.of(JournalEntry.addPerson(AMY)));
+        journalStorage.clearJournal();
+
+        assertFalse(Files.exists(journalFile));
+        assertEquals(0, journalStorage.getJournalSize());
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(0, journalStorage.replayJournal(addressBook, getTypicalListings()));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    /**
+     * Asserts that the journal has been moved to a single file beside it, which holds {@code expectedContent}.
+     */
+    private void assertJournalSetAside(String expectedContent) throws Exception {
+        assertFalse(Files.exists(journalFile));
+        assertEquals(0, journalStorage.getJournalSize());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> keptFiles = files.filter(file -> !file.equals(journalFile)).toList();
+            assertEquals(1, keptFiles.size());
+            assertTrue(keptFiles.get(0).getFileName().toString().startsWith("journal.jsonl."));
+            assertEquals(expectedContent, new String(Files.readAllBytes(keptFiles.get(0)), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Makes one change of every kind to {@code addressBook} and {@code listings}, and returns the entries
+     * that record them.
+     */
+    private List<JournalEntry> makeChanges(AddressBook addressBook, Listings listings) {
+        JournalRecorder recorder = new JournalRecorder(addressBook.getPersonList(), listings.getListingList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").buildSeller();
+        Listing amyListing = new ListingBuilder().withSeller(AMY).withBuyers(editedAlice).build();
+        addressBook.addPerson(AMY);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(CARL);
+        listings.setListing(PASIR_RIS, new ListingBuilder(PASIR_RIS).withSeller(editedAlice).build());
+        listings.addListing(amyListing);
+        listings.removeListing(SENTOSA);
+
+        return recorder.takeEntries();
+    }
+}
@@ -2,25 +2,37 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalListings.HOUGANG;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
 import static seedu.address.testutil.TypicalListings.SIMEI;
 import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 
 public class JsonListingsStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonListingsStorageTest");
+    private static final Path EMBEDDED_CLIENTS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableListingsTest", "typicalListingsWithEmbeddedClients.json");
 
     @TempDir
     public Path testFolder;
@@ -31,7 +43,8 @@ public class JsonListingsStorageTest {
     }
 
     private java.util.Optional<ReadOnlyListings> readListings(String filePath) throws Exception {
-        return new JsonListingsStorage(Paths.get(filePath)).readListings(addToTestDataPathIfNotNull(filePath));
+        return new JsonListingsStorage(Paths.get(filePath))
+                .readListings(addToTestDataPathIfNotNull(filePath), getTypicalAddressBook());
     }
 
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
@@ -60,6 +73,93 @@ public class JsonListingsStorageTest {
         assertThrows(DataLoadingException.class, () -> readListings("invalidAndValidListings.json"));
     }
 
+    @Test
+    public void readListings_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonListingsStorage(EMBEDDED_CLIENTS_FILE)
+                .readListings(null));
+    }
+
+    @Test
+    public void readListings_embeddedClients_migratesFile() throws Exception {
+        Path filePath = testFolder.resolve("EmbeddedClients.json");
+        Files.copy(EMBEDDED_CLIENTS_FILE, filePath);
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+
+        ReadOnlyListings readBack = jsonListingsStorage.readListings(getTypicalAddressBook()).get();
+        assertEquals(getTypicalListings(), new Listings(readBack));
+        assertFalse(JsonUtil.readJsonFile(filePath, JsonSerializableListings.class).get().hasEmbeddedClients());
+
+        readBack = jsonListingsStorage.readListings(getTypicalAddressBook()).get();
+        assertEquals(getTypicalListings(), new Listings(readBack));
+    }
+
+    @Test
+    public void readListings_embeddedBuyerNotInAddressBook_fileNotMigrated() throws Exception {
+        Path filePath = testFolder.resolve("EmbeddedClients.json");
+        Files.copy(EMBEDDED_CLIENTS_FILE, filePath);
+        AddressBook addressBookWithoutDaniel = getTypicalAddressBook();
+        addressBookWithoutDaniel.removePerson(DANIEL);
+
+        ReadOnlyListings readBack = new JsonListingsStorage(filePath).readListings(addressBookWithoutDaniel).get();
+        assertEquals(getTypicalListings().getListingList().size(), readBack.getListingList().size());
+        assertTrue(readBack.getListingList().stream().noneMatch(listing -> listing.getBuyers().contains(DANIEL)));
+        assertTrue(JsonUtil.readJsonFile(filePath, JsonSerializableListings.class).get().hasEmbeddedClients());
+    }
+
+    @Test
+    public void readListings_embeddedSellerNotInAddressBook_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("EmbeddedClients.json");
+        Files.copy(EMBEDDED_CLIENTS_FILE, filePath);
+        AddressBook addressBookWithoutBenson = getTypicalAddressBook();
+        addressBookWithoutBenson.removePerson(BENSON);
+
+        assertThrows(DataLoadingException.class, () ->
+                new JsonListingsStorage(filePath).readListings(addressBookWithoutBenson));
+        assertTrue(JsonUtil.readJsonFile(filePath, JsonSerializableListings.class).get().hasEmbeddedClients());
+    }
+
+    @Test
+    public void readListingsConcurrently_addressBookReadLater_success() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        jsonListingsStorage.saveListings(getTypicalListings());
+
+        // The listings are parsed before the address book is read, and converted once it is read
+        CompletableFuture<ReadOnlyAddressBook> addressBook = new CompletableFuture<>();
+        addressBook.completeAsync(() -> getTypicalAddressBook(),
+                CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        ReadOnlyListings readBack = jsonListingsStorage.readListingsConcurrently(addressBook).get();
+        assertEquals(getTypicalListings(), new Listings(readBack));
+
+        // The address book is already read
+        readBack = jsonListingsStorage.readListingsConcurrently(
+                CompletableFuture.completedFuture(getTypicalAddressBook())).get();
+        assertEquals(getTypicalListings(), new Listings(readBack));
+    }
+
+    @Test
+    public void readListingsConcurrently_addressBookNotRead_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        CompletableFuture<ReadOnlyAddressBook> addressBook =
+                CompletableFuture.failedFuture(new DataLoadingException(new IOException()));
+
+        // Even if the listings file is not found
+        assertThrows(DataLoadingException.class, () -> jsonListingsStorage.readListingsConcurrently(addressBook));
+
+        jsonListingsStorage.saveListings(getTypicalListings());
+        assertThrows(DataLoadingException.class, () -> jsonListingsStorage.readListingsConcurrently(addressBook));
+    }
+
+    @Test
+    public void saveListings_typicalListings_clientsNotEmbedded() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        new JsonListingsStorage(filePath).saveListings(getTypicalListings());
+        String savedListings = new String(Files.readAllBytes(filePath));
+        assertTrue(savedListings.contains("sellerName"));
+        assertFalse(savedListings.contains("\"phone\""));
+    }
+
     @Test
     public void readAndSaveListings_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempListings.json");
@@ -68,20 +168,20 @@ public class JsonListingsStorageTest {
 
         // Save in new file and read back
         jsonListingsStorage.saveListings(original, filePath);
-        ReadOnlyListings readBack = jsonListingsStorage.readListings(filePath).get();
+        ReadOnlyListings readBack = jsonListingsStorage.readListings(filePath, getTypicalAddressBook()).get();
         assertEquals(original, new Listings(readBack));
 
         // Modify data, overwrite exiting file, and read back
         original.addListing(SIMEI);
         original.removeListing(PASIR_RIS);
         jsonListingsStorage.saveListings(original, filePath);
-        readBack = jsonListingsStorage.readListings(filePath).get();
+        readBack = jsonListingsStorage.readListings(filePath, getTypicalAddressBook()).get();
         assertEquals(original, new Listings(readBack));
 
         // Save and read without specifying file path
         original.addListing(HOUGANG);
         jsonListingsStorage.saveListings(original); // file path not specified
-        readBack = jsonListingsStorage.readListings().get(); // file path not specified
+        readBack = jsonListingsStorage.readListings(getTypicalAddressBook()).get(); // file path not specified
         assertEquals(original, new Listings(readBack));
 
     }
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Listings;
 import seedu.address.testutil.TypicalListings;
 
@@ -17,6 +21,8 @@ import seedu.address.testutil.TypicalListings;
 public class JsonSerializableListingsTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableListingsTest");
     private static final Path TYPICAL_LISTINGS_FILE = TEST_DATA_FOLDER.resolve("typicalListings.json");
+    private static final Path TYPICAL_LISTINGS_WITH_EMBEDDED_CLIENTS_FILE =
+            TEST_DATA_FOLDER.resolve("typicalListingsWithEmbeddedClients.json");
     private static final Path INVALID_LISTINGS_FILE = TEST_DATA_FOLDER.resolve("invalidListings.json");
     private static final Path DUPLICATE_LISTINGS_FILE = TEST_DATA_FOLDER.resolve("duplicateListings.json");
 
@@ -24,17 +30,35 @@ public class JsonSerializableListingsTest {
     public void toModelType_typicalListingsFile_success() throws Exception {
         JsonSerializableListings dataFromFile = JsonUtil.readJsonFile(TYPICAL_LISTINGS_FILE,
                 JsonSerializableListings.class).get();
-        Listings listingsFromFile = dataFromFile.toModelType();
+        assertFalse(dataFromFile.hasEmbeddedClients());
+        Listings listingsFromFile = dataFromFile.toModelType(getTypicalAddressBook());
         Listings typicalListings = TypicalListings.getTypicalListings();
         assertEquals(listingsFromFile, typicalListings);
     }
 
+    @Test
+    public void toModelType_typicalListingsWithEmbeddedClientsFile_success() throws Exception {
+        JsonSerializableListings dataFromFile = JsonUtil.readJsonFile(TYPICAL_LISTINGS_WITH_EMBEDDED_CLIENTS_FILE,
+                JsonSerializableListings.class).get();
+        assertTrue(dataFromFile.hasEmbeddedClients());
+        Listings listingsFromFile = dataFromFile.toModelType(getTypicalAddressBook());
+        Listings typicalListings = TypicalListings.getTypicalListings();
+        assertEquals(listingsFromFile, typicalListings);
+    }
+
+    @Test
+    public void toModelType_sellersNotInAddressBook_throwsIllegalValueException() throws Exception {
+        JsonSerializableListings dataFromFile = JsonUtil.readJsonFile(TYPICAL_LISTINGS_FILE,
+                JsonSerializableListings.class).get();
+        assertThrows(IllegalValueException.class, () -> dataFromFile.toModelType(new AddressBook()));
+    }
+
 
     @Test
     public void toModelType_invalidListingFile_throwsIllegalValueException() throws Exception {
         JsonSerializableListings dataFromFile = JsonUtil.readJsonFile(INVALID_LISTINGS_FILE,
                 JsonSerializableListings.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, () -> dataFromFile.toModelType(getTypicalAddressBook()));
     }
 
     @Test
@@ -45,6 +69,6 @@ public class JsonSerializableListingsTest {
 
         // Ensure the test correctly throws IllegalValueException due to duplicate listings in the data
         assertThrows(IllegalValueException.class, JsonSerializableListings.MESSAGE_DUPLICATE_LISTING,
-                dataFromFile::toModelType);
+                () -> dataFromFile.toModelType(getTypicalAddressBook()));
     }
 }
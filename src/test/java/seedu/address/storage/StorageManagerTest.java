@@ -1,9 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalListings.SIMEI;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +19,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.UserPrefs;
 
 public class StorageManagerTest {
@@ -61,6 +70,72 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void listingsReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonListingsStorage} class.
+         * More extensive testing of Listings saving/reading is done in {@link JsonListingsStorageTest} class.
+         */
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings original = getTypicalListings();
+        storageManager.saveListings(original);
+        ReadOnlyListings retrieved = storageManager.readListings(addressBook).get();
+        assertEquals(original, new Listings(retrieved));
+        assertSame(addressBook.getPersonList().get(0), retrieved.getListingList().get(0).getSeller());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_fileNotWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(getTempFilePath("ab"));
+
+        // Copies of an unchanged address book are not written either
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(new AddressBook(addressBook));
+        assertFalse(Files.exists(getTempFilePath("ab")));
+
+        addressBook.addPerson(HOON);
+        storageManager.saveAddressBook(addressBook);
+        assertTrue(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void saveAddressBook_addressBookReadFromFile_fileNotWritten() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        Files.delete(getTempFilePath("ab"));
+
+        storageManager.saveAddressBook(retrieved);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void saveAddressBook_writtenToOtherFile_fileWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(new AddressBook(), getTempFilePath("ab"));
+
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveListings_unchangedListings_fileNotWritten() throws Exception {
+        Listings listings = getTypicalListings();
+        storageManager.saveListings(listings);
+        Files.delete(getTempFilePath("listings"));
+
+        storageManager.saveListings(listings);
+        storageManager.saveListings(new Listings(listings));
+        assertFalse(Files.exists(getTempFilePath("listings")));
+
+        listings.addListing(SIMEI);
+        storageManager.saveListings(listings);
+        assertTrue(Files.exists(getTempFilePath("listings")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private RecordingStorage storage;
+    private WriteBehindSaver saver;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new RecordingStorage(testFolder);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        storage.failure = null;
+        if (saver != null) {
+            saver.shutdown();
+        }
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null, 0, 0));
+    }
+
+    @Test
+    public void submit_nullData_throwsNullPointerException() {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        assertThrows(NullPointerException.class, () -> saver.submit(null, new Listings()));
+        assertThrows(NullPointerException.class, () -> saver.submit(new AddressBook(), null));
+    }
+
+    @Test
+    public void flush_submittedSnapshot_savedToStorage() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+        saver.submit(addressBook, listings);
+        saver.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(listings, new Listings(storage.readListings(addressBook).get()));
+    }
+
+    @Test
+    public void flush_severalSnapshots_onlyLatestSaved() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook latest = getTypicalAddressBook();
+        saver.submit(new AddressBook(), new Listings());
+        saver.submit(new AddressBook(), new Listings());
+        saver.submit(latest, new Listings());
+        saver.flush();
+
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(latest, new AddressBook(storage.savedAddressBooks.get(0)));
+    }
+
+    @Test
+    public void submit_unchangedData_notSavedAgain() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+        saver.submit(addressBook, listings);
+        saver.flush();
+        saver.submit(addressBook, listings);
+        saver.flush();
+
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void submit_dataModifiedAfterSubmit_snapshotSaved() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        saver.submit(addressBook, new Listings());
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        saver.flush();
+
+        assertEquals(expected, new AddressBook(storage.savedAddressBooks.get(0)));
+    }
+
+    @Test
+    public void flush_nothingSubmitted_nothingSaved() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        saver.flush();
+        assertTrue(storage.savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void submit_maxStalenessReached_savedWithoutFlush() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.submit(addressBook, new Listings());
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (storage.savedAddressBooks.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.savedAddressBooks.get(0)));
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsIoException() {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        storage.failure = new IOException("dummy IO exception");
+        saver.submit(new AddressBook(), new Listings());
+        assertThrows(IOException.class, "dummy IO exception", saver::flush);
+    }
+
+    @Test
+    public void flush_previousSaveFailed_retriesSnapshot() throws Exception {
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.failure = new IOException("dummy IO exception");
+        saver.submit(addressBook, new Listings());
+        assertThrows(IOException.class, saver::flush);
+
+        storage.failure = null;
+        saver.flush();
+        ReadOnlyAddressBook lastSaved = storage.savedAddressBooks.get(storage.savedAddressBooks.size() - 1);
+        assertEquals(addressBook, new AddressBook(lastSaved));
+    }
+
+    @Test
+    public void takeFailure_backgroundSaveFailed_returnsFailureOnce() throws Exception {
+        saver = new WriteBehindSaver(storage, 0, 0);
+        IOException failure = new IOException("dummy IO exception");
+        storage.failure = failure;
+        saver.submit(new AddressBook(), new Listings());
+
+        // The scheduled save runs before the save requested by the flush
+        assertThrows(IOException.class, saver::flush);
+        assertSame(failure, saver.takeFailure());
+        assertNull(saver.takeFailure());
+    }
+
+    /**
+     * A {@code StorageManager} that records the address books it saves, and can be made to fail.
+     */
+    private static class RecordingStorage extends StorageManager {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new CopyOnWriteArrayList<>();
+        private volatile IOException failure;
+
+        RecordingStorage(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("addressBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")),
+                    new JsonListingsStorage(folder.resolve("listings.json")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            savedAddressBooks.add(addressBook);
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveAddressBook(addressBook);
+        }
+    }
+}
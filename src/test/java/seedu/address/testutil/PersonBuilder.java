@@ -1,6 +1,9 @@
 package seedu.address.testutil;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
@@ -31,8 +34,9 @@ public class PersonBuilder {
     private Name name;
     private Phone phone;
     private Email email;
-    private Appointment appointment;
+    private List<Appointment> appointments;
     private Set<Tag> tags;
+    private String remark;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -41,9 +45,10 @@ public class PersonBuilder {
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
-        appointment = new Appointment(new Date(DEFAULT_DATE), new From(DEFAULT_FROM),
-                                        new To(DEFAULT_TO));
+        appointments = List.of(new Appointment(new Date(DEFAULT_DATE), new From(DEFAULT_FROM),
+                                        new To(DEFAULT_TO)));
         tags = new HashSet<>();
+        remark = Person.DEFAULT_REMARK;
     }
 
     /**
@@ -53,8 +58,9 @@ public class PersonBuilder {
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
-        appointment = personToCopy.getAppointment();
+        appointments = new ArrayList<>(personToCopy.getAppointments());
         tags = new HashSet<>(personToCopy.getTags());
+        remark = personToCopy.getRemark();
     }
 
     /**
@@ -90,10 +96,26 @@ public class PersonBuilder {
     }
 
     /**
-    * Sets the {@code Appointment} of the {@code Person} that we are building.
+    * Sets the {@code Appointment} of the {@code Person} that we are building as its only appointment.
     */
     public PersonBuilder withAppointment(String date, String from, String to) {
-        this.appointment = new Appointment(new Date(date), new From(from), new To(to));
+        this.appointments = List.of(new Appointment(new Date(date), new From(from), new To(to)));
+        return this;
+    }
+
+    /**
+     * Sets the {@code Appointment}s of the {@code Person} that we are building.
+     */
+    public PersonBuilder withAppointments(Appointment ... appointments) {
+        this.appointments = Arrays.asList(appointments);
+        return this;
+    }
+
+    /**
+     * Sets the remark of the {@code Person} that we are building.
+     */
+    public PersonBuilder withRemark(String remark) {
+        this.remark = remark;
         return this;
     }
 
@@ -101,13 +123,13 @@ public class PersonBuilder {
      * Creates a {@code Buyer} instance.
      */
     public Buyer buildBuyer() {
-        return new Buyer(name, phone, email, tags, appointment);
+        return new Buyer(name, phone, email, tags, appointments, remark);
     }
 
     /**
      * Creates a {@code Seller} instance.
      */
     public Seller buildSeller() {
-        return new Seller(name, phone, email, tags, appointment);
+        return new Seller(name, phone, email, tags, appointments, remark);
     }
 }
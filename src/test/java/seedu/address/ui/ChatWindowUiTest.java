@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,17 +20,20 @@ import org.testfx.framework.junit5.ApplicationTest;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import seedu.address.logic.chat.ChatMessage;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class ChatWindowUiTest extends ApplicationTest {
     private ChatWindow chatWindow;
     private TextField userInput;
-    private TextArea chatArea;
+    private ListView<ChatMessage> chatList;
+    private Label typingIndicator;
 
     @Override
     public void start(Stage stage) throws Exception {
@@ -39,7 +44,8 @@ public class ChatWindowUiTest extends ApplicationTest {
         stage.show();
 
         userInput = lookup("#userInput").query();
-        chatArea = lookup("#chatArea").query();
+        chatList = lookup("#chatList").query();
+        typingIndicator = lookup("#typingIndicator").query();
     }
 
     @BeforeEach
@@ -226,18 +232,18 @@ public class ChatWindowUiTest extends ApplicationTest {
         robot.write("hello");
         robot.type(KeyCode.ENTER);
 
-        String expectedUserMessage = "You: hello\n";
-        assertEquals(expectedUserMessage, chatArea.getText().substring(0, expectedUserMessage.length()));
-
+        String expectedUserMessage = "You: hello";
         interact(() -> {
-            String typingMessage = "Assistant is typing";
-            assertEquals(expectedUserMessage + typingMessage, chatArea.getText());
+            assertEquals(expectedUserMessage, transcriptText());
+            assertTrue(typingIndicator.isVisible());
+            assertTrue(typingIndicator.getText().startsWith("Assistant is typing"));
         });
 
         waitFor(Duration.seconds(1));
         interact(() -> {
-            String finalResponse = "Assistant: Hi there! How can I assist you today?\n";
-            assertEquals(expectedUserMessage + finalResponse, chatArea.getText());
+            String finalResponse = "Assistant: Hi there! How can I assist you today?";
+            assertEquals(expectedUserMessage + "\n" + finalResponse, transcriptText());
+            assertFalse(typingIndicator.isVisible());
         });
     }
 
@@ -253,7 +259,7 @@ public class ChatWindowUiTest extends ApplicationTest {
                 + "Assistant: I'm sorry, I didn't understand that. Can you please \n"
                 + "rephrase?";
         waitFor(Duration.seconds(1));
-        assertEquals(expected, chatArea.getText().trim());
+        assertEquals(expected, transcriptText());
     }
 
     @Test
@@ -406,12 +412,20 @@ public class ChatWindowUiTest extends ApplicationTest {
         waitFor(Duration.seconds(1));
         String expectedGoodbyeResponse = "You: goodbye\n"
                 + "Assistant: Goodbye! Have a great day!";
-        assertEquals(expectedGoodbyeResponse, chatArea.getText().trim());
+        assertEquals(expectedGoodbyeResponse, transcriptText());
         assertTrue(isChatWindowClosed(), "The application did not exit as expected.");
     }
     private boolean isChatWindowClosed() {
         return FxToolkit.isFXApplicationThreadRunning();
     }
+
+    /**
+     * Returns the messages in the chat list as shown, one per line.
+     */
+    private String transcriptText() {
+        return chatList.getItems().stream().map(ChatMessage::getDisplayText).collect(Collectors.joining("\n"));
+    }
+
     private void waitFor(Duration duration) {
         try {
             Thread.sleep((long) duration.toMillis());
@@ -75,7 +75,7 @@ public class ListingCardUiTest extends ApplicationTest {
     @Test
     void listingCard_displayCorrectDetails() {
         // Assert that the listing object is not null
-        assertNotNull(listingCard.listing);
+        assertNotNull(listingCard.getListing());
 
         // Check if the displayed name, price, area, region, address, and seller labels are correct
         assertEquals("1. ", listingCard.getId().getText());
@@ -104,7 +104,7 @@ public class ListingCardUiTest extends ApplicationTest {
         ListingCard listingCard = new ListingCard(createSampleTruncatedListing(), 1);
 
         // Assert that the listing object is not null
-        assertNotNull(listingCard.listing);
+        assertNotNull(listingCard.getListing());
 
         // Check if the displayed name, price, area, region, address, and seller labels are correct
         // after truncation
@@ -139,6 +139,22 @@ public class ListingCardUiTest extends ApplicationTest {
         assertEquals("10. ", listingCardIndex10.getId().getText());
     }
 
+    @Test
+    void setListing_cardReused_displaysNewListing() {
+        ListingCard listingCard = new ListingCard(sampleListing, 1);
+        Listing truncatedListing = createSampleTruncatedListing();
+
+        // The buyers of the listing displayed before are replaced, not added to
+        listingCard.setListing(truncatedListing, 3);
+        assertEquals(truncatedListing, listingCard.getListing());
+        assertEquals("3. ", listingCard.getId().getText());
+        assertEquals(1, listingCard.getBuyers().getChildren().size());
+
+        listingCard.setListing(sampleListing, 1);
+        assertEquals("1. ", listingCard.getId().getText());
+        assertEquals(2, listingCard.getBuyers().getChildren().size());
+    }
+
     /**
      * Helper method to create a sample Listing object for testing.
      */
@@ -67,7 +67,7 @@ public class PersonCardUiTest extends ApplicationTest {
     @Test
     void personCard_displayCorrectDetails() {
         // Assert that the person object is not null
-        assertNotNull(personCard.person);
+        assertNotNull(personCard.getPerson());
 
         // Check if the displayed ID, name, phone, email, and other labels are correct
         assertEquals("1. ", personCard.getId().getText());
@@ -92,7 +92,7 @@ public class PersonCardUiTest extends ApplicationTest {
         PersonCard personCard = new PersonCard(createSampleTruncatedBuyer(), 1);
 
         // Assert that the person object is not null
-        assertNotNull(personCard.person);
+        assertNotNull(personCard.getPerson());
 
         // Check if the displayed ID, name, phone, email, and other labels are correct (with truncation)
         assertEquals("1. ", personCard.getId().getText());
@@ -140,6 +140,23 @@ public class PersonCardUiTest extends ApplicationTest {
         assertEquals("10. ", personCardIndex10.getId().getText());
     }
 
+    @Test
+    void setPerson_cardReused_displaysNewPerson() {
+        PersonCard personCard = new PersonCard(sampleBuyer, 1);
+
+        personCard.setPerson(sampleSeller, 2);
+        assertEquals(sampleSeller, personCard.getPerson());
+        assertEquals("2. ", personCard.getId().getText());
+        assertEquals("John Seller", personCard.getName().getText());
+        assertEquals("Date: 01-02-23 (From: 11:00 To: 12:00)", personCard.getAppointment().getText());
+        assertEquals(1, personCard.getTags().getChildren().size());
+
+        // The tags of the person displayed before are replaced, not added to
+        personCard.setPerson(sampleBuyer, 1);
+        assertEquals("John Buyer", personCard.getName().getText());
+        assertEquals(2, personCard.getTags().getChildren().size());
+    }
+
 
     /**
      * Helper method to create a sample Buyer object for testing.